@@ -0,0 +1,74 @@
+package seedu.eatme.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.eatme.commons.exceptions.DataConversionException;
+import seedu.eatme.model.EateryList;
+import seedu.eatme.model.ReadOnlyEateryList;
+import seedu.eatme.storage.BinaryEateryListStorage;
+import seedu.eatme.storage.EateryListStorage;
+import seedu.eatme.storage.JsonEateryListStorage;
+
+/**
+ * Benchmarks reading and writing {@code size} eateries with ten reviews each, in the json format of
+ * {@code JsonEateryListStorage} and, for comparison, the format of {@code BinaryEateryListStorage}.
+ */
+@State(Scope.Benchmark)
+public class EateryListStorageBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Param({"json", "binary"})
+    public String format;
+
+    private Path folder;
+    private EateryListStorage storage;
+    private EateryList eateryList;
+
+    /**
+     * Creates the storage in a temporary folder, and saves the eateries once so that there is data to read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("eatme-benchmark");
+        Path filePath = folder.resolve("eaterylist.json");
+        storage = format.equals("binary")
+                ? new BinaryEateryListStorage(filePath)
+                : new JsonEateryListStorage(filePath);
+        eateryList = SyntheticDataUtil.getSyntheticEateryList(size, 10);
+        storage.saveEateryList(eateryList);
+    }
+
+    /**
+     * Deletes the temporary folder.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyEateryList read() throws DataConversionException, IOException {
+        return storage.readEateryList().get();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        storage.saveEateryList(eateryList);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.eatme.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.EateryAttributesContainsKeywordsPredicate;
+
+/**
+ * Benchmarks testing every eatery of a list against an {@code EateryAttributesContainsKeywordsPredicate}.
+ */
+@State(Scope.Benchmark)
+public class EateryPredicateBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private Eatery[] eateries;
+    private EateryAttributesContainsKeywordsPredicate namePredicate;
+    private EateryAttributesContainsKeywordsPredicate allAttributesPredicate;
+
+    /**
+     * Generates {@code size} eateries and the predicates to test them with.
+     */
+    @Setup
+    public void setUp() {
+        eateries = SyntheticDataUtil.getSyntheticEateries(size, 0);
+        namePredicate = new EateryAttributesContainsKeywordsPredicate(List.of("laksa", "kopi"));
+        allAttributesPredicate = new EateryAttributesContainsKeywordsPredicate(List.of("chicken"),
+                List.of("road"), List.of("Chinese"), Collections.singletonList("cheap"));
+    }
+
+    @Benchmark
+    public int testName() {
+        return countMatches(namePredicate);
+    }
+
+    @Benchmark
+    public int testAllAttributes() {
+        return countMatches(allAttributesPredicate);
+    }
+
+    private int countMatches(EateryAttributesContainsKeywordsPredicate predicate) {
+        int matches = 0;
+        for (Eatery eatery : eateries) {
+            if (predicate.test(eatery)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
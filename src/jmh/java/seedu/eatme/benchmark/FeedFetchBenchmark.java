@@ -0,0 +1,135 @@
+package seedu.eatme.benchmark;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.eatme.model.feed.Feed;
+import seedu.eatme.model.feed.FeedPostArchive;
+import seedu.eatme.model.feed.FeedRefreshScheduler;
+import seedu.eatme.testutil.StubFeedServer;
+
+/**
+ * Benchmarks fetching {@code feeds} feeds from a local {@code StubFeedServer}, the way the
+ * {@code FeedRefreshScheduler} does: all of them at once, a few at a time, when the app starts, and one at a time
+ * from several threads as they are refreshed later.
+ *
+ * The {@code scenario} sets how the server behaves:
+ * {@code healthy} answers at once, with half of the conditional fetches answered with 304;
+ * {@code slow} takes 50 ms to answer;
+ * {@code flaky} takes 10 ms to answer and fails a fifth of the requests;
+ * {@code huge} sends a tenth of the feeds padded past the size limit of {@code FeedHttpClient}.
+ *
+ * Run it in throughput and sample time modes, with the gc profiler, to see throughput, tail latencies and
+ * allocation: {@code gradlew jmh -PjmhIncludes=FeedFetchBenchmark -PjmhModes=thrpt,sample -PjmhProfilers=gc}.
+ */
+@State(Scope.Benchmark)
+public class FeedFetchBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final int HUGE_BODY_BYTES = 8 * 1024 * 1024;
+
+    @Param({"10", "100"})
+    public int feeds;
+
+    @Param({"healthy", "slow", "flaky", "huge"})
+    public String scenario;
+
+    private StubFeedServer server;
+    private ExecutorService executor;
+    private List<Feed> feedList;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Starts a server of {@code feeds} feeds that behaves as set by {@code scenario}, and fetches every feed once
+     * so that later fetches are conditional.
+     */
+    @Setup
+    public void setUp() throws IOException, InterruptedException, ExecutionException {
+        server = new StubFeedServer(feeds).withSeed(feeds);
+        switch (scenario) {
+        case "healthy":
+            server.withNotModifiedRate(0.5);
+            break;
+        case "slow":
+            server.withLatency(Duration.ofMillis(50));
+            break;
+        case "flaky":
+            server.withLatency(Duration.ofMillis(10)).withFailureRate(0.2);
+            break;
+        case "huge":
+            server.withHugeBodies(0.1, HUGE_BODY_BYTES);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+        server.start();
+        executor = Executors.newFixedThreadPool(FeedRefreshScheduler.DEFAULT_MAX_CONCURRENT_FETCHES);
+        feedList = server.getFeeds();
+        for (Future<FeedPostArchive.Delta> delta : refreshAll()) {
+            delta.get();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        server.close();
+    }
+
+    /**
+     * Refreshes all the feeds at once, a few at a time, and waits until every feed is refreshed.
+     */
+    @Benchmark
+    public void fetchAll(Blackhole blackhole) throws InterruptedException, ExecutionException {
+        for (Future<FeedPostArchive.Delta> delta : refreshAll()) {
+            blackhole.consume(delta.get());
+        }
+    }
+
+    /**
+     * Refreshes the next feed, from four threads at a time.
+     */
+    @Benchmark
+    @Threads(4)
+    public FeedPostArchive.Delta refreshOne() {
+        return refresh(feedList.get(Math.floorMod(next.getAndIncrement(), feedList.size())));
+    }
+
+    /**
+     * Refreshes all the feeds on the executor, and returns their deltas once every feed is refreshed.
+     */
+    private List<Future<FeedPostArchive.Delta>> refreshAll() throws InterruptedException {
+        List<Callable<FeedPostArchive.Delta>> refreshes = feedList.stream()
+                .<Callable<FeedPostArchive.Delta>>map(feed -> () -> refresh(feed))
+                .collect(Collectors.toList());
+        return executor.invokeAll(refreshes);
+    }
+
+    /**
+     * Refreshes {@code feed}, returning null if it fails, as a failed refresh is still a measured one.
+     */
+    private static FeedPostArchive.Delta refresh(Feed feed) {
+        try {
+            return feed.refreshPosts(TIMEOUT, TIMEOUT);
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.eatme.benchmark;
+
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_TAG;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.eatme.logic.commands.AddCommand;
+import seedu.eatme.logic.commands.Command;
+import seedu.eatme.logic.commands.FindCommand;
+import seedu.eatme.logic.parser.ArgumentMultimap;
+import seedu.eatme.logic.parser.ArgumentTokenizer;
+import seedu.eatme.logic.parser.EatMeParser;
+import seedu.eatme.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks tokenizing and parsing user input, with {@code size} tags or keywords in each command.
+ */
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    @Param({"1", "8", "64"})
+    public int size;
+
+    private final EatMeParser parser = new EatMeParser();
+    private String addArguments;
+    private String addCommand;
+    private String findCommand;
+
+    /**
+     * Builds an add command with {@code size} tags, and a find command with {@code size} name keywords.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder arguments = new StringBuilder()
+                .append(" ").append(PREFIX_NAME).append("Seng Hiang Food Stall")
+                .append(" ").append(PREFIX_ADDRESS).append("85 Bedok North Street 4, Singapore 460085")
+                .append(" ").append(PREFIX_CATEGORY).append("Chinese");
+        StringBuilder find = new StringBuilder(FindCommand.COMMAND_WORD);
+        for (int i = 0; i < size; i++) {
+            String word = SyntheticDataUtil.TAGS[i % SyntheticDataUtil.TAGS.length];
+            arguments.append(" ").append(PREFIX_TAG).append(word);
+            find.append(" ").append(PREFIX_NAME).append(word);
+        }
+        addArguments = arguments.toString();
+        addCommand = AddCommand.COMMAND_WORD + addArguments;
+        findCommand = find.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(addArguments, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_CATEGORY, PREFIX_TAG);
+    }
+
+    @Benchmark
+    public Command parseAddCommand() throws ParseException {
+        return parser.parseCommand(addCommand, true);
+    }
+
+    @Benchmark
+    public Command parseFindCommand() throws ParseException {
+        return parser.parseCommand(findCommand, true);
+    }
+}
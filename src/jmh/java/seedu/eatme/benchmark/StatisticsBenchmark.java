@@ -0,0 +1,55 @@
+package seedu.eatme.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.statistics.Statistics;
+import seedu.eatme.model.statistics.StatisticsTracker;
+import seedu.eatme.model.statistics.exceptions.CannotGenerateStatisticsException;
+import seedu.eatme.model.statistics.exceptions.NoAvailableDataException;
+
+/**
+ * Benchmarks building {@code Statistics} over {@code size} eateries with ten reviews each.
+ */
+@State(Scope.Benchmark)
+public class StatisticsBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private Eatery[] eateries;
+    private StatisticsTracker tracker;
+
+    /**
+     * Generates the eateries, and a tracker that is kept over them.
+     */
+    @Setup
+    public void setUp() {
+        eateries = SyntheticDataUtil.getSyntheticEateries(size, 10);
+        tracker = new StatisticsTracker(FXCollections.observableArrayList(eateries));
+    }
+
+    /**
+     * Builds statistics from a tracker that is already up to date, as the stats command does.
+     */
+    @Benchmark
+    public Statistics statistics() throws NoAvailableDataException, CannotGenerateStatisticsException {
+        return new Statistics(tracker);
+    }
+
+    /**
+     * Builds a tracker from scratch, as when the eatery list is loaded, and statistics from it.
+     * Each tracker listens to a list of its own, so that listeners do not pile up on one list.
+     */
+    @Benchmark
+    public Statistics trackerAndStatistics() throws NoAvailableDataException, CannotGenerateStatisticsException {
+        ObservableList<Eatery> eateryList = FXCollections.observableArrayList(eateries);
+        return new Statistics(new StatisticsTracker(eateryList));
+    }
+}
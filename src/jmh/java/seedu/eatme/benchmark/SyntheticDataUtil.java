@@ -0,0 +1,90 @@
+package seedu.eatme.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import seedu.eatme.model.EateryList;
+import seedu.eatme.model.eatery.Address;
+import seedu.eatme.model.eatery.Category;
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.Name;
+import seedu.eatme.model.eatery.Review;
+import seedu.eatme.model.util.SampleDataUtil;
+
+/**
+ * Generates sample data of any size for benchmarks.
+ * The data only depends on the requested size, so every run of a benchmark sees the same eateries.
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+
+    public static final String[] CATEGORIES = {
+        "Chinese", "Malay", "Indian", "Peranakan", "Western", "Japanese", "Korean", "Thai"
+    };
+    public static final String[] TAGS = {
+        "nice", "delicious", "supper", "hawker", "cheap", "dessert", "halal", "spicy", "healthy", "brunch",
+        "noodles", "rice", "seafood", "vegetarian", "coffee", "family", "date", "queue", "aircon", "late"
+    };
+    public static final String[] WORDS = {
+        "Ah", "Seng", "Hiang", "Fei", "Wanton", "Mee", "Swee", "Choon", "Laksa", "Briyani", "Soya", "Bean",
+        "Chicken", "Rice", "Kopi", "Roti", "Prata", "Satay", "Bak", "Kut", "Teh", "Carrot", "Cake", "Chendol"
+    };
+
+    private static final long SEED = 2103;
+    private static final long FIRST_REVIEW_DATE = 1546300800000L; // 1 Jan 2019
+    private static final long REVIEW_DATE_RANGE = 365L * 24 * 60 * 60 * 1000;
+
+    /**
+     * Returns {@code size} eateries with distinct names, each with {@code reviewsPerEatery} reviews.
+     */
+    public static Eatery[] getSyntheticEateries(int size, int reviewsPerEatery) {
+        Random random = new Random(SEED);
+        Eatery[] eateries = new Eatery[size];
+        for (int i = 0; i < size; i++) {
+            Name name = new Name(pick(random, WORDS) + " " + pick(random, WORDS) + " " + i);
+            Address address = new Address(i + " " + pick(random, WORDS) + " Road, Singapore " + (100000 + i));
+            Category category = Category.create(pick(random, CATEGORIES));
+            String[] tags = new String[random.nextInt(4)];
+            for (int j = 0; j < tags.length; j++) {
+                tags[j] = pick(random, TAGS);
+            }
+
+            Eatery eatery = new Eatery(name, true, address, category, getTagSet(tags));
+            List<Review> reviews = new ArrayList<>(reviewsPerEatery);
+            for (int j = 0; j < reviewsPerEatery; j++) {
+                reviews.add(new Review(pick(random, WORDS) + " " + pick(random, WORDS) + " was good",
+                        random.nextInt(500) / 10.0,
+                        random.nextInt(6),
+                        new Date(FIRST_REVIEW_DATE + (long) (random.nextDouble() * REVIEW_DATE_RANGE))));
+            }
+            eatery.setReviews(reviews);
+            eateries[i] = eatery;
+        }
+        return eateries;
+    }
+
+    /**
+     * Returns an eatery list of {@code size} eateries, each with {@code reviewsPerEatery} reviews.
+     * Every tenth eatery is put in the todo list instead.
+     */
+    public static EateryList getSyntheticEateryList(int size, int reviewsPerEatery) {
+        EateryList eateryList = new EateryList();
+        Eatery[] eateries = getSyntheticEateries(size, reviewsPerEatery);
+        for (int i = 0; i < size; i++) {
+            if (i % 10 != 0) {
+                eateryList.addEatery(eateries[i]);
+            }
+        }
+        eateryList.toggle();
+        for (int i = 0; i < size; i += 10) {
+            eateryList.addEatery(eateries[i]);
+        }
+        eateryList.toggle();
+        return eateryList;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
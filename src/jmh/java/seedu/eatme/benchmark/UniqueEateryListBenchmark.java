@@ -0,0 +1,64 @@
+package seedu.eatme.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.UniqueEateryList;
+
+/**
+ * Benchmarks adding eateries to, and looking them up in, a {@code UniqueEateryList}.
+ */
+@State(Scope.Benchmark)
+public class UniqueEateryListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private Eatery[] eateries;
+    private UniqueEateryList eateryList;
+    private Eatery present;
+    private Eatery absent;
+
+    /**
+     * Fills a list with {@code size} eateries, and picks an equal copy of one of them and an eatery not in it.
+     */
+    @Setup
+    public void setUp() {
+        eateries = SyntheticDataUtil.getSyntheticEateries(size + 1, 0);
+        eateryList = new UniqueEateryList();
+        for (int i = 0; i < size; i++) {
+            eateryList.add(eateries[i]);
+        }
+
+        Eatery middle = eateries[size / 2];
+        present = new Eatery(middle.getName(), middle.getIsOpen(), middle.getAddress(), middle.getCategory(),
+                middle.getTags());
+        absent = eateries[size];
+    }
+
+    /**
+     * Adds all {@code size} eateries to an empty list.
+     */
+    @Benchmark
+    public UniqueEateryList add() {
+        UniqueEateryList newEateryList = new UniqueEateryList();
+        for (int i = 0; i < size; i++) {
+            newEateryList.add(eateries[i]);
+        }
+        return newEateryList;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return eateryList.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return eateryList.contains(absent);
+    }
+}
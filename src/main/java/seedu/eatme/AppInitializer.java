@@ -0,0 +1,322 @@
+package seedu.eatme;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import seedu.eatme.commons.core.Config;
+import seedu.eatme.commons.core.LogsCenter;
+import seedu.eatme.commons.exceptions.DataConversionException;
+import seedu.eatme.commons.util.ConfigUtil;
+import seedu.eatme.commons.util.StringUtil;
+import seedu.eatme.logic.Logic;
+import seedu.eatme.logic.LogicManager;
+import seedu.eatme.model.EateryList;
+import seedu.eatme.model.FeedList;
+import seedu.eatme.model.Model;
+import seedu.eatme.model.ModelManager;
+import seedu.eatme.model.ReadOnlyEateryList;
+import seedu.eatme.model.ReadOnlyFeedList;
+import seedu.eatme.model.ReadOnlyUserPrefs;
+import seedu.eatme.model.UserPrefs;
+import seedu.eatme.model.feed.Feed;
+import seedu.eatme.model.feed.FeedPostArchive;
+import seedu.eatme.model.feed.FeedRefreshScheduler;
+import seedu.eatme.model.util.SampleDataUtil;
+import seedu.eatme.storage.BinaryEateryListStorage;
+import seedu.eatme.storage.EateryListStorage;
+import seedu.eatme.storage.FeedListStorage;
+import seedu.eatme.storage.JournaledEateryListStorage;
+import seedu.eatme.storage.JsonEateryListStorage;
+import seedu.eatme.storage.JsonFeedListStorage;
+import seedu.eatme.storage.JsonUserPrefsStorage;
+import seedu.eatme.storage.SaveScheduler;
+import seedu.eatme.storage.Storage;
+import seedu.eatme.storage.StorageManager;
+import seedu.eatme.storage.UserPrefsStorage;
+
+/**
+ * Wires up the config, storage, model and logic of the application, without any UI.
+ * Used both by the GUI in {@code MainApp} and by the command line in {@code HeadlessApp}.
+ */
+public class AppInitializer {
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    private final Optional<Recording> recording;
+    private Optional<FeedRefreshScheduler> feedRefreshScheduler = Optional.empty();
+
+    /**
+     * Initializes the application with the config file at {@code configFilePath}, or the default config file if
+     * {@code configFilePath} is null.
+     */
+    public AppInitializer(Path configFilePath) {
+        this(configFilePath, null);
+    }
+
+    /**
+     * Initializes the application like {@link #AppInitializer(Path)}, and records it with the flight recorder until
+     * it is stopped, writing the recording to {@code recordingFilePath} if it is not null.
+     */
+    public AppInitializer(Path configFilePath, Path recordingFilePath) {
+        recording = Optional.ofNullable(recordingFilePath).flatMap(AppInitializer::initRecording);
+
+        config = initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        EateryListStorage eateryListStorage = initEateryListStorage(userPrefs);
+        FeedListStorage feedListStorage = new JsonFeedListStorage(userPrefs.getFeedListFilePath());
+
+        Optional<SaveScheduler> saveScheduler = userPrefs.isSavedInBackground()
+                ? Optional.of(new SaveScheduler())
+                : Optional.empty();
+        storage = new StorageManager(eateryListStorage, feedListStorage, userPrefsStorage, saveScheduler);
+
+        initLogging(config);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Starts refreshing the posts of the feeds in the background, the first time right away. The posts of each
+     * refreshed feed are handed to {@code modelThread}, which must run them on the thread that uses the model.
+     */
+    public void startFeedRefresh(Executor modelThread) {
+        assert feedRefreshScheduler.isEmpty() : "Feeds are already being refreshed";
+        FeedRefreshScheduler scheduler = new FeedRefreshScheduler((feed, delta) ->
+                modelThread.execute(() -> updateFeedPosts(feed, delta)));
+        model.setFeedRefreshScheduler(scheduler);
+        scheduler.scheduleAll(model.getFeedList().getFeedList());
+        feedRefreshScheduler = Optional.of(scheduler);
+    }
+
+    /**
+     * Updates the feed posts in the model with the posts added to and evicted from the archive of the refreshed
+     * {@code feed}, and saves the feed list later, unless {@code feed} has been removed in the meantime.
+     */
+    private void updateFeedPosts(Feed feed, FeedPostArchive.Delta delta) {
+        if (model.getFeedList().getFeedList().contains(feed)) {
+            model.updateFeedPosts(delta.getAdded(), delta.getRemoved());
+            logic.saveFeedList();
+        }
+    }
+
+    /**
+     * Stops refreshing the feeds, logs the command metrics, saves the user prefs, writes out any data that is still
+     * waiting to be saved, and stops the flight recording, if any.
+     */
+    public void stop() {
+        feedRefreshScheduler.ifPresent(FeedRefreshScheduler::shutdown);
+        logger.info(model.getCommandMetrics().getSummary());
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        recording.ifPresent(AppInitializer::stopRecording);
+    }
+
+    /**
+     * Stops {@code recording}, which writes it to its destination.
+     */
+    private static void stopRecording(Recording recording) {
+        try {
+            recording.stop();
+            logger.info("Flight recording written to " + recording.getDestination());
+        } catch (IllegalStateException e) {
+            logger.warning("Failed to write flight recording : " + StringUtil.getDetails(e));
+        } finally {
+            recording.close();
+        }
+    }
+
+    /**
+     * Returns a flight recording with the default settings that has been started, and that is written to
+     * {@code recordingFilePath} when it is closed, or when the JVM exits. <br>
+     * Nothing is recorded if the recording cannot be started.
+     */
+    private static Optional<Recording> initRecording(Path recordingFilePath) {
+        Recording recording = null;
+        try {
+            recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("EatMe");
+            recording.setDestination(recordingFilePath);
+            recording.setDumpOnExit(true);
+            recording.start();
+            logger.info("Recording to " + recordingFilePath);
+            return Optional.of(recording);
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            logger.warning("Failed to start flight recording : " + StringUtil.getDetails(e));
+            if (recording != null) {
+                recording.close();
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the eatery list storage in the data format chosen in {@code userPrefs}.
+     * The binary format takes precedence over the journaled json format if both are chosen. Each of them imports
+     * the data of the other if it was saved last, so changing the format keeps every change.
+     */
+    private static EateryListStorage initEateryListStorage(ReadOnlyUserPrefs userPrefs) {
+        Path eateryListFilePath = userPrefs.getEateryListFilePath();
+        if (userPrefs.isEateryListBinary()) {
+            return new BinaryEateryListStorage(eateryListFilePath);
+        }
+        return userPrefs.isEateryListJournaled()
+                ? new JournaledEateryListStorage(eateryListFilePath)
+                : new JsonEateryListStorage(eateryListFilePath);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s eatery list and {@code userPrefs}. <br>
+     * The data from the sample eatery list will be used instead if {@code storage}'s eatery list is not found,
+     * or an empty eatery list will be used instead if errors occur when reading {@code storage}'s eatery list.
+     * An eatery list read from {@code storage} is tracked by it, so that it can save only the changes made to it.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyEateryList> eateryListOptional;
+        ReadOnlyEateryList initialEateryList;
+        Optional<ReadOnlyFeedList> feedListOptional;
+        ReadOnlyFeedList initialFeedList;
+        boolean isEateryListRead = false;
+
+        try {
+            eateryListOptional = storage.readEateryList();
+            if (!eateryListOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample EateryList");
+            }
+            initialEateryList = eateryListOptional.orElseGet(SampleDataUtil::getSampleEateryList);
+
+            feedListOptional = storage.readFeedList();
+            if (!feedListOptional.isPresent()) {
+                logger.info("Feed list file not found. Will be starting with an empty FeedList");
+            }
+            initialFeedList = feedListOptional.orElseGet(SampleDataUtil::getSampleFeedList);
+            isEateryListRead = eateryListOptional.isPresent();
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. "
+                    + "Will be starting with an empty EateryList and FeedList");
+
+            initialEateryList = new EateryList();
+            initialFeedList = new FeedList();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. "
+                    + "Will be starting with an empty EateryList and FeedList");
+
+            initialEateryList = new EateryList();
+            initialFeedList = new FeedList();
+        }
+
+        Model model = new ModelManager(initialEateryList, initialFeedList, userPrefs);
+        if (isEateryListRead) {
+            storage.trackEateryList(model.getEateryList());
+        }
+        return model;
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty EatMe");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -1,14 +1,20 @@
 package seedu.eatme;
 
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_ON_ERROR;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import seedu.eatme.commons.core.LogsCenter;
 import seedu.eatme.commons.util.FileUtil;
+import seedu.eatme.logic.commands.RunCommand;
 
 /**
  * Represents the parsed command-line parameters given to the application.
@@ -17,6 +23,9 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private RunCommand.OnError onError = RunCommand.OnError.STOP;
+    private Path recordingPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +35,59 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run once the application has started, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public RunCommand.OnError getOnError() {
+        return onError;
+    }
+
+    public void setOnError(RunCommand.OnError onError) {
+        this.onError = onError;
+    }
+
+    /**
+     * Returns the path of the file to write a flight recording of the application to, or null if there is none.
+     */
+    public Path getRecordingPath() {
+        return recordingPath;
+    }
+
+    public void setRecordingPath(Path recordingPath) {
+        this.recordingPath = recordingPath;
+    }
+
+    /**
+     * Returns the command that runs the script given by the parameters, if a script is given.
+     */
+    public Optional<String> getRunCommandText() {
+        if (scriptPath == null) {
+            return Optional.empty();
+        }
+        return Optional.of(RunCommand.COMMAND_WORD + " " + PREFIX_FILE + " " + scriptPath + " " + PREFIX_ON_ERROR
+                + " " + onError.name().toLowerCase(Locale.ROOT));
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named command-line parameters, given without their leading {@code --}.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,6 +96,29 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("run");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String onErrorParameter = namedParameters.get("on-error");
+        if (onErrorParameter != null) {
+            try {
+                appParameters.setOnError(RunCommand.OnError.valueOf(onErrorParameter.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException iae) {
+                logger.warning("Invalid on-error value " + onErrorParameter + ". Stopping on the first error.");
+            }
+        }
+
+        String recordingPathParameter = namedParameters.get("jfr");
+        if (recordingPathParameter != null && !FileUtil.isValidPath(recordingPathParameter)) {
+            logger.warning("Invalid recording path " + recordingPathParameter + ". Nothing will be recorded.");
+            recordingPathParameter = null;
+        }
+        appParameters.setRecordingPath(recordingPathParameter != null ? Paths.get(recordingPathParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +133,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath())
+                && getOnError() == otherAppParameters.getOnError()
+                && Objects.equals(getRecordingPath(), otherAppParameters.getRecordingPath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, onError, recordingPath);
     }
 }
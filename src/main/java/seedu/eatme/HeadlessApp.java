@@ -0,0 +1,153 @@
+package seedu.eatme;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.eatme.commons.core.LogsCenter;
+import seedu.eatme.logic.Logic;
+import seedu.eatme.logic.commands.CommandResult;
+import seedu.eatme.logic.commands.exceptions.CommandException;
+import seedu.eatme.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application from the command line, without starting JavaFX, for use from scripts and scheduled jobs.
+ *
+ * Each argument that is not a named parameter is a command, and the commands are run in order. If there are no such
+ * arguments, and no script is given with {@code --run}, commands are read from standard input, one per line.
+ * The feedback of each command is printed to standard output, and the error of each failed command to standard
+ * error. The named parameters, such as {@code --config} and {@code --run}, are the same as those of the GUI.
+ * Feeds are refreshed in the background while the commands run, and the refreshed posts are taken in before each
+ * command.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("--([^=]+)=(.*)", Pattern.DOTALL);
+
+    private final PrintStream out;
+    private final PrintStream err;
+    private final Queue<Runnable> modelTasks = new ConcurrentLinkedQueue<>();
+    private boolean hasFailed;
+    private boolean isExited;
+
+    /**
+     * Creates a headless application that prints feedback to {@code out} and errors to {@code err}.
+     */
+    public HeadlessApp(PrintStream out, PrintStream err) {
+        this.out = requireNonNull(out);
+        this.err = requireNonNull(err);
+    }
+
+    public static void main(String[] args) {
+        System.exit(new HeadlessApp(System.out, System.err).run(Arrays.asList(args), System.in));
+    }
+
+    /**
+     * Runs the commands given in {@code args}, or read from {@code in} if {@code args} gives none, until they run
+     * out or one of them is {@code exit}.
+     *
+     * @return {@code EXIT_SUCCESS} if every command succeeded, or {@code EXIT_FAILURE} otherwise.
+     */
+    public int run(List<String> args, InputStream in) {
+        requireNonNull(args);
+        requireNonNull(in);
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> commands = new ArrayList<>();
+        for (String arg : args) {
+            Matcher matcher = NAMED_PARAMETER.matcher(arg);
+            if (matcher.matches()) {
+                namedParameters.put(matcher.group(1), matcher.group(2));
+            } else if (!arg.equals(HEADLESS_FLAG)) {
+                commands.add(arg);
+            }
+        }
+
+        logger.info("=============================[ Initializing EatMe ]===========================");
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        AppInitializer initializer = new AppInitializer(appParameters.getConfigPath(),
+                appParameters.getRecordingPath());
+        Logic logic = initializer.getLogic();
+        initializer.startFeedRefresh(modelTasks::add);
+        hasFailed = false;
+        isExited = false;
+        try {
+            Optional<String> runCommandText = appParameters.getRunCommandText();
+            runCommandText.ifPresent(commandText -> execute(logic, commandText));
+            if (!commands.isEmpty()) {
+                commands.forEach(commandText -> execute(logic, commandText));
+            } else if (runCommandText.isEmpty()) {
+                executeLines(logic, in);
+            }
+        } finally {
+            logger.info("============================ [ Stopping EatMe ] =============================");
+            runModelTasks();
+            initializer.stop();
+        }
+        return hasFailed ? EXIT_FAILURE : EXIT_SUCCESS;
+    }
+
+    /**
+     * Runs the commands read from {@code in}, one per line, skipping blank lines.
+     */
+    private void executeLines(Logic logic, InputStream in) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try {
+            for (String line = reader.readLine(); line != null && !isExited; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    execute(logic, line);
+                }
+            }
+        } catch (IOException ioe) {
+            err.println("Could not read commands: " + ioe.getMessage());
+            hasFailed = true;
+        }
+    }
+
+    /**
+     * Runs {@code commandText} and prints its feedback, unless an earlier command was {@code exit}.
+     */
+    private void execute(Logic logic, String commandText) {
+        if (isExited) {
+            return;
+        }
+        runModelTasks();
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            out.println(commandResult.getFeedbackToUser());
+            isExited = commandResult.isExit();
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            hasFailed = true;
+        }
+    }
+
+    /**
+     * Runs the tasks handed to the model thread by the background feed refreshes so far, on this thread.
+     */
+    private void runModelTasks() {
+        for (Runnable task = modelTasks.poll(); task != null; task = modelTasks.poll()) {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.eatme.commons.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A flight recorder event for a command that has been parsed, executed and saved, or that failed in one of these
+ * stages. The duration of the event is the whole run of the command.
+ */
+@Name("seedu.eatme.CommandExecuted")
+@Label("Command Executed")
+@Category("EatMe")
+@Description("A command run by the user")
+@StackTrace(false)
+public class CommandExecutedEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    @Label("Parse Duration")
+    @Timespan
+    private long parseNanos;
+
+    @Label("Execute Duration")
+    @Timespan
+    private long executeNanos;
+
+    @Label("Save Duration")
+    @Timespan
+    private long saveNanos;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the command, or -1 if not known")
+    @DataAmount
+    private long allocatedBytes;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+
+    public void setParseNanos(long parseNanos) {
+        this.parseNanos = parseNanos;
+    }
+
+    public void setExecuteNanos(long executeNanos) {
+        this.executeNanos = executeNanos;
+    }
+
+    public void setSaveNanos(long saveNanos) {
+        this.saveNanos = saveNanos;
+    }
+
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+}
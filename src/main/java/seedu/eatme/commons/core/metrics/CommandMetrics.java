@@ -0,0 +1,199 @@
+package seedu.eatme.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Keeps how long each command word takes to be parsed, executed and saved, and how much memory it allocates.
+ *
+ * A command is timed with a {@link Recording}, which is started before the command is parsed and ended after each
+ * stage of the command. Stages that a failed command does not reach are not recorded.
+ */
+public class CommandMetrics {
+
+    /** The word that commands which could not be parsed are recorded under. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    public static final String MESSAGE_NO_METRICS = "No commands have been run yet.";
+    public static final String MESSAGE_HEADER = "Command metrics, in ms (median / 99th percentile / max):";
+    public static final String MESSAGE_COMMAND_METRICS = "%1$s: %2$d runs, %3$d failed";
+    public static final String MESSAGE_STAGE_METRICS = ", %1$s %2$.2f / %3$.2f / %4$.2f";
+    public static final String MESSAGE_ALLOCATION_METRICS = ", %1$d KB allocated per run";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    /**
+     * A stage of running a command.
+     */
+    public enum Stage {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        SAVE("save");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Map<String, WordMetrics> metricsByWord = new LinkedHashMap<>();
+
+    /**
+     * Starts timing a command that is about to be parsed.
+     */
+    public Recording startRecording() {
+        return new Recording();
+    }
+
+    /**
+     * Records the stages that {@code recording} has ended under {@code commandWord}.
+     */
+    public void record(String commandWord, Recording recording, boolean isSuccessful) {
+        requireNonNull(commandWord);
+        requireNonNull(recording);
+        WordMetrics metrics = metricsByWord.computeIfAbsent(commandWord, word -> new WordMetrics());
+        metrics.count++;
+        if (!isSuccessful) {
+            metrics.failures++;
+        }
+        recording.stageNanos.forEach((stage, nanos) -> metrics.latencies.get(stage).record(nanos));
+        long allocatedBytes = recording.getAllocatedBytes();
+        if (allocatedBytes >= 0) {
+            metrics.allocatedBytes += allocatedBytes;
+            metrics.allocationCount++;
+        }
+    }
+
+    /**
+     * Returns the number of times commands with {@code commandWord} have been recorded.
+     */
+    public long getCount(String commandWord) {
+        WordMetrics metrics = metricsByWord.get(commandWord);
+        return metrics == null ? 0 : metrics.count;
+    }
+
+    /**
+     * Returns the latencies of {@code stage} of the commands with {@code commandWord}, if any has been recorded.
+     */
+    public Optional<LatencyHistogram> getLatencies(String commandWord, Stage stage) {
+        return Optional.ofNullable(metricsByWord.get(commandWord)).map(metrics -> metrics.latencies.get(stage));
+    }
+
+    /**
+     * Returns a summary of the metrics of every command word, with the command words that took the longest in
+     * total first.
+     */
+    public String getSummary() {
+        if (metricsByWord.isEmpty()) {
+            return MESSAGE_NO_METRICS;
+        }
+        StringBuilder summary = new StringBuilder(MESSAGE_HEADER);
+        metricsByWord.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, WordMetrics> entry) -> entry.getValue().getTotalNanos()).reversed())
+                .forEach(entry -> summary.append('\n').append(toSummary(entry.getKey(), entry.getValue())));
+        return summary.toString();
+    }
+
+    private static String toSummary(String commandWord, WordMetrics metrics) {
+        StringBuilder summary = new StringBuilder(
+                String.format(MESSAGE_COMMAND_METRICS, commandWord, metrics.count, metrics.failures));
+        metrics.latencies.forEach((stage, latencies) -> {
+            if (latencies.getCount() > 0) {
+                summary.append(String.format(MESSAGE_STAGE_METRICS, stage.label,
+                        latencies.getPercentileNanos(50) / NANOS_PER_MILLI,
+                        latencies.getPercentileNanos(99) / NANOS_PER_MILLI,
+                        latencies.getMaxNanos() / NANOS_PER_MILLI));
+            }
+        });
+        if (metrics.allocationCount > 0) {
+            summary.append(String.format(MESSAGE_ALLOCATION_METRICS,
+                    metrics.allocatedBytes / metrics.allocationCount / BYTES_PER_KILOBYTE));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if the JVM does not count them.
+     */
+    static long getAllocatedBytes() {
+        java.lang.management.ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMxBean instanceof ThreadMXBean)) {
+            return -1;
+        }
+        ThreadMXBean allocationMxBean = (ThreadMXBean) threadMxBean;
+        if (!allocationMxBean.isThreadAllocatedMemorySupported()
+                || !allocationMxBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return allocationMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * The timings of a single command.
+     */
+    public static class Recording {
+        private final Map<Stage, Long> stageNanos = new EnumMap<>(Stage.class);
+        private final long startAllocatedBytes = CommandMetrics.getAllocatedBytes();
+        private long allocatedBytes = -1;
+        private long lapNanos = System.nanoTime();
+
+        /**
+         * Ends {@code stage}, which is timed from the end of the previous stage, or from the start of the recording.
+         */
+        public void endStage(Stage stage) {
+            long now = System.nanoTime();
+            stageNanos.put(stage, now - lapNanos);
+            lapNanos = now;
+            if (startAllocatedBytes >= 0) {
+                allocatedBytes = CommandMetrics.getAllocatedBytes() - startAllocatedBytes;
+            }
+        }
+
+        /**
+         * Returns how long {@code stage} took, or zero if it has not been ended.
+         */
+        public long getStageNanos(Stage stage) {
+            return stageNanos.getOrDefault(stage, 0L);
+        }
+
+        /**
+         * Returns the bytes allocated from the start of the recording to the end of the last stage, or -1 if they
+         * are not known.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    /**
+     * The metrics of the commands with the same command word.
+     */
+    private static class WordMetrics {
+        private final Map<Stage, LatencyHistogram> latencies = new EnumMap<>(Stage.class);
+        private long count;
+        private long failures;
+        private long allocatedBytes;
+        private long allocationCount;
+
+        WordMetrics() {
+            for (Stage stage : Stage.values()) {
+                latencies.put(stage, new LatencyHistogram());
+            }
+        }
+
+        long getTotalNanos() {
+            return latencies.values().stream().mapToLong(LatencyHistogram::getTotalNanos).sum();
+        }
+    }
+}
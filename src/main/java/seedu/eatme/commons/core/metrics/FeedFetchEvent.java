@@ -0,0 +1,48 @@
+package seedu.eatme.commons.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for a fetch of a feed from its remote address.
+ */
+@Name("seedu.eatme.FeedFetch")
+@Label("Feed Fetch")
+@Category("EatMe")
+@Description("A fetch of a feed from its remote address")
+@StackTrace(false)
+public class FeedFetchEvent extends Event {
+
+    public static final String STATUS_MODIFIED = "modified";
+    public static final String STATUS_NOT_MODIFIED = "not modified";
+    public static final String STATUS_FAILED = "failed";
+
+    @Label("Feed Name")
+    private String feedName;
+
+    @Label("Status")
+    @Description("One of \"modified\", \"not modified\" or \"failed\"")
+    private String status;
+
+    @Label("Body Size")
+    @Description("Decompressed bytes of the feed data that were read")
+    @DataAmount
+    private long bytes;
+
+    public void setFeedName(String feedName) {
+        this.feedName = feedName;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
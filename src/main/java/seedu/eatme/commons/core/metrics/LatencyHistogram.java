@@ -0,0 +1,98 @@
+package seedu.eatme.commons.core.metrics;
+
+/**
+ * A histogram of durations in nanoseconds, that takes a fixed amount of memory however many durations it records.
+ *
+ * Durations are counted in buckets whose widths grow with the durations, four buckets to each power of two, so that
+ * a percentile read from the histogram is at most a quarter more than the recorded duration it stands for.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = Long.SIZE * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as zero.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        counts[toBucket(duration)]++;
+        count++;
+        totalNanos += duration;
+        maxNanos = Math.max(maxNanos, duration);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded durations, or zero if none has been recorded.
+     */
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    /**
+     * Returns an upper bound of the {@code percentile}-th percentile of the recorded durations, or zero if none has
+     * been recorded.
+     *
+     * @param percentile a number from 0 to 100.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be from 0 to 100");
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(toUpperBound(bucket), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the bucket that {@code nanos} is counted in.
+     */
+    static int toBucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest duration that is counted in {@code bucket}.
+     */
+    static long toUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
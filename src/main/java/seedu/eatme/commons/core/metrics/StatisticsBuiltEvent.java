@@ -0,0 +1,40 @@
+package seedu.eatme.commons.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for building the statistics shown by the {@code stats} command.
+ */
+@Name("seedu.eatme.StatisticsBuilt")
+@Label("Statistics Built")
+@Category("EatMe")
+@Description("A build of the statistics of the eateries and their reviews")
+@StackTrace(false)
+public class StatisticsBuiltEvent extends Event {
+
+    @Label("Eateries")
+    private int eateryCount;
+
+    @Label("Reviews")
+    private int reviewCount;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    public void setEateryCount(int eateryCount) {
+        this.eateryCount = eateryCount;
+    }
+
+    public void setReviewCount(int reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+}
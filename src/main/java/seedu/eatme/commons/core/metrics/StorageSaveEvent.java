@@ -0,0 +1,50 @@
+package seedu.eatme.commons.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for a write of a store to its file, on whichever thread the write is done.
+ */
+@Name("seedu.eatme.StorageSave")
+@Label("Storage Save")
+@Category("EatMe")
+@Description("A write of the eatery list, feed list or user prefs to its file")
+@StackTrace(false)
+public class StorageSaveEvent extends Event {
+
+    @Label("Store")
+    private String store;
+
+    @Label("File")
+    private String filePath;
+
+    @Label("Size")
+    @Description("Size of the file after the write, or -1 if not known")
+    @DataAmount
+    private long bytes;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+}
@@ -12,6 +12,7 @@ import seedu.eatme.model.ReadOnlyEateryList;
 import seedu.eatme.model.ReadOnlyFeedList;
 import seedu.eatme.model.eatery.Eatery;
 import seedu.eatme.model.eatery.Review;
+import seedu.eatme.model.feed.FeedPost;
 import seedu.eatme.model.statistics.Statistics;
 
 /**
@@ -46,6 +47,12 @@ public interface Logic {
     /** Returns an unmodifiable view of the active reviews */
     ObservableList<Review> getActiveReviews();
 
+    /** Returns an unmodifiable view of the posts of all the feeds */
+    ObservableList<FeedPost> getFeedPostList();
+
+    /** Returns an unmodifiable view of the feed posts that mention the active eatery */
+    ObservableList<FeedPost> getActiveFeedPosts();
+
     boolean isMainMode();
 
     /**
@@ -76,7 +83,7 @@ public interface Logic {
     Path getFeedListFilePath();
 
     /**
-     * Saves the feed list to disk.
+     * Saves the feed list to disk after a short delay, together with any other saves asked for in the meantime.
      */
     void saveFeedList();
 
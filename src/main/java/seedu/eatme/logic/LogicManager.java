@@ -2,11 +2,14 @@ package seedu.eatme.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.eatme.commons.core.GuiSettings;
 import seedu.eatme.commons.core.LogsCenter;
+import seedu.eatme.commons.core.metrics.CommandExecutedEvent;
+import seedu.eatme.commons.core.metrics.CommandMetrics;
 import seedu.eatme.logic.commands.Command;
 import seedu.eatme.logic.commands.CommandResult;
 import seedu.eatme.logic.commands.exceptions.CommandException;
@@ -17,6 +20,7 @@ import seedu.eatme.model.ReadOnlyEateryList;
 import seedu.eatme.model.ReadOnlyFeedList;
 import seedu.eatme.model.eatery.Eatery;
 import seedu.eatme.model.eatery.Review;
+import seedu.eatme.model.feed.FeedPost;
 import seedu.eatme.model.statistics.Statistics;
 import seedu.eatme.storage.Storage;
 
@@ -25,34 +29,111 @@ import seedu.eatme.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    /** How often the command metrics are written to the log, at most. */
+    public static final Duration METRICS_LOG_INTERVAL = Duration.ofMinutes(10);
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final EatMeParser eatMeParser;
+    /** The versions of the eatery list and feed list that were last saved, or read from storage. */
+    private long savedEateryListVersion;
+    private long savedFeedListVersion;
+    private long metricsLoggedNanos = System.nanoTime();
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         eatMeParser = new EatMeParser();
+        savedEateryListVersion = model.getEateryList().getVersion();
+        savedFeedListVersion = model.getFeedList().getVersion();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = eatMeParser.parseCommand(commandText, isMainMode());
-        commandResult = command.execute(model);
-
+        CommandExecutedEvent event = new CommandExecutedEvent();
+        event.begin();
+        CommandMetrics commandMetrics = model.getCommandMetrics();
+        CommandMetrics.Recording recording = commandMetrics.startRecording();
+        String commandWord = CommandMetrics.INVALID_COMMAND_WORD;
+        boolean isSuccessful = false;
         try {
-            storage.saveEateryList(model.getEateryList());
-            storage.saveFeedList(model.getFeedList());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            CommandResult commandResult;
+            Command command = eatMeParser.parseCommand(commandText, isMainMode());
+            recording.endStage(CommandMetrics.Stage.PARSE);
+            commandWord = commandText.trim().split("\\s+", 2)[0];
+            try {
+                commandResult = command.execute(model);
+            } catch (CommandException | RuntimeException e) {
+                model.getChangeHistory().discard();
+                throw e;
+            }
+            model.getChangeHistory().commit(commandText.trim());
+            recording.endStage(CommandMetrics.Stage.EXECUTE);
+
+            try {
+                saveChanges();
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            recording.endStage(CommandMetrics.Stage.SAVE);
+
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            commandMetrics.record(commandWord, recording, isSuccessful);
+            commitEvent(event, commandWord, recording, isSuccessful);
+            logMetricsIfDue(commandMetrics);
+        }
+    }
+
+    /**
+     * Commits {@code event} with the timings of {@code recording}, if the flight recorder is recording it.
+     */
+    private static void commitEvent(CommandExecutedEvent event, String commandWord,
+                                    CommandMetrics.Recording recording, boolean isSuccessful) {
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.setCommandWord(commandWord);
+        event.setSuccessful(isSuccessful);
+        event.setParseNanos(recording.getStageNanos(CommandMetrics.Stage.PARSE));
+        event.setExecuteNanos(recording.getStageNanos(CommandMetrics.Stage.EXECUTE));
+        event.setSaveNanos(recording.getStageNanos(CommandMetrics.Stage.SAVE));
+        event.setAllocatedBytes(recording.getAllocatedBytes());
+        event.commit();
+    }
+
+    /**
+     * Writes the command metrics to the log if they have not been written for {@code METRICS_LOG_INTERVAL}.
+     */
+    private void logMetricsIfDue(CommandMetrics commandMetrics) {
+        long now = System.nanoTime();
+        if (now - metricsLoggedNanos >= METRICS_LOG_INTERVAL.toNanos()) {
+            logger.info(commandMetrics.getSummary());
+            metricsLoggedNanos = now;
+        }
+    }
+
+    /**
+     * Saves the eatery list and feed list, each only if it has changed since it was last saved.
+     */
+    private void saveChanges() throws IOException {
+        ReadOnlyEateryList eateryList = model.getEateryList();
+        long eateryListVersion = eateryList.getVersion();
+        if (eateryListVersion != savedEateryListVersion) {
+            storage.saveEateryList(eateryList);
+            savedEateryListVersion = eateryListVersion;
         }
 
-        return commandResult;
+        ReadOnlyFeedList feedList = model.getFeedList();
+        long feedListVersion = feedList.getVersion();
+        if (feedListVersion != savedFeedListVersion) {
+            storage.saveFeedList(feedList);
+            savedFeedListVersion = feedListVersion;
+        }
     }
 
     @Override
@@ -75,6 +156,16 @@ public class LogicManager implements Logic {
         return model.getActiveReviews();
     }
 
+    @Override
+    public ObservableList<FeedPost> getFeedPostList() {
+        return model.getFeedPostList();
+    }
+
+    @Override
+    public ObservableList<FeedPost> getActiveFeedPosts() {
+        return model.getActiveFeedPosts();
+    }
+
     @Override
     public boolean isMainMode() {
         return model.isMainMode();
@@ -108,7 +199,7 @@ public class LogicManager implements Logic {
     @Override
     public void saveFeedList() {
         try {
-            storage.saveFeedList(model.getFeedList());
+            storage.saveFeedListLater(model.getFeedList());
         } catch (IOException ioe) {
             logger.warning(FILE_OPS_ERROR_MESSAGE + ioe);
         }
@@ -45,8 +45,7 @@ public class AddFeedCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_FEED);
         }
 
-        String feedData = toAdd.fetchFeedData();
-        if (feedData == null) {
+        if (toAdd.fetchPosts().isEmpty()) {
             throw new CommandException(MESSAGE_INVALID_FEED);
         }
 
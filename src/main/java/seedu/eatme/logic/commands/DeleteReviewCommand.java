@@ -43,7 +43,7 @@ public class DeleteReviewCommand extends Command {
         }
 
         lastShownList.remove(targetIndex.getZeroBased());
-        activeEatery.setReviews(lastShownList);
+        model.setReviews(activeEatery, lastShownList);
 
         Collections.sort(lastShownList);
         return new CommandResult(MESSAGE_DELETE_REVIEW_SUCCESS, activeEatery);
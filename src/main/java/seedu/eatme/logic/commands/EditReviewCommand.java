@@ -70,7 +70,7 @@ public class EditReviewCommand extends Command {
         Review editedReview = createEditedReview(reviewToEdit, editReviewDescriptor);
 
         lastShownList.set(index.getZeroBased(), editedReview);
-        activeEatery.setReviews(lastShownList);
+        model.setReviews(activeEatery, lastShownList);
 
         Collections.sort(lastShownList);
         return new CommandResult(MESSAGE_EDITED_REVIEW_SUCCESS, activeEatery);
@@ -0,0 +1,41 @@
+package seedu.eatme.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.eatme.model.Model;
+import seedu.eatme.model.feed.Feed;
+
+/**
+ * Shows when the posts of each feed were last refreshed in the background, how that went, and when they will be
+ * refreshed next.
+ */
+public class FeedStatusCommand extends Command {
+
+    public static final String COMMAND_WORD = "feedstatus";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows when the posts of each feed were last refreshed, and when they will be refreshed next.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_FEEDS = "There are no feeds.";
+    public static final String MESSAGE_FEED_STATUS = "%1$s: %2$s";
+    public static final String MESSAGE_NOT_REFRESHED = "Not refreshed in the background";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Feed> feeds = model.getFeedList().getFeedList();
+        if (feeds.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_FEEDS);
+        }
+
+        StringBuilder feedback = new StringBuilder();
+        for (Feed feed : feeds) {
+            String status = model.getFeedRefreshStatus(feed).map(Object::toString).orElse(MESSAGE_NOT_REFRESHED);
+            feedback.append(String.format(MESSAGE_FEED_STATUS, feed.getName(), status)).append('\n');
+        }
+        return new CommandResult(feedback.toString().trim());
+    }
+}
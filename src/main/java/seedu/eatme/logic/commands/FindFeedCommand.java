@@ -0,0 +1,58 @@
+package seedu.eatme.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.eatme.model.Model;
+import seedu.eatme.model.feed.Feed;
+import seedu.eatme.model.feed.FeedPostMatch;
+
+/**
+ * Finds and lists the feed posts whose title or source contains any of the argument keywords, from the most
+ * relevant and recent. Keyword matching is case insensitive.
+ */
+public class FindFeedCommand extends Command {
+
+    public static final String COMMAND_WORD = "findfeed";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the feed posts whose title or feed name "
+            + "contains any of the specified keywords (case-insensitive) and lists the most relevant and recent "
+            + "of them.\n"
+            + "Parameters: [keyword] [more keywords]...\n"
+            + "Example: " + COMMAND_WORD + " chicken rice";
+
+    public static final String MESSAGE_FEED_POSTS_FOUND = "%1$d feed posts found!";
+    public static final int MAX_LISTED_POSTS = 10;
+
+    private final List<String> keywords;
+
+    public FindFeedCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<FeedPostMatch> matches = new ArrayList<>();
+        for (Feed feed : model.getFeedList().getFeedList()) {
+            matches.addAll(feed.getPostArchive().search(keywords));
+        }
+        matches.sort(FeedPostMatch.BY_RELEVANCE_AND_RECENCY);
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_FEED_POSTS_FOUND, matches.size()));
+        for (int i = 0; i < Math.min(matches.size(), MAX_LISTED_POSTS); i++) {
+            feedback.append('\n').append(i + 1).append(". ").append(matches.get(i).getPost());
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindFeedCommand // instanceof handles nulls
+                && keywords.equals(((FindFeedCommand) other).keywords)); // state check
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.eatme.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.eatme.model.Model;
+
+/**
+ * Shows how long each command has taken to be parsed, executed and saved, and how much memory it has allocated.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long the commands run so far have taken, and how much memory they have used.\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(model.getCommandMetrics().getSummary());
+    }
+}
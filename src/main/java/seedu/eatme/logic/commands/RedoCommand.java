@@ -0,0 +1,35 @@
+package seedu.eatme.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.eatme.logic.commands.exceptions.CommandException;
+import seedu.eatme.model.Model;
+import seedu.eatme.model.history.ChangeHistory;
+
+/**
+ * Redoes the changes made by the last command that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Redoes the last command that was undone.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no command to redo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ChangeHistory changeHistory = model.getChangeHistory();
+        if (!changeHistory.canRedo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+
+        String redoneCommand = changeHistory.redo();
+        model.updateFilteredEateryList(Model.PREDICATE_SHOW_ALL_EATERIES);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, redoneCommand));
+    }
+}
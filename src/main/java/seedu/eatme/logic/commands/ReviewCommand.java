@@ -66,7 +66,7 @@ public class ReviewCommand extends Command {
         if (model.isMainMode()) {
             eateryToAddReview = lastShownList.get(index.getZeroBased());
 
-            eateryToAddReview.addReview(review);
+            model.addReview(eateryToAddReview, review);
             model.updateFilteredEateryList(Model.PREDICATE_SHOW_ALL_EATERIES);
 
             model.setActiveEatery(eateryToAddReview);
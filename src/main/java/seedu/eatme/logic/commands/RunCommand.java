@@ -0,0 +1,157 @@
+package seedu.eatme.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_ON_ERROR;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.eatme.logic.commands.exceptions.CommandException;
+import seedu.eatme.logic.parser.EatMeParser;
+import seedu.eatme.logic.parser.exceptions.ParseException;
+import seedu.eatme.model.Model;
+import seedu.eatme.model.history.ChangeHistory;
+
+/**
+ * Runs the commands in a script file one after another, as a single command.
+ * Since the script is a single command, the eatery list and feed list are saved once after the whole script is run,
+ * instead of after every command in it.
+ * If the script is stopped by a failed command, the changes made by the commands before it are rolled back through
+ * the model's {@link ChangeHistory}, which also puts back the reviews changed in place on the eateries.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_PREFIX = "#";
+    public static final int MAX_LISTED_FAILURES = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line. "
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped.\n"
+            + "If a command fails, either no changes are made (stop, the default), "
+            + "or the failed command is skipped (continue).\n"
+            + "Parameters: " + PREFIX_FILE + " [file path] [" + PREFIX_ON_ERROR + " stop|continue]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + " data/import.txt " + PREFIX_ON_ERROR + " continue";
+
+    public static final String MESSAGE_SUCCESS = "%1$d commands run from %2$s.";
+    public static final String MESSAGE_SUCCESS_WITH_FAILURES = "%1$d commands run from %2$s, %3$d failed:";
+    public static final String MESSAGE_FAILURE = "Line %1$d: %2$s\nThe script was stopped, no changes were made.";
+    public static final String MESSAGE_FAILED_LINE = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_CANNOT_READ = "Could not read the file %1$s: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "Scripts cannot run other scripts.";
+    public static final String MESSAGE_HISTORY_IN_SCRIPT = "Scripts cannot undo or redo commands.";
+
+    /**
+     * What to do when a command in the script fails.
+     */
+    public enum OnError {
+        /** Stop the script and undo the commands run before the failed one. */
+        STOP,
+        /** Skip the failed command and run the rest of the script. */
+        CONTINUE
+    }
+
+    private final Path scriptPath;
+    private final OnError onError;
+
+    /**
+     * Creates a RunCommand to run the script at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath, OnError onError) {
+        requireAllNonNull(scriptPath, onError);
+        this.scriptPath = scriptPath;
+        this.onError = onError;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, scriptPath, ioe), ioe);
+        }
+
+        ChangeHistory changeHistory = model.getChangeHistory();
+        changeHistory.markRollbackPoint();
+        try {
+            return run(model, lines, changeHistory);
+        } finally {
+            changeHistory.releaseRollbackPoint();
+        }
+    }
+
+    /**
+     * Runs the commands in {@code lines}, rolling back their changes with {@code changeHistory} if the script is
+     * stopped by a failed command.
+     */
+    private CommandResult run(Model model, List<String> lines, ChangeHistory changeHistory) throws CommandException {
+        boolean wasMainMode = model.isMainMode();
+        EatMeParser parser = new EatMeParser();
+        List<String> failures = new ArrayList<>();
+        int commandsRun = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                // commands are parsed one at a time, as a mode command changes how later commands are parsed
+                Command command = parser.parseCommand(line, model.isMainMode());
+                if (command instanceof RunCommand) {
+                    throw new CommandException(MESSAGE_NESTED_RUN);
+                }
+                if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                    // undoing or redoing moves whole commands in the history, which cannot be rolled back
+                    throw new CommandException(MESSAGE_HISTORY_IN_SCRIPT);
+                }
+                command.execute(model);
+                commandsRun++;
+            } catch (ParseException | CommandException e) {
+                if (onError == OnError.STOP) {
+                    restore(model, changeHistory, wasMainMode);
+                    throw new CommandException(String.format(MESSAGE_FAILURE, i + 1, e.getMessage()), e);
+                }
+                failures.add(String.format(MESSAGE_FAILED_LINE, i + 1, e.getMessage()));
+            }
+        }
+
+        if (failures.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, commandsRun, scriptPath));
+        }
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_SUCCESS_WITH_FAILURES, commandsRun, scriptPath, failures.size()));
+        failures.stream().limit(MAX_LISTED_FAILURES).forEach(feedback::append);
+        if (failures.size() > MAX_LISTED_FAILURES) {
+            feedback.append("\n...");
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Puts the data of {@code model} back to how it was before the script was run, by rolling back the changes
+     * recorded in {@code changeHistory} since the script started.
+     */
+    private static void restore(Model model, ChangeHistory changeHistory, boolean isMainMode) {
+        changeHistory.rollBack();
+        if (model.isMainMode() != isMainMode) {
+            model.toggle();
+        }
+        model.updateFilteredEateryList(Model.PREDICATE_SHOW_ALL_EATERIES);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptPath.equals(((RunCommand) other).scriptPath)
+                && onError == ((RunCommand) other).onError);
+    }
+}
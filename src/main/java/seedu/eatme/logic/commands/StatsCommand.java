@@ -2,12 +2,16 @@ package seedu.eatme.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import seedu.eatme.commons.core.metrics.StatisticsBuiltEvent;
 import seedu.eatme.logic.commands.exceptions.CommandException;
 import seedu.eatme.model.Model;
-
+import seedu.eatme.model.eatery.Eatery;
 import seedu.eatme.model.statistics.Statistics;
 import seedu.eatme.model.statistics.exceptions.CannotGenerateStatisticsException;
 import seedu.eatme.model.statistics.exceptions.NoAvailableDataException;
+
 /**
  * Shows overall statistics gathered from the reviews of all the eateries in the application.
  */
@@ -38,9 +42,13 @@ public class StatsCommand extends Command {
 
         requireNonNull(model);
 
+        StatisticsBuiltEvent event = new StatisticsBuiltEvent();
+        event.begin();
+        boolean isSuccessful = false;
         try {
-            Statistics stats = new Statistics(model.getEateryList().getEateryList());
+            Statistics stats = new Statistics(model.getStatisticsTracker());
             model.setStatistics(stats);
+            isSuccessful = true;
             return new CommandResult(MESSAGE_STATS_SUCCESS, false, false, null, true);
 
         } catch (NoAvailableDataException n) {
@@ -48,6 +56,24 @@ public class StatsCommand extends Command {
 
         } catch (CannotGenerateStatisticsException c) {
             throw new CommandException(MESSAGE_STATS_ERROR_UNKNOWN);
+
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                commitEvent(event, model, isSuccessful);
+            }
         }
     }
+
+    /**
+     * Commits {@code event} with the number of eateries and reviews in {@code model}.
+     * The reviews are only counted if the flight recorder is recording the event.
+     */
+    private static void commitEvent(StatisticsBuiltEvent event, Model model, boolean isSuccessful) {
+        List<Eatery> eateries = model.getEateryList().getEateryList();
+        event.setEateryCount(eateries.size());
+        event.setReviewCount(eateries.stream().mapToInt(eatery -> eatery.getReviews().size()).sum());
+        event.setSuccessful(isSuccessful);
+        event.commit();
+    }
 }
@@ -0,0 +1,35 @@
+package seedu.eatme.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.eatme.logic.commands.exceptions.CommandException;
+import seedu.eatme.model.Model;
+import seedu.eatme.model.history.ChangeHistory;
+
+/**
+ * Undoes the changes made by the last command that changed the eatery list or feed list.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Undoes the last command that changed your eateries, reviews or feeds.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no command to undo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ChangeHistory changeHistory = model.getChangeHistory();
+        if (!changeHistory.canUndo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+
+        String undoneCommand = changeHistory.undo();
+        model.updateFilteredEateryList(Model.PREDICATE_SHOW_ALL_EATERIES);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, undoneCommand));
+    }
+}
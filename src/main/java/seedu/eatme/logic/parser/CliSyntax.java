@@ -15,4 +15,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_RATING = new Prefix("\\r");
     public static final Prefix PREFIX_DATE = new Prefix("\\w");
     public static final Prefix PREFIX_USER = new Prefix("\\u");
+    public static final Prefix PREFIX_FILE = new Prefix("\\f");
+    public static final Prefix PREFIX_ON_ERROR = new Prefix("\\e");
 }
@@ -18,17 +18,23 @@ import seedu.eatme.logic.commands.DeleteReviewCommand;
 import seedu.eatme.logic.commands.EditCommand;
 import seedu.eatme.logic.commands.EditReviewCommand;
 import seedu.eatme.logic.commands.ExitCommand;
+import seedu.eatme.logic.commands.FeedStatusCommand;
 import seedu.eatme.logic.commands.FindCommand;
+import seedu.eatme.logic.commands.FindFeedCommand;
 import seedu.eatme.logic.commands.HelpCommand;
 import seedu.eatme.logic.commands.ListCommand;
 import seedu.eatme.logic.commands.LoadCommand;
+import seedu.eatme.logic.commands.MetricsCommand;
 import seedu.eatme.logic.commands.ModeCommand;
+import seedu.eatme.logic.commands.RedoCommand;
 import seedu.eatme.logic.commands.RemoveTagCommand;
 import seedu.eatme.logic.commands.ReopenCommand;
 import seedu.eatme.logic.commands.ReviewCommand;
+import seedu.eatme.logic.commands.RunCommand;
 import seedu.eatme.logic.commands.SaveTodoCommand;
 import seedu.eatme.logic.commands.ShowCommand;
 import seedu.eatme.logic.commands.StatsCommand;
+import seedu.eatme.logic.commands.UndoCommand;
 
 import seedu.eatme.logic.parser.exceptions.ParseException;
 
@@ -109,6 +115,12 @@ public class EatMeParser {
         case DeleteFeedCommand.COMMAND_WORD:
             return new DeleteFeedCommandParser().parse(arguments);
 
+        case FindFeedCommand.COMMAND_WORD:
+            return new FindFeedCommandParser().parse(arguments);
+
+        case FeedStatusCommand.COMMAND_WORD:
+            return new FeedStatusCommand();
+
         case StatsCommand.COMMAND_WORD:
             return new StatsCommand(isMainMode);
 
@@ -130,6 +142,18 @@ public class EatMeParser {
         case LoadCommand.COMMAND_WORD:
             return new LoadCommandParser().parse(arguments);
 
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
+        case MetricsCommand.COMMAND_WORD:
+            return new MetricsCommand();
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
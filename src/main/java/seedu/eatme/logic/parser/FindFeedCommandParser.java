@@ -0,0 +1,32 @@
+package seedu.eatme.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.eatme.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.eatme.logic.commands.FindFeedCommand;
+import seedu.eatme.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindFeedCommand object
+ */
+public class FindFeedCommandParser implements Parser<FindFeedCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindFeedCommand
+     * and returns a FindFeedCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindFeedCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFeedCommand.MESSAGE_USAGE));
+        }
+
+        return new FindFeedCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.eatme.logic.parser;
+
+import static seedu.eatme.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_ON_ERROR;
+
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.eatme.commons.util.FileUtil;
+import seedu.eatme.logic.commands.RunCommand;
+import seedu.eatme.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE, PREFIX_ON_ERROR);
+        Optional<String> file = argMultimap.getValue(PREFIX_FILE).map(String::trim);
+        if (file.isEmpty() || file.get().isEmpty() || !FileUtil.isValidPath(file.get())
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        RunCommand.OnError onError = RunCommand.OnError.STOP;
+        Optional<String> onErrorValue = argMultimap.getValue(PREFIX_ON_ERROR);
+        if (onErrorValue.isPresent()) {
+            try {
+                onError = RunCommand.OnError.valueOf(onErrorValue.get().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException iae) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+            }
+        }
+        return new RunCommand(Paths.get(file.get()), onError);
+    }
+}
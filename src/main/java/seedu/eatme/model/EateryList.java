@@ -3,17 +3,27 @@ package seedu.eatme.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 
 import seedu.eatme.commons.core.LogsCenter;
 import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.EateryAttributesContainsKeywordsPredicate;
+import seedu.eatme.model.eatery.Review;
 import seedu.eatme.model.eatery.UniqueEateryList;
+import seedu.eatme.model.history.Change;
+import seedu.eatme.model.statistics.StatisticsTracker;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameEatery comparison)
+ *
+ * If a change listener is set, every change to the eateries and their reviews is passed to it as a {@link Change}
+ * that can be undone and redone. A change targets the list it was made to, whichever mode is current when it is
+ * undone or redone.
  */
 public class EateryList implements ReadOnlyEateryList {
 
@@ -22,6 +32,9 @@ public class EateryList implements ReadOnlyEateryList {
 
     private final UniqueEateryList eateries;
     private final UniqueEateryList todo;
+    private final StatisticsTracker statisticsTracker;
+    private long version;
+    private Consumer<Change> changeListener;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -33,6 +46,7 @@ public class EateryList implements ReadOnlyEateryList {
     {
         eateries = new UniqueEateryList();
         todo = new UniqueEateryList();
+        statisticsTracker = new StatisticsTracker(eateries.asUnmodifiableObservableList());
     }
 
     public EateryList() {}
@@ -52,8 +66,20 @@ public class EateryList implements ReadOnlyEateryList {
      * {@code eateries} must not contain duplicate eateries.
      */
     public void setEateries(List<Eatery> eateries, List<Eatery> todos) {
-        this.eateries.setEateries(eateries);
-        this.todo.setEateries(todos);
+        List<Eatery> oldEateries = List.copyOf(this.eateries.asUnmodifiableObservableList());
+        List<Eatery> oldTodos = List.copyOf(this.todo.asUnmodifiableObservableList());
+        List<Eatery> newEateries = List.copyOf(eateries);
+        List<Eatery> newTodos = List.copyOf(todos);
+        this.eateries.setEateries(newEateries);
+        this.todo.setEateries(newTodos);
+        version++;
+        recordChange(oldEateries.size() + oldTodos.size() + newEateries.size() + newTodos.size(), () -> {
+            this.eateries.setEateries(oldEateries);
+            this.todo.setEateries(oldTodos);
+        }, () -> {
+            this.eateries.setEateries(newEateries);
+            this.todo.setEateries(newTodos);
+        });
     }
 
     /**
@@ -78,17 +104,28 @@ public class EateryList implements ReadOnlyEateryList {
     }
 
     /**
-     * Adds a eatery to the eatery list.
-     * The eatery must not already exist in the eatery list.
+     * Returns the eateries matched by {@code predicate} in the list of the current mode.
      */
-    public void addEatery(Eatery e) {
+    public Set<Eatery> findEateries(EateryAttributesContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
         if (isMainMode) {
-            eateries.add(e);
+            return eateries.find(predicate);
         } else {
-            todo.add(e);
+            return todo.find(predicate);
         }
     }
 
+    /**
+     * Adds a eatery to the eatery list.
+     * The eatery must not already exist in the eatery list.
+     */
+    public void addEatery(Eatery e) {
+        UniqueEateryList list = getCurrentList();
+        list.add(e);
+        version++;
+        recordChange(1, () -> list.remove(e), () -> list.add(e));
+    }
+
     /**
      * Replaces the given eatery {@code target} in the list with {@code editedEatery}.
      * {@code target} must exist in the eatery list.
@@ -96,11 +133,10 @@ public class EateryList implements ReadOnlyEateryList {
      */
     public void setEatery(Eatery target, Eatery editedEatery) {
         requireNonNull(editedEatery);
-        if (isMainMode) {
-            eateries.setEatery(target, editedEatery);
-        } else {
-            todo.setEatery(target, editedEatery);
-        }
+        UniqueEateryList list = getCurrentList();
+        list.setEatery(target, editedEatery);
+        version++;
+        recordChange(2, () -> list.setEatery(editedEatery, target), () -> list.setEatery(target, editedEatery));
     }
 
     /**
@@ -108,11 +144,74 @@ public class EateryList implements ReadOnlyEateryList {
      * {@code key} must exist in the eatery list.
      */
     public void removeEatery(Eatery key) {
-        if (isMainMode) {
-            eateries.remove(key);
-        } else {
-            todo.remove(key);
+        UniqueEateryList list = getCurrentList();
+        int index = list.indexOf(key);
+        list.remove(key);
+        version++;
+        recordChange(1, () -> list.add(index, key), () -> list.remove(key));
+    }
+
+    /**
+     * Adds {@code review} to {@code target}.
+     */
+    public void addReview(Eatery target, Review review) {
+        requireNonNull(review);
+        target.addReview(review);
+        refresh(target);
+        version++;
+        recordChange(1, () -> {
+            List<Review> reviews = target.getReviews();
+            target.setReviews(reviews.subList(0, reviews.size() - 1));
+            refresh(target);
+        }, () -> {
+            target.addReview(review);
+            refresh(target);
+        });
+    }
+
+    /**
+     * Replaces the reviews of {@code target} with {@code reviews}.
+     */
+    public void setReviews(Eatery target, List<Review> reviews) {
+        requireNonNull(reviews);
+        List<Review> oldReviews = List.copyOf(target.getReviews());
+        List<Review> newReviews = List.copyOf(reviews);
+        target.setReviews(newReviews);
+        refresh(target);
+        version++;
+        recordChange(oldReviews.size() + newReviews.size(), () -> {
+            target.setReviews(oldReviews);
+            refresh(target);
+        }, () -> {
+            target.setReviews(newReviews);
+            refresh(target);
+        });
+    }
+
+    private void refresh(Eatery target) {
+        eateries.refresh(target);
+        todo.refresh(target);
+    }
+
+    private UniqueEateryList getCurrentList() {
+        return isMainMode ? eateries : todo;
+    }
+
+    /**
+     * Passes the change of {@code size} items that has just been made to the change listener, if there is one.
+     * Undoing or redoing the change counts as a change to this {@code EateryList}.
+     */
+    private void recordChange(int size, Runnable undo, Runnable redo) {
+        if (changeListener == null) {
+            return;
         }
+        changeListener.accept(Change.of(size, () -> {
+            undo.run();
+            version++;
+        }, () -> {
+            redo.run();
+            version++;
+        }));
     }
 
     //// util methods
@@ -127,6 +226,14 @@ public class EateryList implements ReadOnlyEateryList {
         return isMainMode;
     }
 
+    /**
+     * Sets the listener that every later change to this {@code EateryList} is passed to, or stops passing changes
+     * on if {@code changeListener} is null.
+     */
+    public void setChangeListener(Consumer<Change> changeListener) {
+        this.changeListener = changeListener;
+    }
+
     @Override
     public String toString() {
         return String.format("%d eateries: %s", eateries.asUnmodifiableObservableList().size(),
@@ -142,6 +249,18 @@ public class EateryList implements ReadOnlyEateryList {
         return todo.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the running review aggregates of the eateries in the main list.
+     */
+    public StatisticsTracker getStatisticsTracker() {
+        return statisticsTracker;
+    }
+
 
     @Override
     public boolean equals(Object other) {
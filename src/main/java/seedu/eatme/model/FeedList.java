@@ -3,18 +3,25 @@ package seedu.eatme.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.eatme.model.feed.Feed;
 import seedu.eatme.model.feed.UniqueFeedList;
+import seedu.eatme.model.history.Change;
 
 /**
  * Wraps all data at the feed list level
  * Duplicates are not allowed
+ *
+ * If a change listener is set, every change to the feeds is passed to it as a {@link Change} that can be undone and
+ * redone.
  */
 public class FeedList implements ReadOnlyFeedList {
 
     private final UniqueFeedList feeds;
+    private long version;
+    private Consumer<Change> changeListener;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,7 +52,12 @@ public class FeedList implements ReadOnlyFeedList {
      * {@code feeds} must not contain duplicate feeds.
      */
     public void setFeeds(List<Feed> feeds) {
-        this.feeds.setFeeds(feeds);
+        List<Feed> oldFeeds = List.copyOf(this.feeds.asUnmodifiableObservableList());
+        List<Feed> newFeeds = List.copyOf(feeds);
+        this.feeds.setFeeds(newFeeds);
+        version++;
+        recordChange(oldFeeds.size() + newFeeds.size(),
+                () -> this.feeds.setFeeds(oldFeeds), () -> this.feeds.setFeeds(newFeeds));
     }
 
     /**
@@ -73,6 +85,8 @@ public class FeedList implements ReadOnlyFeedList {
      */
     public void addFeed(Feed p) {
         feeds.add(p);
+        version++;
+        recordChange(1, () -> feeds.remove(p), () -> feeds.add(p));
     }
 
     /**
@@ -84,6 +98,8 @@ public class FeedList implements ReadOnlyFeedList {
         requireNonNull(editedFeed);
 
         feeds.setFeed(target, editedFeed);
+        version++;
+        recordChange(2, () -> feeds.setFeed(editedFeed, target), () -> feeds.setFeed(target, editedFeed));
     }
 
     /**
@@ -91,11 +107,39 @@ public class FeedList implements ReadOnlyFeedList {
      * {@code key} must exist in the feed list.
      */
     public void removeFeed(Feed key) {
+        int index = feeds.indexOf(key);
         feeds.remove(key);
+        version++;
+        recordChange(1, () -> feeds.add(index, key), () -> feeds.remove(key));
     }
 
     //// util methods
 
+    /**
+     * Sets the listener that every later change to this {@code FeedList} is passed to, or stops passing changes on
+     * if {@code changeListener} is null.
+     */
+    public void setChangeListener(Consumer<Change> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Passes the change of {@code size} items that has just been made to the change listener, if there is one.
+     * Undoing or redoing the change counts as a change to this {@code FeedList}.
+     */
+    private void recordChange(int size, Runnable undo, Runnable redo) {
+        if (changeListener == null) {
+            return;
+        }
+        changeListener.accept(Change.of(size, () -> {
+            undo.run();
+            version++;
+        }, () -> {
+            redo.run();
+            version++;
+        }));
+    }
+
     @Override
     public String toString() {
         return feeds.asUnmodifiableObservableList().size() + " feeds";
@@ -106,6 +150,11 @@ public class FeedList implements ReadOnlyFeedList {
         return feeds.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
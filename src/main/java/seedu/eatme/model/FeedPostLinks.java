@@ -0,0 +1,153 @@
+package seedu.eatme.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.EateryNameMatcher;
+import seedu.eatme.model.feed.FeedPost;
+
+/**
+ * Links feed posts to the eateries that their titles mention.
+ *
+ * The title of each post is matched against the names of all eateries at once with an {@link EateryNameMatcher}
+ * when the post is added. The links are kept in step with the given lists of eateries: an eatery that is added is
+ * looked for in the posts already linked, and an eatery that is removed loses its links. An eatery that is replaced
+ * by one with the same name, such as when it is edited or its reviews change, hands its links over without any post
+ * being matched again.
+ */
+public class FeedPostLinks {
+
+    private final EateryNameMatcher matcher = new EateryNameMatcher();
+    /** The eateries mentioned by each post, in the order the posts were added. */
+    private final Map<FeedPost, Set<Eatery>> eateriesByPost = new LinkedHashMap<>();
+    private final Map<Eatery, Set<FeedPost>> postsByEatery = new IdentityHashMap<>();
+
+    /**
+     * Creates links between posts and the eateries of {@code eateryLists}, that are kept in sync with the lists.
+     */
+    public FeedPostLinks(List<ObservableList<Eatery>> eateryLists) {
+        requireNonNull(eateryLists);
+        for (ObservableList<Eatery> eateries : eateryLists) {
+            eateries.forEach(matcher::add);
+            eateries.addListener(this::update);
+        }
+    }
+
+    /**
+     * Removes the links of the posts in {@code removed}, then links the posts in {@code added} to the eateries that
+     * their titles mention.
+     */
+    public void updatePosts(Collection<? extends FeedPost> added, Collection<? extends FeedPost> removed) {
+        requireNonNull(added);
+        requireNonNull(removed);
+        removed.forEach(this::removePost);
+        for (FeedPost post : added) {
+            if (!eateriesByPost.containsKey(post)) {
+                Set<Eatery> mentioned = matcher.match(post.getTitle());
+                eateriesByPost.put(post, mentioned);
+                mentioned.forEach(eatery -> link(eatery, post));
+            }
+        }
+    }
+
+    /**
+     * Returns the posts that mention {@code eatery}, in the order they were added.
+     */
+    public List<FeedPost> getPosts(Eatery eatery) {
+        requireNonNull(eatery);
+        return new ArrayList<>(postsByEatery.getOrDefault(eatery, Collections.emptySet()));
+    }
+
+    /**
+     * Applies a change of one of the lists of eateries to the matcher and the links.
+     * Posts are only matched again against the names of the eateries that are added under a new name.
+     */
+    private void update(ListChangeListener.Change<? extends Eatery> change) {
+        EateryNameMatcher addedMatcher = new EateryNameMatcher();
+        List<Eatery> added = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.getRemovedSize() == 1 && change.getAddedSize() == 1
+                    && replaceEatery(change.getRemoved().get(0), change.getAddedSubList().get(0))) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeEatery);
+            added.addAll(change.getAddedSubList());
+        }
+
+        for (Eatery eatery : added) {
+            matcher.add(eatery);
+            addedMatcher.add(eatery);
+        }
+        if (!addedMatcher.isEmpty()) {
+            eateriesByPost.forEach((post, mentioned) -> addedMatcher.match(post.getTitle()).forEach(eatery -> {
+                mentioned.add(eatery);
+                link(eatery, post);
+            }));
+        }
+    }
+
+    /**
+     * Hands the links of {@code eatery} over to {@code replacement}, if both have the same name.
+     *
+     * @return true if nothing else is left to do for the replacement.
+     */
+    private boolean replaceEatery(Eatery eatery, Eatery replacement) {
+        if (eatery == replacement) {
+            return true;
+        }
+        if (!matcher.replace(eatery, replacement)) {
+            return false;
+        }
+        Set<FeedPost> posts = postsByEatery.remove(eatery);
+        if (posts != null) {
+            postsByEatery.put(replacement, posts);
+            for (FeedPost post : posts) {
+                Set<Eatery> mentioned = eateriesByPost.get(post);
+                mentioned.remove(eatery);
+                mentioned.add(replacement);
+            }
+        }
+        return true;
+    }
+
+    private void removeEatery(Eatery eatery) {
+        matcher.remove(eatery);
+        Set<FeedPost> posts = postsByEatery.remove(eatery);
+        if (posts != null) {
+            posts.forEach(post -> eateriesByPost.get(post).remove(eatery));
+        }
+    }
+
+    private void removePost(FeedPost post) {
+        Set<Eatery> mentioned = eateriesByPost.remove(post);
+        if (mentioned == null) {
+            return;
+        }
+        for (Eatery eatery : mentioned) {
+            Set<FeedPost> posts = postsByEatery.get(eatery);
+            posts.remove(post);
+            if (posts.isEmpty()) {
+                postsByEatery.remove(eatery);
+            }
+        }
+    }
+
+    private void link(Eatery eatery, FeedPost post) {
+        postsByEatery.computeIfAbsent(eatery, key -> new LinkedHashSet<>()).add(post);
+    }
+}
@@ -1,15 +1,24 @@
 package seedu.eatme.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.eatme.commons.core.GuiSettings;
+import seedu.eatme.commons.core.metrics.CommandMetrics;
 import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.EateryAttributesContainsKeywordsPredicate;
 import seedu.eatme.model.eatery.Review;
 import seedu.eatme.model.feed.Feed;
+import seedu.eatme.model.feed.FeedPost;
+import seedu.eatme.model.feed.FeedRefreshScheduler;
+import seedu.eatme.model.feed.FeedRefreshStatus;
+import seedu.eatme.model.history.ChangeHistory;
 import seedu.eatme.model.statistics.Statistics;
+import seedu.eatme.model.statistics.StatisticsTracker;
 
 /**
  * The API of the Model component.
@@ -86,7 +95,17 @@ public interface Model {
     void setEatery(Eatery target, Eatery editedEatery);
 
     /**
-     * Sets {@code eatery} as the active eatery.
+     * Adds {@code review} to the given eatery {@code target}.
+     */
+    void addReview(Eatery target, Review review);
+
+    /**
+     * Replaces the reviews of the given eatery {@code target} with {@code reviews}.
+     */
+    void setReviews(Eatery target, List<Review> reviews);
+
+    /**
+     * Sets {@code eatery} as the active eatery, and the feed posts that mention it as the active feed posts.
      */
     void setActiveEatery(Eatery eatery);
 
@@ -112,6 +131,14 @@ public interface Model {
      */
     void updateFilteredEateryList(Predicate<Eatery> predicate);
 
+    /**
+     * Updates the filter of the filtered eatery list to the eateries matched by the given {@code predicate}.
+     * The matches are looked up in the keyword index of the eatery list instead of testing every eatery.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredEateryList(EateryAttributesContainsKeywordsPredicate predicate);
+
     /**
      * Returns an unmodifiable view of the active reviews
      */
@@ -122,6 +149,22 @@ public interface Model {
      */
     void updateActiveReviews(List<Review> reviews);
 
+    /**
+     * Returns an unmodifiable view of the posts of all the feeds.
+     */
+    ObservableList<FeedPost> getFeedPostList();
+
+    /**
+     * Returns an unmodifiable view of the feed posts that mention the active eatery.
+     */
+    ObservableList<FeedPost> getActiveFeedPosts();
+
+    /**
+     * Adds the fetched feed posts in {@code added} to the feed post list and links them to the eateries they
+     * mention, and removes and unlinks the feed posts in {@code removed}.
+     */
+    void updateFeedPosts(Collection<? extends FeedPost> added, Collection<? extends FeedPost> removed);
+
     /**
      * Switch between main mode and to-do mode.
      */
@@ -176,6 +219,17 @@ public interface Model {
      */
     void setFeed(Feed target, Feed editedFeed);
 
+    /**
+     * Sets the scheduler that refreshes the posts of the feeds in the background.
+     */
+    void setFeedRefreshScheduler(FeedRefreshScheduler feedRefreshScheduler);
+
+    /**
+     * Returns the refresh status of {@code feed}, or an empty optional if its posts are not refreshed in the
+     * background.
+     */
+    Optional<FeedRefreshStatus> getFeedRefreshStatus(Feed feed);
+
     /**
      * Sets the statistics of the eateries and reviews to {@code stats}.
      */
@@ -185,4 +239,19 @@ public interface Model {
      * Gets the statistics of the eateries and reviews.
      */
     Statistics getStatistics();
+
+    /**
+     * Returns the running review aggregates from which statistics are generated.
+     */
+    StatisticsTracker getStatisticsTracker();
+
+    /**
+     * Returns the latency and allocation metrics of the commands run so far.
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Returns the history of the changes made to the eatery list and feed list, which can be undone and redone.
+     */
+    ChangeHistory getChangeHistory();
 }
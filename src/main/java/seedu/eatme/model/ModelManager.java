@@ -4,20 +4,34 @@ import static java.util.Objects.requireNonNull;
 import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.eatme.commons.core.GuiSettings;
 import seedu.eatme.commons.core.LogsCenter;
+import seedu.eatme.commons.core.metrics.CommandMetrics;
 import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.EateryAttributesContainsKeywordsPredicate;
 import seedu.eatme.model.eatery.Review;
 import seedu.eatme.model.feed.Feed;
+import seedu.eatme.model.feed.FeedPost;
+import seedu.eatme.model.feed.FeedRefreshScheduler;
+import seedu.eatme.model.feed.FeedRefreshStatus;
+import seedu.eatme.model.history.ChangeHistory;
 import seedu.eatme.model.statistics.Statistics;
+import seedu.eatme.model.statistics.StatisticsTracker;
 
 /**
  * Represents the in-memory model of the eatery list data.
@@ -28,12 +42,20 @@ public class ModelManager implements Model {
     private final EateryList eateryList;
     private final FeedList feedList;
     private final UserPrefs userPrefs;
+    private final FeedPostLinks feedPostLinks;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final ChangeHistory changeHistory;
 
     private FilteredList<Eatery> filteredTodo;
     private FilteredList<Eatery> filteredEateries;
     private Statistics stats;
     private ObservableList<Review> activeReviews;
+    private ObservableList<FeedPost> feedPosts;
+    private ObservableList<FeedPost> unmodifiableFeedPosts;
+    private ObservableList<FeedPost> activeFeedPosts;
+    private ObservableList<FeedPost> unmodifiableActiveFeedPosts;
     private Eatery activeEatery;
+    private FeedRefreshScheduler feedRefreshScheduler;
 
     /**
      * Initializes a ModelManager with the given eateryList, feedList and userPrefs.
@@ -48,10 +70,31 @@ public class ModelManager implements Model {
         this.eateryList = new EateryList(eateryList);
         this.feedList = new FeedList(feedList);
         this.userPrefs = new UserPrefs(userPrefs);
+        changeHistory = new ChangeHistory(this.userPrefs.getUndoHistoryDepth(), ChangeHistory.DEFAULT_MAX_SIZE);
+        this.eateryList.setChangeListener(changeHistory::record);
+        this.feedList.setChangeListener(changeHistory::record);
+        applyFeedPostRetention();
 
         filteredEateries = new FilteredList<>(this.eateryList.getEateryList());
         filteredTodo = new FilteredList<>(this.eateryList.getTodoList());
         activeReviews = FXCollections.observableArrayList();
+        feedPosts = FXCollections.observableArrayList();
+        unmodifiableFeedPosts = FXCollections.unmodifiableObservableList(feedPosts);
+        activeFeedPosts = FXCollections.observableArrayList();
+        unmodifiableActiveFeedPosts = FXCollections.unmodifiableObservableList(activeFeedPosts);
+        feedPostLinks = new FeedPostLinks(List.of(this.eateryList.getEateryList(), this.eateryList.getTodoList()));
+        // registered after the links, so that the links are up to date when the active feed posts are read
+        this.eateryList.getEateryList().addListener((ListChangeListener<Eatery>) change -> updateActiveFeedPosts());
+        this.eateryList.getTodoList().addListener((ListChangeListener<Eatery>) change -> updateActiveFeedPosts());
+
+        this.feedList.getFeedList().forEach(feed -> updateFeedPosts(feed.getPosts(), List.of()));
+        this.feedList.getFeedList().addListener((ListChangeListener<Feed>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::removeFeedPosts);
+                change.getAddedSubList().forEach(this::applyFeedPostRetention);
+                change.getAddedSubList().forEach(feed -> updateFeedPosts(feed.getPosts(), List.of()));
+            }
+        });
     }
 
     public ModelManager() {
@@ -64,6 +107,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        applyFeedPostRetention();
     }
 
     @Override
@@ -139,9 +183,22 @@ public class ModelManager implements Model {
         eateryList.setEatery(target, editedEatery);
     }
 
+    @Override
+    public void addReview(Eatery target, Review review) {
+        requireAllNonNull(target, review);
+        eateryList.addReview(target, review);
+    }
+
+    @Override
+    public void setReviews(Eatery target, List<Review> reviews) {
+        requireAllNonNull(target, reviews);
+        eateryList.setReviews(target, reviews);
+    }
+
     @Override
     public void setActiveEatery(Eatery eatery) {
         this.activeEatery = eatery;
+        updateActiveFeedPosts();
     }
 
     @Override
@@ -175,6 +232,17 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public void updateFilteredEateryList(EateryAttributesContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        // The index answers while the listed eateries are filtered now, and eateries added or edited later are
+        // tested directly.
+        Set<Eatery> matches = eateryList.findEateries(predicate);
+        AtomicBoolean isFiltered = new AtomicBoolean(false);
+        updateFilteredEateryList(eatery -> matches.contains(eatery) || isFiltered.get() && predicate.test(eatery));
+        isFiltered.set(true);
+    }
+
     //=========== Active Review Accessors =============================================================
 
     /**
@@ -195,6 +263,50 @@ public class ModelManager implements Model {
         activeReviews.addAll(reviews);
     }
 
+    //=========== Feed Post Accessors ====================================================================
+
+    @Override
+    public ObservableList<FeedPost> getFeedPostList() {
+        return unmodifiableFeedPosts;
+    }
+
+    @Override
+    public ObservableList<FeedPost> getActiveFeedPosts() {
+        return unmodifiableActiveFeedPosts;
+    }
+
+    @Override
+    public void updateFeedPosts(Collection<? extends FeedPost> added, Collection<? extends FeedPost> removed) {
+        requireAllNonNull(added, removed);
+        if (!removed.isEmpty()) {
+            feedPosts.removeAll(new HashSet<>(removed));
+        }
+        Set<FeedPost> present = new HashSet<>(feedPosts);
+        feedPosts.addAll(added.stream().filter(present::add).collect(Collectors.toList()));
+        feedPostLinks.updatePosts(added, removed);
+        updateActiveFeedPosts();
+    }
+
+    /**
+     * Removes the posts of {@code feed}, which is no longer in the feed list.
+     */
+    private void removeFeedPosts(Feed feed) {
+        List<FeedPost> posts = feedPosts.stream()
+                .filter(post -> post.getSource().equals(feed.getName()))
+                .collect(Collectors.toList());
+        updateFeedPosts(List.of(), posts);
+    }
+
+    /**
+     * Replaces the active feed posts with the feed posts that mention the active eatery, if they differ.
+     */
+    private void updateActiveFeedPosts() {
+        List<FeedPost> posts = activeEatery == null ? List.of() : feedPostLinks.getPosts(activeEatery);
+        if (!activeFeedPosts.equals(posts)) {
+            activeFeedPosts.setAll(posts);
+        }
+    }
+
     //=========== General =============================================================
 
     @Override
@@ -209,6 +321,18 @@ public class ModelManager implements Model {
 
     //=========== FeedList ================================================================================
 
+    /**
+     * Makes the post archive of every feed keep as many posts, for as long, as the user prefs ask for.
+     */
+    private void applyFeedPostRetention() {
+        feedList.getFeedList().forEach(this::applyFeedPostRetention);
+    }
+
+    private void applyFeedPostRetention(Feed feed) {
+        feed.getPostArchive().setRetention(userPrefs.getFeedPostRetentionCount(),
+                userPrefs.getFeedPostRetentionAge());
+    }
+
     @Override
     public void setFeedList(ReadOnlyFeedList feedList) {
         this.feedList.resetData(feedList);
@@ -252,6 +376,37 @@ public class ModelManager implements Model {
     public Statistics getStatistics() {
         return stats;
     }
+
+    @Override
+    public StatisticsTracker getStatisticsTracker() {
+        return eateryList.getStatisticsTracker();
+    }
+
+    //=========== Feed Refresh Status ======================================================================
+    @Override
+    public void setFeedRefreshScheduler(FeedRefreshScheduler feedRefreshScheduler) {
+        requireNonNull(feedRefreshScheduler);
+        this.feedRefreshScheduler = feedRefreshScheduler;
+    }
+
+    @Override
+    public Optional<FeedRefreshStatus> getFeedRefreshStatus(Feed feed) {
+        requireNonNull(feed);
+        return feedRefreshScheduler == null ? Optional.empty() : feedRefreshScheduler.getStatus(feed);
+    }
+
+    //=========== Command Metrics ==========================================================================
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    //=========== Change History ===========================================================================
+    @Override
+    public ChangeHistory getChangeHistory() {
+        return changeHistory;
+    }
+
     //=========== Utilities ================================================================================
 
     @Override
@@ -19,4 +19,10 @@ public interface ReadOnlyEateryList {
      * This list will not contain any duplicate todos.
      */
     ObservableList<Eatery> getTodoList();
+
+    /**
+     * Returns the version of the eateries and todos, which changes whenever either of them is changed.
+     * The mode of the list is not part of the version, as it is not saved.
+     */
+    long getVersion();
 }
@@ -14,4 +14,8 @@ public interface ReadOnlyFeedList {
      */
     ObservableList<Feed> getFeedList();
 
+    /**
+     * Returns the version of the feed list, which changes whenever the feed list is changed.
+     */
+    long getVersion();
 }
@@ -1,6 +1,7 @@
 package seedu.eatme.model;
 
 import java.nio.file.Path;
+import java.time.Duration;
 
 import seedu.eatme.commons.core.GuiSettings;
 
@@ -15,4 +16,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getFeedListFilePath();
 
+    boolean isEateryListJournaled();
+
+    boolean isEateryListBinary();
+
+    boolean isSavedInBackground();
+
+    int getUndoHistoryDepth();
+
+    int getFeedPostRetentionCount();
+
+    Duration getFeedPostRetentionAge();
+
 }
@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Objects;
 
 import seedu.eatme.commons.core.GuiSettings;
+import seedu.eatme.model.feed.FeedPostArchive;
+import seedu.eatme.model.history.ChangeHistory;
 
 /**
  * Represents User's preferences.
@@ -16,6 +19,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path eateryListFilePath = Paths.get("data", System.getProperty("user.name") + ".json");
     private Path feedListFilePath = Paths.get("data", "feedlist.json");
+    private boolean isEateryListJournaled = false;
+    private boolean isEateryListBinary = false;
+    private boolean isSavedInBackground = false;
+    private int undoHistoryDepth = ChangeHistory.DEFAULT_MAX_DEPTH;
+    private int feedPostRetentionCount = FeedPostArchive.DEFAULT_MAX_POSTS;
+    private Duration feedPostRetentionAge = FeedPostArchive.DEFAULT_MAX_AGE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +48,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setEateryListFilePath(newUserPrefs.getEateryListFilePath());
         setFeedListFilePath(newUserPrefs.getFeedListFilePath());
+        setEateryListJournaled(newUserPrefs.isEateryListJournaled());
+        setEateryListBinary(newUserPrefs.isEateryListBinary());
+        setSavedInBackground(newUserPrefs.isSavedInBackground());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setFeedPostRetentionCount(newUserPrefs.getFeedPostRetentionCount());
+        setFeedPostRetentionAge(newUserPrefs.getFeedPostRetentionAge());
     }
 
     public GuiSettings getGuiSettings() {
@@ -68,6 +83,64 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.feedListFilePath = feedListFilePath;
     }
 
+    public boolean isEateryListJournaled() {
+        return isEateryListJournaled;
+    }
+
+    public void setEateryListJournaled(boolean isEateryListJournaled) {
+        this.isEateryListJournaled = isEateryListJournaled;
+    }
+
+    public boolean isEateryListBinary() {
+        return isEateryListBinary;
+    }
+
+    public void setEateryListBinary(boolean isEateryListBinary) {
+        this.isEateryListBinary = isEateryListBinary;
+    }
+
+    public boolean isSavedInBackground() {
+        return isSavedInBackground;
+    }
+
+    public void setSavedInBackground(boolean isSavedInBackground) {
+        this.isSavedInBackground = isSavedInBackground;
+    }
+
+    /**
+     * Returns the number of commands that can be undone, or zero if undo is turned off.
+     */
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = Math.max(undoHistoryDepth, 0);
+    }
+
+    /**
+     * Returns the number of posts kept for each feed.
+     */
+    public int getFeedPostRetentionCount() {
+        return feedPostRetentionCount;
+    }
+
+    public void setFeedPostRetentionCount(int feedPostRetentionCount) {
+        this.feedPostRetentionCount = Math.max(feedPostRetentionCount, 0);
+    }
+
+    /**
+     * Returns how long a post is kept for after it was last seen in its feed.
+     */
+    public Duration getFeedPostRetentionAge() {
+        return feedPostRetentionAge;
+    }
+
+    public void setFeedPostRetentionAge(Duration feedPostRetentionAge) {
+        requireNonNull(feedPostRetentionAge);
+        this.feedPostRetentionAge = feedPostRetentionAge.isNegative() ? Duration.ZERO : feedPostRetentionAge;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -81,12 +154,20 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && eateryListFilePath.equals(o.eateryListFilePath)
-                && feedListFilePath.equals(o.feedListFilePath);
+                && feedListFilePath.equals(o.feedListFilePath)
+                && isEateryListJournaled == o.isEateryListJournaled
+                && isEateryListBinary == o.isEateryListBinary
+                && isSavedInBackground == o.isSavedInBackground
+                && undoHistoryDepth == o.undoHistoryDepth
+                && feedPostRetentionCount == o.feedPostRetentionCount
+                && feedPostRetentionAge.equals(o.feedPostRetentionAge);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, eateryListFilePath, feedListFilePath);
+        return Objects.hash(guiSettings, eateryListFilePath, feedListFilePath, isEateryListJournaled,
+                isEateryListBinary, isSavedInBackground, undoHistoryDepth, feedPostRetentionCount,
+                feedPostRetentionAge);
     }
 
     @Override
@@ -95,6 +176,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + eateryListFilePath);
         sb.append("\nLocal feed file location : " + feedListFilePath);
+        sb.append("\nJournaled data file : " + isEateryListJournaled);
+        sb.append("\nBinary data file : " + isEateryListBinary);
+        sb.append("\nSaved in background : " + isSavedInBackground);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nFeed posts kept : " + feedPostRetentionCount);
+        sb.append("\nFeed posts kept for : " + feedPostRetentionAge);
         return sb.toString();
     }
 
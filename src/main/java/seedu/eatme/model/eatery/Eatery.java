@@ -22,6 +22,7 @@ public class Eatery {
     private final Address address;
     private final Category category;
     private final List<Review> reviews = new ArrayList<>();
+    private double totalExpense = 0;
     private Set<Tag> tags = new HashSet<>();
 
     /**
@@ -48,7 +49,7 @@ public class Eatery {
         this.isOpen = true;
         this.address = address;
         this.tags = tags;
-        this.category = new Category("Not Applicable");
+        this.category = Category.create("Not Applicable");
     }
 
     /**
@@ -82,8 +83,13 @@ public class Eatery {
 
     public void addReview(Review review) {
         reviews.add(review);
+        totalExpense = totalExpense + review.getCost();
     }
 
+    /**
+     * Returns the reviews of this eatery.
+     * Reviews should only be changed through {@link #addReview(Review)} and {@link #setReviews(List)}.
+     */
     public List<Review> getReviews() {
         return reviews;
     }
@@ -93,17 +99,21 @@ public class Eatery {
     }
 
     public double getTotalExpense() {
-        double totalExpenditure = 0;
-        for (Review r : reviews) {
-            totalExpenditure = totalExpenditure + r.getCost();
-        }
-
-        return totalExpenditure;
+        return totalExpense;
     }
 
+    /**
+     * Replaces the reviews of this eatery with {@code reviews}.
+     */
     public void setReviews(List<Review> reviews) {
+        List<Review> replacement = new ArrayList<>(reviews);
         this.reviews.clear();
-        this.reviews.addAll(reviews);
+        this.reviews.addAll(replacement);
+
+        totalExpense = 0;
+        for (Review r : replacement) {
+            totalExpense = totalExpense + r.getCost();
+        }
     }
 
     /**
@@ -10,6 +10,10 @@ import seedu.eatme.commons.util.StringUtil;
 /**
  * Tests that a {@code Eatery}'s attributes ({@code Name}, {@code Address}, {@code Category}, {@code Tags})
  * matches any of the keywords given.
+ *
+ * Name and address keywords match parts of the name or address, and category and tag keywords match whole words,
+ * ignoring case. A blank keyword, or a category or tag keyword of more than one word, matches no eatery instead of
+ * failing the whole search, so that the predicate agrees with the {@link EateryKeywordIndex} that answers it.
  */
 public class EateryAttributesContainsKeywordsPredicate implements Predicate<Eatery> {
     private final List<String> nameKeywords;
@@ -32,21 +36,45 @@ public class EateryAttributesContainsKeywordsPredicate implements Predicate<Eate
         this.tagKeywords = new ArrayList<>();
     }
 
+    public List<String> getNameKeywords() {
+        return nameKeywords;
+    }
+
+    public List<String> getAddressKeywords() {
+        return addressKeywords;
+    }
+
+    public List<String> getCategoryKeywords() {
+        return categoryKeywords;
+    }
+
+    public List<String> getTagKeywords() {
+        return tagKeywords;
+    }
+
     @Override
     public boolean test(Eatery eatery) {
-        boolean nameMatch = !nameKeywords.isEmpty() && nameKeywords.stream()
+        boolean nameMatch = nameKeywords.stream().filter(keyword -> !keyword.isBlank())
                 .anyMatch(keyword -> StringUtil.containsStringIgnoreCase(eatery.getName().fullName, keyword));
-        boolean addressMatch = !addressKeywords.isEmpty() && addressKeywords.stream()
+        boolean addressMatch = addressKeywords.stream().filter(keyword -> !keyword.isBlank())
                 .anyMatch(keyword -> StringUtil.containsStringIgnoreCase(eatery.getAddress().value, keyword));
-        boolean categoryMatch = !categoryKeywords.isEmpty() && categoryKeywords.stream()
+        boolean categoryMatch = categoryKeywords.stream().filter(EateryAttributesContainsKeywordsPredicate::isWord)
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(eatery.getCategory().getName(), keyword));
-        boolean tagMatch = !tagKeywords.isEmpty() && tagKeywords.stream()
+        boolean tagMatch = tagKeywords.stream().filter(EateryAttributesContainsKeywordsPredicate::isWord)
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
                         eatery.getTags().stream().map(Tag::getName).collect(Collectors.joining(" ")), keyword));
 
         return nameMatch || addressMatch || categoryMatch || tagMatch;
     }
 
+    /**
+     * Blank or multi-word category and tag keywords match nothing, as they do in {@link EateryKeywordIndex}.
+     */
+    private static boolean isWord(String keyword) {
+        String word = keyword.trim();
+        return !word.isEmpty() && word.split("\\s+").length == 1;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
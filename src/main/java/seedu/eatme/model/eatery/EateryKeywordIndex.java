@@ -0,0 +1,199 @@
+package seedu.eatme.model.eatery;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.eatme.commons.util.StringUtil;
+
+/**
+ * An inverted index over the {@code Name} and {@code Address} of a list of eateries.
+ * The index listens to changes of the given list and updates its posting lists incrementally.
+ *
+ * Names and addresses are indexed by their n-grams (up to {@link #GRAM_LENGTH} characters) so that substring
+ * searches only need to verify a small set of candidates. Categories and tags are looked up in an
+ * {@link EateryTagIndex} over the same list.
+ *
+ * @see EateryAttributesContainsKeywordsPredicate
+ */
+public class EateryKeywordIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Eatery>> nameGrams = new HashMap<>();
+    private final Map<String, Set<Eatery>> addressGrams = new HashMap<>();
+    private final EateryTagIndex tagIndex;
+
+    /**
+     * Creates an index over {@code eateries} that is kept in sync with the list.
+     * {@code tagIndex} must be an index over the same list.
+     */
+    public EateryKeywordIndex(ObservableList<Eatery> eateries, EateryTagIndex tagIndex) {
+        requireAllNonNull(eateries, tagIndex);
+        this.tagIndex = tagIndex;
+        eateries.forEach(this::index);
+        eateries.addListener(this::update);
+    }
+
+    /**
+     * Returns the eateries that are matched by {@code predicate}, without testing every eatery in the list.
+     * The returned set compares eateries by reference.
+     */
+    public Set<Eatery> find(EateryAttributesContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Eatery> matches = newEaterySet();
+
+        for (String keyword : predicate.getNameKeywords()) {
+            for (Eatery e : findSubstring(nameGrams, keyword)) {
+                if (StringUtil.containsStringIgnoreCase(e.getName().fullName, keyword)) {
+                    matches.add(e);
+                }
+            }
+        }
+        for (String keyword : predicate.getAddressKeywords()) {
+            for (Eatery e : findSubstring(addressGrams, keyword)) {
+                if (StringUtil.containsStringIgnoreCase(e.getAddress().value, keyword)) {
+                    matches.add(e);
+                }
+            }
+        }
+        Set<Category> categories = new HashSet<>();
+        for (String keyword : predicate.getCategoryKeywords()) {
+            categories.addAll(tagIndex.getCategoriesWithWord(keyword));
+        }
+        Set<Tag> tags = new HashSet<>();
+        for (String keyword : predicate.getTagKeywords()) {
+            tags.addAll(tagIndex.getTagsNamed(keyword));
+        }
+        BitSet slots = tagIndex.withCategories(categories);
+        slots.or(tagIndex.withTags(tags, false));
+        matches.addAll(tagIndex.getEateries(slots));
+
+        return matches;
+    }
+
+    /**
+     * Applies a change of the indexed list to the posting lists.
+     */
+    private void update(ListChangeListener.Change<? extends Eatery> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::unindex);
+            change.getAddedSubList().forEach(this::index);
+        }
+    }
+
+    private void index(Eatery eatery) {
+        grams(eatery.getName().fullName).forEach(gram -> post(nameGrams, gram, eatery));
+        grams(eatery.getAddress().value).forEach(gram -> post(addressGrams, gram, eatery));
+    }
+
+    private void unindex(Eatery eatery) {
+        grams(eatery.getName().fullName).forEach(gram -> unpost(nameGrams, gram, eatery));
+        grams(eatery.getAddress().value).forEach(gram -> unpost(addressGrams, gram, eatery));
+    }
+
+    /**
+     * Returns the candidates that may contain {@code keyword} as a substring.
+     * Candidates still have to be verified when the keyword is longer than {@link #GRAM_LENGTH}.
+     */
+    private static Set<Eatery> findSubstring(Map<String, Set<Eatery>> postings, String keyword) {
+        String search = fold(keyword.trim());
+        if (search.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (search.length() <= GRAM_LENGTH) {
+            return postings.getOrDefault(search, Collections.emptySet());
+        }
+
+        Set<Eatery> smallest = null;
+        List<String> queryGrams = List.copyOf(fixedLengthGrams(search));
+        for (String gram : queryGrams) {
+            Set<Eatery> posting = postings.getOrDefault(gram, Collections.emptySet());
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+
+        Set<Eatery> candidates = newEaterySet();
+        for (Eatery e : smallest) {
+            if (queryGrams.stream().allMatch(gram -> postings.get(gram).contains(e))) {
+                candidates.add(e);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns all distinct n-grams of {@code value} of length 1 to {@link #GRAM_LENGTH}.
+     */
+    private static Set<String> grams(String value) {
+        String folded = fold(value);
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < folded.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, folded.length()); end++) {
+                grams.add(folded.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Returns all distinct n-grams of {@code value} that are exactly {@link #GRAM_LENGTH} long.
+     */
+    private static Set<String> fixedLengthGrams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= value.length(); start++) {
+            grams.add(value.substring(start, start + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Folds the case of every character in {@code value} the same way {@code String#equalsIgnoreCase} does,
+     * without changing the length of the string.
+     * This is how tag and category words are compared by the predicate. Name and address candidates are folded
+     * more loosely than the predicate's ASCII-only substring match, so they are verified with that match.
+     */
+    static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static void post(Map<String, Set<Eatery>> postings, String key, Eatery eatery) {
+        postings.computeIfAbsent(key, unused -> newEaterySet()).add(eatery);
+    }
+
+    private static void unpost(Map<String, Set<Eatery>> postings, String key, Eatery eatery) {
+        Set<Eatery> posting = postings.get(key);
+        if (posting == null) {
+            return;
+        }
+        posting.remove(eatery);
+        if (posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * Eateries are kept by reference, as {@code Eatery#hashCode()} covers the mutable reviews.
+     */
+    private static Set<Eatery> newEaterySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,224 @@
+package seedu.eatme.model.eatery;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * An Aho-Corasick automaton over the {@code Name} of eateries, that finds every eatery whose name is mentioned in a
+ * text in a single pass over the text, however many eateries there are.
+ *
+ * Names and texts are normalized before they are matched: letters are lower cased, and every run of characters that
+ * are not letters or digits is treated as a single space. A name only matches whole words of a text, so "Kfc" is
+ * mentioned in "Kfc's new burger" but not in "Kfcs".
+ *
+ * The trie of names is updated in place as eateries are added and removed. The failure links of the automaton depend
+ * on the whole trie, so they are recomputed once before the first match that follows a batch of changes. Replacing an
+ * eatery by one with the same normalized name does not change the trie, so it keeps the links.
+ */
+public class EateryNameMatcher {
+
+    private static final char SEPARATOR = ' ';
+
+    private final Node root = new Node();
+    private boolean hasStaleLinks;
+
+    /**
+     * Adds {@code eatery} to the eateries matched by this matcher.
+     */
+    public void add(Eatery eatery) {
+        requireNonNull(eatery);
+        Node node = root;
+        for (char c : pattern(eatery).toCharArray()) {
+            node = node.children.computeIfAbsent(c, key -> new Node());
+        }
+        node.eateries.add(eatery);
+        hasStaleLinks = true;
+    }
+
+    /**
+     * Removes {@code eatery} from the eateries matched by this matcher, if it is one of them.
+     */
+    public void remove(Eatery eatery) {
+        requireNonNull(eatery);
+        String pattern = pattern(eatery);
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        for (char c : pattern.toCharArray()) {
+            path.add(node);
+            node = node.children.get(c);
+            if (node == null) {
+                return;
+            }
+        }
+        if (!node.eateries.remove(eatery)) {
+            return;
+        }
+
+        // prunes the branch of the trie that no longer leads to any name
+        for (int i = path.size() - 1; i >= 0 && node.eateries.isEmpty() && node.children.isEmpty(); i--) {
+            path.get(i).children.remove(pattern.charAt(i));
+            node = path.get(i);
+        }
+        hasStaleLinks = true;
+    }
+
+    /**
+     * Puts {@code replacement} in the place of {@code eatery}, if {@code eatery} is matched by this matcher and
+     * both names have the same normalized form. The trie and its links are left as they are.
+     *
+     * @return true if {@code eatery} was replaced.
+     */
+    public boolean replace(Eatery eatery, Eatery replacement) {
+        requireNonNull(eatery);
+        requireNonNull(replacement);
+        String pattern = pattern(eatery);
+        if (!pattern.equals(pattern(replacement))) {
+            return false;
+        }
+        Node node = root;
+        for (int i = 0; i < pattern.length() && node != null; i++) {
+            node = node.children.get(pattern.charAt(i));
+        }
+        if (node == null || !node.eateries.remove(eatery)) {
+            return false;
+        }
+        node.eateries.add(replacement);
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return root.children.isEmpty();
+    }
+
+    /**
+     * Returns the eateries whose names are mentioned in {@code text}.
+     * The returned set compares eateries by reference.
+     */
+    public Set<Eatery> match(CharSequence text) {
+        requireNonNull(text);
+        Set<Eatery> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (isEmpty()) {
+            return matches;
+        }
+        if (hasStaleLinks) {
+            linkNodes();
+        }
+
+        Node state = step(root, SEPARATOR, matches);
+        boolean isAfterSeparator = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                state = step(state, Character.toLowerCase(c), matches);
+                isAfterSeparator = false;
+            } else if (!isAfterSeparator) {
+                state = step(state, SEPARATOR, matches);
+                isAfterSeparator = true;
+            }
+        }
+        if (!isAfterSeparator) {
+            step(state, SEPARATOR, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the normalized form of {@code text}.
+     */
+    public static String normalize(String text) {
+        requireNonNull(text);
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            } else if (normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != SEPARATOR) {
+                normalized.append(SEPARATOR);
+            }
+        }
+        int end = normalized.length();
+        if (end > 0 && normalized.charAt(end - 1) == SEPARATOR) {
+            normalized.setLength(end - 1);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Returns the string that the name of {@code eatery} is stored as in the trie, which is bounded by separators
+     * so that only whole words are matched.
+     */
+    private static String pattern(Eatery eatery) {
+        return SEPARATOR + normalize(eatery.getName().fullName) + SEPARATOR;
+    }
+
+    /**
+     * Moves the automaton from {@code state} on {@code c}, adding the eateries whose names end there to
+     * {@code matches}.
+     */
+    private Node step(Node state, char c, Set<Eatery> matches) {
+        Node next = state.children.get(c);
+        while (next == null && state != root) {
+            state = state.failure;
+            next = state.children.get(c);
+        }
+        if (next == null) {
+            return root;
+        }
+
+        for (Node output = next; output != null; output = output.output) {
+            matches.addAll(output.eateries);
+        }
+        return next;
+    }
+
+    /**
+     * Recomputes the failure and output links of every node of the trie, breadth first.
+     */
+    private void linkNodes() {
+        Queue<Node> queue = new ArrayDeque<>();
+        root.failure = root;
+        root.output = null;
+        for (Node child : root.children.values()) {
+            child.failure = root;
+            child.output = null;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            node.children.forEach((c, child) -> {
+                Node failure = node.failure;
+                while (failure != root && !failure.children.containsKey(c)) {
+                    failure = failure.failure;
+                }
+                Node target = failure.children.get(c);
+                child.failure = target == null || target == child ? root : target;
+                child.output = child.failure.eateries.isEmpty() ? child.failure.output : child.failure;
+                queue.add(child);
+            });
+        }
+        hasStaleLinks = false;
+    }
+
+    /**
+     * A node of the trie, that stands for the string spelled by the path from the root to it.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        /** The eateries whose names end at this node. */
+        private final Set<Eatery> eateries = Collections.newSetFromMap(new IdentityHashMap<>());
+        /** The node of the longest proper suffix of this node that is in the trie. */
+        private Node failure;
+        /** The nearest node along the failure links that has eateries, if any. */
+        private Node output;
+    }
+}
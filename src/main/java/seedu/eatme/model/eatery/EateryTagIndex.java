@@ -0,0 +1,236 @@
+package seedu.eatme.model.eatery;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A bitmap index over the {@code Tags} and {@code Category} of a list of eateries.
+ *
+ * Every eatery in the list is given a slot, and every interned tag and category id (see {@link Tag#create(String)}
+ * and {@link Category#create(String)}) keeps a bitmap of the slots of the eateries it belongs to. Tag and category
+ * filters, and their any-of and all-of combinations, are then answered by combining bitmaps. The tag and category
+ * keywords of {@code find} are resolved to the tags and categories they name and go through the same filters.
+ * Slots are kept for as long as the eatery is in the list and are reused after it is removed, so edits of a single
+ * eatery only touch the bitmaps of that eatery. An id and its name are dropped once no eatery in the list has it.
+ */
+public class EateryTagIndex {
+
+    private final List<Eatery> slots = new ArrayList<>();
+    private final Map<Eatery, Integer> slotOf = new IdentityHashMap<>();
+    private final BitSet freeSlots = new BitSet();
+
+    private final Map<Integer, BitSet> tagBitmaps = new HashMap<>();
+    private final Map<Integer, BitSet> categoryBitmaps = new HashMap<>();
+    private final Map<String, Set<Tag>> tagsByName = new HashMap<>();
+    private final Map<String, Set<Category>> categoriesByWord = new HashMap<>();
+
+    /**
+     * Creates an index over {@code eateries} that is kept in sync with the list.
+     */
+    public EateryTagIndex(ObservableList<Eatery> eateries) {
+        requireNonNull(eateries);
+        eateries.forEach(this::index);
+        eateries.addListener(this::update);
+    }
+
+    /**
+     * Returns the slots of the eateries with any of {@code tags} if {@code matchAll} is false,
+     * or with all of {@code tags} otherwise.
+     */
+    public BitSet withTags(Collection<Tag> tags, boolean matchAll) {
+        requireNonNull(tags);
+        List<BitSet> bitmaps = new ArrayList<>();
+        for (Tag tag : tags) {
+            bitmaps.add(tagBitmaps.getOrDefault(idOf(tag), new BitSet()));
+        }
+        return matchAll ? and(bitmaps) : or(bitmaps);
+    }
+
+    /**
+     * Returns the slots of the eateries in any of {@code categories}.
+     */
+    public BitSet withCategories(Collection<Category> categories) {
+        requireNonNull(categories);
+        List<BitSet> bitmaps = new ArrayList<>();
+        for (Category category : categories) {
+            bitmaps.add(categoryBitmaps.getOrDefault(idOf(category), new BitSet()));
+        }
+        return or(bitmaps);
+    }
+
+    /**
+     * Returns the tags in the list that are named {@code keyword}, ignoring case.
+     * A blank or multi-word keyword names no tag.
+     */
+    public Set<Tag> getTagsNamed(String keyword) {
+        requireNonNull(keyword);
+        return lookup(tagsByName, keyword);
+    }
+
+    /**
+     * Returns the categories in the list that contain the word {@code keyword}, ignoring case.
+     * A blank or multi-word keyword is contained in no category.
+     */
+    public Set<Category> getCategoriesWithWord(String keyword) {
+        requireNonNull(keyword);
+        return lookup(categoriesByWord, keyword);
+    }
+
+    /**
+     * Returns the eateries in {@code slots}. The returned set compares eateries by reference.
+     */
+    public Set<Eatery> getEateries(BitSet slots) {
+        requireNonNull(slots);
+        Set<Eatery> eateries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            if (slot < this.slots.size() && this.slots.get(slot) != null) {
+                eateries.add(this.slots.get(slot));
+            }
+        }
+        return eateries;
+    }
+
+    private void update(ListChangeListener.Change<? extends Eatery> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::unindex);
+            change.getAddedSubList().forEach(this::index);
+        }
+    }
+
+    private void index(Eatery eatery) {
+        int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.nextSetBit(0);
+        if (slot == slots.size()) {
+            slots.add(eatery);
+        } else {
+            slots.set(slot, eatery);
+            freeSlots.clear(slot);
+        }
+        slotOf.put(eatery, slot);
+
+        for (Tag tag : eatery.getTags()) {
+            tagBitmaps.computeIfAbsent(idOf(tag), unused -> new BitSet()).set(slot);
+            tagsByName.computeIfAbsent(EateryKeywordIndex.fold(tag.getName()), unused -> new HashSet<>())
+                    .add(tag);
+        }
+        Category category = eatery.getCategory();
+        categoryBitmaps.computeIfAbsent(idOf(category), unused -> new BitSet()).set(slot);
+        for (String word : category.getName().split("\\s+")) {
+            categoriesByWord.computeIfAbsent(EateryKeywordIndex.fold(word), unused -> new HashSet<>())
+                    .add(category);
+        }
+    }
+
+    private void unindex(Eatery eatery) {
+        Integer slot = slotOf.remove(eatery);
+        if (slot == null) {
+            return;
+        }
+        slots.set(slot, null);
+        freeSlots.set(slot);
+
+        for (Tag tag : eatery.getTags()) {
+            if (clear(tagBitmaps, idOf(tag), slot)) {
+                forget(tagsByName, EateryKeywordIndex.fold(tag.getName()), tag);
+            }
+        }
+        Category category = eatery.getCategory();
+        if (clear(categoryBitmaps, idOf(category), slot)) {
+            for (String word : category.getName().split("\\s+")) {
+                forget(categoriesByWord, EateryKeywordIndex.fold(word), category);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tag names and category words that the index can look up.
+     */
+    int getKeywordCount() {
+        return tagsByName.size() + categoriesByWord.size();
+    }
+
+    /**
+     * Returns the tags or categories that {@code keyword} maps to.
+     */
+    private static <T> Set<T> lookup(Map<String, Set<T>> byWord, String keyword) {
+        String word = EateryKeywordIndex.fold(keyword.trim());
+        if (word.isEmpty() || word.split("\\s+").length != 1) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(byWord.getOrDefault(word, Collections.emptySet()));
+    }
+
+    /**
+     * Clears {@code slot} in the bitmap of {@code id}, and returns true if no slot is left, which drops the bitmap.
+     */
+    private static boolean clear(Map<Integer, BitSet> bitmaps, int id, int slot) {
+        BitSet bitmap = bitmaps.get(id);
+        if (bitmap == null) {
+            return false;
+        }
+        bitmap.clear(slot);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(id);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stops {@code key} from mapping to {@code value}, dropping the key once it maps to nothing.
+     */
+    private static <T> void forget(Map<String, Set<T>> byWord, String key, T value) {
+        Set<T> values = byWord.get(key);
+        if (values == null) {
+            return;
+        }
+        values.remove(value);
+        if (values.isEmpty()) {
+            byWord.remove(key);
+        }
+    }
+
+    private static BitSet or(List<BitSet> bitmaps) {
+        BitSet result = new BitSet();
+        bitmaps.forEach(result::or);
+        return result;
+    }
+
+    /**
+     * Returns the intersection of {@code bitmaps}, which is empty if there are no bitmaps.
+     */
+    private static BitSet and(List<BitSet> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return new BitSet();
+        }
+        BitSet result = (BitSet) bitmaps.get(0).clone();
+        bitmaps.forEach(result::and);
+        return result;
+    }
+
+    /**
+     * Tags and categories built with their constructors are not interned, so the interned id is looked up by name.
+     */
+    private static int idOf(Tag tag) {
+        return Tag.create(tag.getName()).getId();
+    }
+
+    private static int idOf(Category category) {
+        return Category.create(category.getName()).getId();
+    }
+}
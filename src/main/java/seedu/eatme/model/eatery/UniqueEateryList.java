@@ -3,10 +3,16 @@ package seedu.eatme.model.eatery;
 import static java.util.Objects.requireNonNull;
 import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.eatme.model.eatery.exceptions.DuplicateEateryException;
 import seedu.eatme.model.eatery.exceptions.EateryNotFoundException;
@@ -18,6 +24,10 @@ import seedu.eatme.model.eatery.exceptions.EateryNotFoundException;
  * unique in terms of identity in the UniqueEateryList. However, the removal of a eatery uses Eatery#equals(Object) so
  * as to ensure that the eatery with exactly the same fields will be removed.
  *
+ * Identities of the eateries in the list are additionally kept in a hash index, so that uniqueness checks do not
+ * need to scan the whole list, and the position of every eatery is kept by reference, so that an eatery changed in
+ * place can be refreshed without looking for it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Eatery#isSameEatery(Eatery)
@@ -27,13 +37,29 @@ public class UniqueEateryList implements Iterable<Eatery> {
     private final ObservableList<Eatery> internalList = FXCollections.observableArrayList();
     private final ObservableList<Eatery> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Identity> identities = new HashSet<>();
+    private final Map<Eatery, Integer> positions = new IdentityHashMap<>();
+    private final EateryTagIndex tagIndex = new EateryTagIndex(internalList);
+    private final EateryKeywordIndex keywordIndex = new EateryKeywordIndex(internalList, tagIndex);
+
+    public UniqueEateryList() {
+        internalList.addListener(this::updatePositions);
+    }
 
     /**
      * Returns true if the list contains an equivalent eatery as the given argument.
      */
     public boolean contains(Eatery toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEatery);
+        return identities.contains(new Identity(toCheck));
+    }
+
+    /**
+     * Returns the eateries in the list that are matched by {@code predicate}, looked up in the keyword index.
+     */
+    public Set<Eatery> find(EateryAttributesContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return keywordIndex.find(predicate);
     }
 
     /**
@@ -46,6 +72,28 @@ public class UniqueEateryList implements Iterable<Eatery> {
             throw new DuplicateEateryException();
         }
         internalList.add(toAdd);
+        identities.add(new Identity(toAdd));
+    }
+
+    /**
+     * Adds a eatery to the list at {@code index}.
+     * The eatery must not already exist in the list.
+     */
+    public void add(int index, Eatery toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateEateryException();
+        }
+        internalList.add(index, toAdd);
+        identities.add(new Identity(toAdd));
+    }
+
+    /**
+     * Returns the index of the equivalent eatery in the list, or -1 if there is none.
+     */
+    public int indexOf(Eatery toFind) {
+        requireNonNull(toFind);
+        return internalList.indexOf(toFind);
     }
 
     /**
@@ -66,6 +114,20 @@ public class UniqueEateryList implements Iterable<Eatery> {
         }
 
         internalList.set(index, editedEatery);
+        identities.remove(new Identity(target));
+        identities.add(new Identity(editedEatery));
+    }
+
+    /**
+     * Notifies the listeners of the list that {@code target} has been changed in place, e.g. its reviews.
+     * Nothing happens if {@code target} is not in the list.
+     */
+    public void refresh(Eatery target) {
+        requireNonNull(target);
+        Integer index = positions.get(target);
+        if (index != null) {
+            internalList.set(index, target);
+        }
     }
 
     /**
@@ -77,11 +139,14 @@ public class UniqueEateryList implements Iterable<Eatery> {
         if (!internalList.remove(toRemove)) {
             throw new EateryNotFoundException();
         }
+        identities.remove(new Identity(toRemove));
     }
 
     public void setEateries(UniqueEateryList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identities.clear();
+        identities.addAll(replacement.identities);
     }
 
     /**
@@ -95,6 +160,8 @@ public class UniqueEateryList implements Iterable<Eatery> {
         }
 
         internalList.setAll(eateries);
+        identities.clear();
+        eateries.forEach(eatery -> identities.add(new Identity(eatery)));
     }
 
     /**
@@ -121,17 +188,63 @@ public class UniqueEateryList implements Iterable<Eatery> {
         return internalList.hashCode();
     }
 
+    /**
+     * Moves the positions of the eateries that {@code change} has shifted. Replacements and permutations leave the
+     * rest of the list in place, so only additions and removals touch the positions after them.
+     */
+    private void updatePositions(ListChangeListener.Change<? extends Eatery> change) {
+        int from = internalList.size();
+        int to = 0;
+        boolean isResized = false;
+        while (change.next()) {
+            change.getRemoved().forEach(positions::remove);
+            from = Math.min(from, change.getFrom());
+            to = Math.max(to, change.getTo());
+            isResized |= change.getRemovedSize() != change.getAddedSize();
+        }
+        int end = isResized ? internalList.size() : Math.min(to, internalList.size());
+        for (int i = from; i < end; i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns true if {@code eateries} contains only unique eateries.
      */
     private boolean eateriesAreUnique(List<Eatery> eateries) {
-        for (int i = 0; i < eateries.size() - 1; i++) {
-            for (int j = i + 1; j < eateries.size(); j++) {
-                if (eateries.get(i).isSameEatery(eateries.get(j))) {
-                    return false;
-                }
+        Set<Identity> seen = new HashSet<>();
+        for (Eatery eatery : eateries) {
+            if (!seen.add(new Identity(eatery))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Hash key made up of the identity fields used by {@code Eatery#isSameEatery(Eatery)}.
+     * {@code Eatery#hashCode()} cannot be used directly as it also covers the mutable reviews.
+     */
+    private static class Identity {
+        private final Name name;
+        private final Address address;
+
+        Identity(Eatery eatery) {
+            this.name = eatery.getName();
+            this.address = eatery.getAddress();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Identity // instanceof handles nulls
+                    && name.equals(((Identity) other).name)
+                    && address.equals(((Identity) other).address));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, address);
+        }
+    }
 }
@@ -2,27 +2,33 @@ package seedu.eatme.model.feed;
 
 import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.util.HashSet;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Objects;
-import java.util.Scanner;
+import java.util.Optional;
 import java.util.Set;
-
-import org.jsoup.Jsoup;
+import javax.xml.stream.XMLStreamException;
 
 import seedu.eatme.commons.core.LogsCenter;
+import seedu.eatme.commons.core.metrics.FeedFetchEvent;
 
 /**
  * Represents a feed in the feed list.
  * Guarantees: details are present and not null, `name` and `address` field values are validated, immutable.
  */
 public class Feed {
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(10);
+
     private final String name;
     private final String address;
-    private final Set<FeedPost> posts = new HashSet<>();
+    private final FeedPostArchive postArchive = new FeedPostArchive();
+    private volatile String entityTag;
+    private volatile String lastModified;
+    private volatile Duration timeToLive;
 
     /**
      * Every field must be present and not null.
@@ -34,114 +40,116 @@ public class Feed {
     }
 
     /**
-     * Fetches the most recent 5 posts from this feed.
+     * Fetches the most recent 5 posts from this feed, with the default timeouts.
      *
-     * @return List of maximum 5 posts.
+     * @return The archived posts of this feed, including the fetched posts.
      */
     public Set<FeedPost> fetchPosts() {
-        String feedData = this.fetchFeedData();
+        return fetchPosts(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT);
+    }
 
-        if (feedData == null) {
-            return this.posts;
-        } else {
-            Set<FeedPost> feedPosts = this.parseFeedData(feedData);
-            return feedPosts;
+    /**
+     * Fetches the most recent 5 posts from this feed, giving up on the remote address if it cannot be connected to
+     * within {@code connectTimeout}, or does not send all its data within {@code readTimeout} once connected.
+     * This method first attempts to fetch posts from the feed's remote address and merge them into its archived
+     * posts. If unsuccessful, or if the remote address answers that the feed has not been modified since the last
+     * fetch, the archived posts are left as they are.
+     *
+     * @return The archived posts of this feed, including the fetched posts.
+     */
+    public Set<FeedPost> fetchPosts(Duration connectTimeout, Duration readTimeout) {
+        try {
+            refreshPosts(connectTimeout, readTimeout);
+        } catch (IOException ioe) {
+            LogsCenter.getLogger(Feed.class).warning(
+                    String.format("[Feed: %s] Failed to fetch remote feed data, using local cache: %s", name, ioe));
         }
+        return getPosts();
     }
 
     /**
-     * Fetches the feed's data as a String. This method first attempts to fetch data from the feed's remote
-     * address. If unsuccessful, it returns the cached feed data.
+     * Fetches the most recent 5 posts from this feed like {@link #fetchPosts(Duration, Duration)}, but fails instead
+     * of falling back on the archived posts if the remote address cannot be reached.
      *
-     * @return String representing the feed data.
+     * @return The posts added to and evicted from the archived posts of this feed.
+     * @throws IOException if the feed data could not be fetched, or is not a well-formed feed.
      */
-    public String fetchFeedData() {
-        StringBuilder feedData = new StringBuilder();
-        int matchCount = 0;
+    public FeedPostArchive.Delta refreshPosts(Duration connectTimeout, Duration readTimeout) throws IOException {
+        return refreshPosts(FeedHttpClient.getShared(), connectTimeout, readTimeout);
+    }
 
+    /**
+     * Fetches the most recent 5 posts from this feed with {@code client}, like
+     * {@link #refreshPosts(Duration, Duration)}. The fetch is recorded as a {@link FeedFetchEvent}.
+     */
+    FeedPostArchive.Delta refreshPosts(FeedHttpClient client, Duration connectTimeout, Duration readTimeout)
+            throws IOException {
+        FeedFetchEvent event = new FeedFetchEvent();
+        event.begin();
+        RemoteData remoteData = null;
         try {
-            // Fetch remote
-            URL url = new URL(address);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            BufferedReader in = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-
-            String titleBuffer = in.readLine();
-            String linkBuffer;
-
-            // Filter data
-            while (
-                    titleBuffer != null
-                            && (linkBuffer = in.readLine()) != null
-                            && matchCount < 5
-            ) {
-                titleBuffer = titleBuffer.strip();
-                linkBuffer = linkBuffer.strip();
-
-                if (titleBuffer.contains("<title>") && linkBuffer.contains("<link>")) {
-                    feedData.append(String.format("%s%n", titleBuffer));
-                    feedData.append(String.format("%s%n", linkBuffer));
-                    matchCount = matchCount + 1;
+            remoteData = this.fetchRemoteData(client, connectTimeout, readTimeout, !postArchive.isEmpty());
+        } finally {
+            if (event.shouldCommit()) {
+                event.setFeedName(name);
+                if (remoteData == null) {
+                    event.setStatus(FeedFetchEvent.STATUS_FAILED);
+                } else {
+                    event.setStatus(remoteData.isNotModified
+                            ? FeedFetchEvent.STATUS_NOT_MODIFIED
+                            : FeedFetchEvent.STATUS_MODIFIED);
+                    event.setBytes(remoteData.bytes);
                 }
-
-                titleBuffer = linkBuffer;
+                event.commit();
             }
+        }
 
-            // Cleanup
-            in.close();
-            conn.disconnect();
-
+        if (remoteData.isNotModified) {
             LogsCenter.getLogger(Feed.class).info(
-                    String.format("[Feed: %s] Successfully fetched remote feed data", name));
-        } catch (Exception e) {
-            LogsCenter.getLogger(Feed.class).warning(
-                    String.format("[Feed: %s] Failed to fetch remote feed data, using local cache", name));
+                    String.format("[Feed: %s] Remote feed data not modified, using local cache", name));
+            return FeedPostArchive.Delta.EMPTY;
         }
 
-
-        return feedData.length() == 0 ? null : feedData.toString();
+        this.timeToLive = remoteData.timeToLive;
+        FeedPostArchive.Delta delta = postArchive.merge(remoteData.posts, Instant.now());
+        if (!remoteData.posts.isEmpty()) {
+            this.setCacheValidators(remoteData.entityTag, remoteData.lastModified);
+        }
+        return delta;
     }
 
     /**
-     * Parses the raw feed data into a set of feed posts.
-     *
-     * @param feedData String representing the raw feed data.
-     * @return Set of feed posts.
+     * Fetches and parses the feed's data from its remote address, reading only as much of it as needed.
+     * If {@code isConditional} is true, the cache validators of the last fetch are sent along, so that the remote
+     * address can answer that the feed data has not been modified since instead of sending all of it again.
+     * The feed data is decoded with the charset named by the response headers, if any, and with the encoding
+     * declared by the feed itself otherwise.
      */
-    private Set<FeedPost> parseFeedData(String feedData) {
-        Set<FeedPost> feedPosts = new HashSet<>();
-
-        try {
-            Scanner sc = new Scanner(feedData);
-
-            String titleBuffer;
-            String linkBuffer;
-            String title;
-            String link;
-
-            while (sc.hasNextLine()
-                    && (titleBuffer = sc.nextLine()) != null
-                    && (linkBuffer = sc.nextLine()) != null
-            ) {
-                title = Jsoup.parse(titleBuffer).text()
-                        .replace("<title>", "").replace("</title>", "").strip();
-                link = Jsoup.parse(linkBuffer).text()
-                        .replace("<link>", "").replace("</link>", "").strip();
-
-                FeedPost feedPost = new FeedPost(name, title, link);
-                feedPosts.add(feedPost);
+    private RemoteData fetchRemoteData(FeedHttpClient client, Duration connectTimeout, Duration readTimeout,
+                                       boolean isConditional) throws IOException {
+        try (FeedHttpClient.Response response = client.fetch(address, isConditional ? entityTag : null,
+                isConditional ? lastModified : null, connectTimeout, readTimeout)) {
+            if (response.isNotModified()) {
+                return RemoteData.NOT_MODIFIED;
             }
 
-            sc.close();
-            this.setPosts(feedPosts);
-
+            FeedParser.ParsedFeed parsedFeed;
+            try {
+                parsedFeed = FeedParser.parseFeed(response.getBody(), response.getCharset().orElse(null), name,
+                        FeedParser.DEFAULT_MAX_POSTS);
+            } catch (XMLStreamException xse) {
+                // the parser wraps the error of a body that is too large to be read
+                if (xse.getNestedException() instanceof IOException) {
+                    throw (IOException) xse.getNestedException();
+                }
+                throw new IOException("Remote feed data is not a well-formed feed", xse);
+            }
             LogsCenter.getLogger(Feed.class).info(
-                    String.format("[Feed: %s] Successfully parsed feed posts and updated local cache", name));
-        } catch (Exception e) {
-            LogsCenter.getLogger(Feed.class).warning(
-                    String.format("[Feed: %s] Failed to parse feed posts", name));
+                    String.format("[Feed: %s] Successfully fetched and parsed remote feed data", name));
+            return new RemoteData(new LinkedHashSet<>(parsedFeed.getPosts()), parsedFeed.getTimeToLive().orElse(null),
+                    response.getEntityTag().orElse(null), response.getLastModified().orElse(null),
+                    response.getBytesRead());
         }
-
-        return feedPosts;
     }
 
     public String getName() {
@@ -153,13 +161,58 @@ public class Feed {
         return address;
     }
 
+    /**
+     * Replaces the archived posts of this feed with {@code posts}, as seen now.
+     */
     public void setPosts(Set<FeedPost> posts) {
-        this.posts.clear();
-        this.posts.addAll(posts);
+        postArchive.clear();
+        postArchive.merge(posts, Instant.now());
     }
 
+    /**
+     * Returns an unmodifiable copy of the archived posts of this feed, from the most to the least recently seen.
+     */
     public Set<FeedPost> getPosts() {
-        return posts;
+        return postArchive.getPosts();
+    }
+
+    /**
+     * Returns the archive of the posts of this feed, which is safe to use from any thread.
+     */
+    public FeedPostArchive getPostArchive() {
+        return postArchive;
+    }
+
+    /**
+     * Sets the {@code ETag} and {@code Last-Modified} response headers that came with the cached posts.
+     * Either may be null if the remote address did not send it.
+     */
+    public void setCacheValidators(String entityTag, String lastModified) {
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
+    }
+
+    public String getEntityTag() {
+        return entityTag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Sets how long the posts of this feed may be cached before they are refreshed, or null if the feed does not say.
+     */
+    void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Returns how long the posts of this feed may be cached before they are refreshed, as announced by the feed
+     * in its last fetch.
+     */
+    public Optional<Duration> getTimeToLive() {
+        return Optional.ofNullable(timeToLive);
     }
 
     /**
@@ -189,4 +242,32 @@ public class Feed {
     public String toString() {
         return String.format("%s: %s", getName(), getAddress());
     }
+
+    /**
+     * Posts fetched from the remote address of a feed, with its time-to-live and their cache validators.
+     */
+    private static class RemoteData {
+        static final RemoteData NOT_MODIFIED = new RemoteData(Collections.emptySet(), null, null, null, 0, true);
+
+        final Set<FeedPost> posts;
+        final Duration timeToLive;
+        final String entityTag;
+        final String lastModified;
+        final long bytes;
+        final boolean isNotModified;
+
+        RemoteData(Set<FeedPost> posts, Duration timeToLive, String entityTag, String lastModified, long bytes) {
+            this(posts, timeToLive, entityTag, lastModified, bytes, false);
+        }
+
+        private RemoteData(Set<FeedPost> posts, Duration timeToLive, String entityTag, String lastModified,
+                           long bytes, boolean isNotModified) {
+            this.posts = posts;
+            this.timeToLive = timeToLive;
+            this.entityTag = entityTag;
+            this.lastModified = lastModified;
+            this.bytes = bytes;
+            this.isNotModified = isNotModified;
+        }
+    }
 }
@@ -0,0 +1,374 @@
+package seedu.eatme.model.feed;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Fetches feed data over HTTP with clients that are shared by all feeds, so that connections to the same host are
+ * kept alive and reused across fetches, over HTTP/2 where the host supports it.
+ *
+ * Feed data is asked for compressed with gzip. The body of a response is received whole before the fetch returns,
+ * and the fetch fails if the headers and body do not all arrive within the connect and read timeouts together, so
+ * that a remote address that stalls midway cannot hold up the thread fetching it. The body is then decompressed as
+ * it is read. Both the body as received and its decompressed data may be at most {@code maxBytes} long: going past
+ * that fails, so that an oversized or maliciously compressed response cannot exhaust memory.
+ */
+public class FeedHttpClient {
+
+    public static final long DEFAULT_MAX_BYTES = 5 * 1024 * 1024;
+
+    private static final FeedHttpClient SHARED = new FeedHttpClient(DEFAULT_MAX_BYTES);
+    private static final Pattern CHARSET = Pattern.compile(";\\s*charset\\s*=\\s*\"?([^\";\\s]+)\"?",
+            Pattern.CASE_INSENSITIVE);
+
+    private final long maxBytes;
+    /** Clients by connect timeout, which can only be set on a whole client. */
+    private final Map<Duration, HttpClient> clients = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a fetcher that fails on responses longer than {@code maxBytes} once decompressed.
+     */
+    public FeedHttpClient(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Maximum size must not be negative");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the fetcher shared by all feeds.
+     */
+    public static FeedHttpClient getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Fetches the feed data at {@code address}. The cache validators {@code entityTag} and {@code lastModified} of
+     * an earlier fetch are sent along if they are not null, so that the remote address can answer that the data
+     * has not been modified since.
+     *
+     * @param connectTimeout how long to wait for a connection to the remote address.
+     * @param readTimeout how long to wait for the whole response, body included, once connected.
+     * @return the response, whose body must be closed by the caller.
+     * @throws IOException if the data cannot be fetched in time, or the remote address answers with an error.
+     */
+    public Response fetch(String address, String entityTag, String lastModified, Duration connectTimeout,
+                          Duration readTimeout) throws IOException {
+        requireAllNonNull(address, connectTimeout, readTimeout);
+        HttpRequest.Builder request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(address));
+        } catch (IllegalArgumentException iae) {
+            throw new IOException("Invalid feed address: " + address, iae);
+        }
+        Duration deadline = connectTimeout.plus(readTimeout);
+        request.timeout(deadline).header("Accept-Encoding", "gzip");
+        if (entityTag != null) {
+            request.header("If-None-Match", entityTag);
+        }
+        if (lastModified != null) {
+            request.header("If-Modified-Since", lastModified);
+        }
+
+        CompletableFuture<HttpResponse<byte[]>> pending = clientFor(connectTimeout)
+                .sendAsync(request.build(), this::toBodySubscriber);
+        HttpResponse<byte[]> response;
+        try {
+            response = pending.get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException te) {
+            pending.cancel(true);
+            throw new HttpTimeoutException("Timed out after " + deadline + " while fetching " + address);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException("Failed to fetch " + address, ee.getCause());
+        } catch (InterruptedException ie) {
+            pending.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching " + address);
+        }
+        return new Response(response, maxBytes);
+    }
+
+    /**
+     * Returns the subscriber that receives the body of a response with the given status and headers.
+     * The body of a response that is not successful is not kept.
+     */
+    private HttpResponse.BodySubscriber<byte[]> toBodySubscriber(HttpResponse.ResponseInfo info) {
+        if (info.statusCode() < 200 || info.statusCode() >= 300) {
+            return HttpResponse.BodySubscribers.replacing(new byte[0]);
+        }
+        return new BoundedBodySubscriber(info.headers().firstValueAsLong("Content-Length").orElse(-1), maxBytes);
+    }
+
+    private HttpClient clientFor(Duration connectTimeout) {
+        return clients.computeIfAbsent(connectTimeout, timeout -> HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(timeout)
+                .build());
+    }
+
+    /**
+     * Returns the charset named by the {@code Content-Type} header value {@code contentType}, if it names one.
+     */
+    static Optional<String> toCharset(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = CHARSET.matcher(contentType);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    /**
+     * A response to a fetch, with its body decompressed.
+     */
+    public static class Response implements AutoCloseable {
+        private final boolean isNotModified;
+        private final InputStream body;
+        private final BoundedInputStream boundedBody;
+        private final String charset;
+        private final String entityTag;
+        private final String lastModified;
+
+        private Response(HttpResponse<byte[]> response, long maxBytes) throws IOException {
+            int status = response.statusCode();
+            if (status == 304) {
+                this.isNotModified = true;
+                this.body = InputStream.nullInputStream();
+                this.boundedBody = null;
+                this.charset = null;
+                this.entityTag = null;
+                this.lastModified = null;
+                return;
+            }
+            if (status < 200 || status >= 300) {
+                throw new IOException("Server returned HTTP response code: " + status + " for URL: " + response.uri());
+            }
+
+            this.isNotModified = false;
+            this.boundedBody = new BoundedInputStream(decode(new ByteArrayInputStream(response.body()),
+                    response.headers().firstValue("Content-Encoding")), maxBytes);
+            this.body = boundedBody;
+            this.charset = toCharset(response.headers().firstValue("Content-Type").orElse(null)).orElse(null);
+            this.entityTag = response.headers().firstValue("ETag").orElse(null);
+            this.lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        }
+
+        private static InputStream decode(InputStream raw, Optional<String> contentEncoding) throws IOException {
+            String encoding = contentEncoding.map(value -> value.trim().toLowerCase(Locale.ROOT)).orElse("identity");
+            switch (encoding) {
+            case "identity":
+                return raw;
+            case "gzip":
+            case "x-gzip":
+                try {
+                    return new GZIPInputStream(raw);
+                } catch (IOException ioe) {
+                    raw.close();
+                    throw ioe;
+                }
+            default:
+                raw.close();
+                throw new IOException("Unsupported content encoding: " + encoding);
+            }
+        }
+
+        /**
+         * Returns true if the remote address answered that the feed data has not been modified, in which case the
+         * body is empty.
+         */
+        public boolean isNotModified() {
+            return isNotModified;
+        }
+
+        public InputStream getBody() {
+            return body;
+        }
+
+        /**
+         * Returns the number of bytes of the decompressed body that have been read so far.
+         */
+        public long getBytesRead() {
+            return boundedBody == null ? 0 : boundedBody.getBytesRead();
+        }
+
+        /**
+         * Returns the charset of the body named by the {@code Content-Type} header, if the header names one.
+         */
+        public Optional<String> getCharset() {
+            return Optional.ofNullable(charset);
+        }
+
+        public Optional<String> getEntityTag() {
+            return Optional.ofNullable(entityTag);
+        }
+
+        public Optional<String> getLastModified() {
+            return Optional.ofNullable(lastModified);
+        }
+
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+    }
+
+    /**
+     * A subscriber that collects the body of a response into a byte array, and fails as soon as the body is known
+     * to be longer than a given number of bytes, so that an oversized body is not received into memory.
+     */
+    static class BoundedBodySubscriber implements HttpResponse.BodySubscriber<byte[]> {
+        private final HttpResponse.BodySubscriber<byte[]> bytes = HttpResponse.BodySubscribers.ofByteArray();
+        private final long contentLength;
+        private final long maxBytes;
+        private Flow.Subscription subscription;
+        private long bytesReceived;
+        private boolean isFailed;
+
+        /**
+         * Creates a subscriber for a body of {@code contentLength} bytes, or of unknown length if it is negative,
+         * that fails once more than {@code maxBytes} are received.
+         */
+        BoundedBodySubscriber(long contentLength, long maxBytes) {
+            this.contentLength = contentLength;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public CompletionStage<byte[]> getBody() {
+            return bytes.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (contentLength > maxBytes) {
+                fail(new IOException(String.format("Feed data of %d bytes is larger than %d bytes", contentLength,
+                        maxBytes)));
+                return;
+            }
+            bytes.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (isFailed) {
+                return;
+            }
+            for (ByteBuffer item : items) {
+                bytesReceived += item.remaining();
+            }
+            if (bytesReceived > maxBytes) {
+                fail(new IOException("Feed data is larger than " + maxBytes + " bytes"));
+                return;
+            }
+            bytes.onNext(items);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!isFailed) {
+                bytes.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!isFailed) {
+                bytes.onComplete();
+            }
+        }
+
+        /**
+         * Stops receiving the body, and completes it with {@code failure}.
+         */
+        private void fail(IOException failure) {
+            isFailed = true;
+            subscription.cancel();
+            bytes.onError(failure);
+        }
+    }
+
+    /**
+     * An input stream that fails once more than a given number of bytes are read from it.
+     */
+    static class BoundedInputStream extends FilterInputStream {
+        private final long maxBytes;
+        private long bytesRead;
+
+        BoundedInputStream(InputStream in, long maxBytes) {
+            super(requireNonNull(in));
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        long getBytesRead() {
+            return bytesRead;
+        }
+
+        private void count(long n) throws IOException {
+            bytesRead += n;
+            if (bytesRead > maxBytes) {
+                throw new IOException("Feed data is larger than " + maxBytes + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.eatme.model.feed;
+
+import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Parses the posts of RSS 2.0, RSS 1.0 and Atom feeds in a single pass over the feed data, however it is laid out.
+ *
+ * The title and link of each {@code item} or {@code entry} element are read as the data streams in, and reading
+ * stops as soon as enough posts have been read. Titles may hold HTML, whose tags are dropped and whose character
+ * references and common named entities are decoded. The time-to-live of RSS 2.0 channels is read too, if it comes
+ * before the last post that is read. Document type declarations are not processed.
+ */
+public class FeedParser {
+
+    public static final int DEFAULT_MAX_POSTS = 5;
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s\\u00a0]+");
+    private static final int MAX_ENTITY_LENGTH = 10;
+    private static final Map<String, String> NAMED_ENTITIES = Map.ofEntries(
+            Map.entry("amp", "&"), Map.entry("lt", "<"), Map.entry("gt", ">"), Map.entry("quot", "\""),
+            Map.entry("apos", "'"), Map.entry("nbsp", " "), Map.entry("ndash", "\u2013"),
+            Map.entry("mdash", "\u2014"), Map.entry("lsquo", "\u2018"), Map.entry("rsquo", "\u2019"),
+            Map.entry("sbquo", "\u201a"), Map.entry("ldquo", "\u201c"), Map.entry("rdquo", "\u201d"),
+            Map.entry("bdquo", "\u201e"), Map.entry("hellip", "\u2026"), Map.entry("bull", "\u2022"),
+            Map.entry("middot", "\u00b7"), Map.entry("laquo", "\u00ab"), Map.entry("raquo", "\u00bb"),
+            Map.entry("copy", "\u00a9"), Map.entry("reg", "\u00ae"), Map.entry("trade", "\u2122"),
+            Map.entry("deg", "\u00b0"), Map.entry("times", "\u00d7"), Map.entry("cent", "\u00a2"),
+            Map.entry("pound", "\u00a3"), Map.entry("euro", "\u20ac"), Map.entry("yen", "\u00a5"),
+            Map.entry("eacute", "\u00e9"), Map.entry("egrave", "\u00e8"), Map.entry("agrave", "\u00e0"),
+            Map.entry("ccedil", "\u00e7"), Map.entry("auml", "\u00e4"), Map.entry("ouml", "\u00f6"),
+            Map.entry("uuml", "\u00fc"));
+
+    private enum Field { NONE, TITLE, LINK, TTL }
+
+    private FeedParser() {}
+
+    /**
+     * Reads at most {@code maxPosts} posts of the feed in {@code input}, in the order they appear in the feed.
+     * Items without a title or a link are skipped. {@code input} is not closed.
+     *
+     * @param source Name of the feed that the posts come from.
+     * @throws XMLStreamException if the feed data is not well-formed XML.
+     */
+    public static List<FeedPost> parse(InputStream input, String source, int maxPosts) throws XMLStreamException {
+        return parseFeed(input, source, maxPosts).getPosts();
+    }
+
+    /**
+     * Reads at most {@code maxPosts} posts of the feed in {@code input} like {@link #parse(InputStream, String, int)},
+     * along with the time-to-live of the feed.
+     *
+     * @throws XMLStreamException if the feed data is not well-formed XML.
+     */
+    public static ParsedFeed parseFeed(InputStream input, String source, int maxPosts) throws XMLStreamException {
+        return parseFeed(input, null, source, maxPosts);
+    }
+
+    /**
+     * Reads the feed in {@code input} like {@link #parseFeed(InputStream, String, int)}, decoding it with
+     * {@code charset} instead of the encoding declared by the feed itself. If {@code charset} is null, the encoding
+     * is detected from the feed as usual.
+     *
+     * @throws XMLStreamException if the feed data is not well-formed XML, or {@code charset} is not supported.
+     */
+    public static ParsedFeed parseFeed(InputStream input, String charset, String source, int maxPosts)
+            throws XMLStreamException {
+        requireAllNonNull(input, source);
+        List<FeedPost> posts = new ArrayList<>();
+        Duration timeToLive = null;
+        XMLStreamReader reader = charset == null
+                ? INPUT_FACTORY.createXMLStreamReader(input)
+                : INPUT_FACTORY.createXMLStreamReader(input, charset);
+        try {
+            int depth = 0;
+            int itemDepth = -1;
+            Field field = Field.NONE;
+            StringBuilder text = new StringBuilder();
+            String title = null;
+            String link = null;
+
+            while (posts.size() < maxPosts && reader.hasNext()) {
+                switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    String name = reader.getLocalName();
+                    if (itemDepth < 0 && (name.equals("item") || name.equals("entry"))) {
+                        itemDepth = depth;
+                        title = null;
+                        link = null;
+                    } else if (itemDepth < 0 && depth == 3 && name.equals("ttl")) {
+                        field = Field.TTL;
+                        text.setLength(0);
+                    } else if (depth == itemDepth + 1 && name.equals("title")) {
+                        field = Field.TITLE;
+                        text.setLength(0);
+                    } else if (depth == itemDepth + 1 && name.equals("link")) {
+                        String href = reader.getAttributeValue(null, "href");
+                        String rel = reader.getAttributeValue(null, "rel");
+                        if (href == null) {
+                            field = Field.LINK;
+                            text.setLength(0);
+                        } else if (link == null && (rel == null || rel.equals("alternate"))) {
+                            link = href.strip();
+                        }
+                    }
+                    break;
+
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (field != Field.NONE) {
+                        text.append(reader.getText());
+                    }
+                    break;
+
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    if (field != Field.NONE) {
+                        text.append('&').append(reader.getLocalName()).append(';');
+                    }
+                    break;
+
+                case XMLStreamConstants.END_ELEMENT:
+                    if (field == Field.TTL) {
+                        timeToLive = toTimeToLive(text.toString());
+                        field = Field.NONE;
+                    } else if (field != Field.NONE && depth == itemDepth + 1) {
+                        if (field == Field.TITLE) {
+                            title = toPlainText(text.toString());
+                        } else if (link == null) {
+                            link = text.toString().strip();
+                        }
+                        field = Field.NONE;
+                    } else if (depth == itemDepth) {
+                        if (title != null && link != null && !link.isEmpty()) {
+                            posts.add(new FeedPost(source, title, link));
+                        }
+                        itemDepth = -1;
+                    }
+                    depth--;
+                    break;
+
+                default:
+                    break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return new ParsedFeed(posts, timeToLive);
+    }
+
+    /**
+     * Returns the time-to-live given in minutes by {@code minutes}, or null if it is not a positive number.
+     */
+    private static Duration toTimeToLive(String minutes) {
+        try {
+            long value = Long.parseLong(minutes.strip());
+            return value > 0 ? Duration.ofMinutes(value) : null;
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns {@code html} without its tags, with its character references and common named entities decoded,
+     * and with its whitespace collapsed.
+     */
+    static String toPlainText(String html) {
+        String withoutTags = HTML_TAG.matcher(html).replaceAll(" ");
+        return WHITESPACE.matcher(decodeEntities(withoutTags)).replaceAll(" ").strip();
+    }
+
+    /**
+     * Decodes the character references and common named entities in {@code text}.
+     * Unknown or malformed entities are kept as they are.
+     */
+    static String decodeEntities(String text) {
+        int ampersand = text.indexOf('&');
+        if (ampersand < 0) {
+            return text;
+        }
+
+        StringBuilder decoded = new StringBuilder(text.length());
+        int start = 0;
+        while (ampersand >= 0) {
+            int semicolon = text.indexOf(';', ampersand);
+            String decodedEntity = semicolon > ampersand && semicolon - ampersand <= MAX_ENTITY_LENGTH
+                    ? decodeEntity(text.substring(ampersand + 1, semicolon))
+                    : null;
+            if (decodedEntity != null) {
+                decoded.append(text, start, ampersand).append(decodedEntity);
+                start = semicolon + 1;
+            }
+            ampersand = text.indexOf('&', decodedEntity != null ? start : ampersand + 1);
+        }
+        return decoded.append(text, start, text.length()).toString();
+    }
+
+    private static String decodeEntity(String entity) {
+        if (!entity.startsWith("#")) {
+            return NAMED_ENTITIES.get(entity);
+        }
+
+        try {
+            int codePoint = entity.startsWith("#x") || entity.startsWith("#X")
+                    ? Integer.parseInt(entity.substring(2), 16)
+                    : Integer.parseInt(entity.substring(1));
+            return Character.isValidCodePoint(codePoint) ? new String(Character.toChars(codePoint)) : null;
+        } catch (NumberFormatException nfe) {
+            return null;
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        // Report the HTML entities that feeds often use without declaring them, instead of failing on them.
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+        return factory;
+    }
+
+    /**
+     * The posts read from a feed, with the time-to-live of the feed if it has one.
+     */
+    public static class ParsedFeed {
+        private final List<FeedPost> posts;
+        private final Duration timeToLive;
+
+        ParsedFeed(List<FeedPost> posts, Duration timeToLive) {
+            this.posts = posts;
+            this.timeToLive = timeToLive;
+        }
+
+        public List<FeedPost> getPosts() {
+            return posts;
+        }
+
+        /**
+         * Returns how long the feed may be cached before it is refreshed, as announced by the feed.
+         */
+        public Optional<Duration> getTimeToLive() {
+            return Optional.ofNullable(timeToLive);
+        }
+    }
+}
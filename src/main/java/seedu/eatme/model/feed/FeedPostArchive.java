@@ -0,0 +1,277 @@
+package seedu.eatme.model.feed;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the posts of a feed across fetches, so that posts that drop out of the feed are not lost.
+ *
+ * Posts are keyed by their address, so a post fetched again is recognised even if its title changed, in which case
+ * the post as fetched replaces the archived one. Each post
+ * remembers when it was last seen in a fetch, and the archive keeps at most {@code maxPosts} posts, none of them
+ * last seen more than {@code maxAge} ago, evicting the posts that were seen least recently first. The retention
+ * is set from the user prefs once a feed is in the model. The words of the archived posts are indexed as posts
+ * come and go, so that the archive can be searched without going through it.
+ * Guarantees: thread-safe.
+ */
+public class FeedPostArchive {
+
+    public static final int DEFAULT_MAX_POSTS = 50;
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(30);
+
+    /** Orders posts from the most to the least recently seen, and posts seen in the same fetch as the feed does. */
+    private static final Comparator<ArchivedPost> MOST_RECENT_FIRST =
+            Comparator.<ArchivedPost, Instant>comparing(archived -> archived.lastSeen)
+                    .thenComparingLong(archived -> archived.sequence).reversed();
+
+    /** Posts by address, from the least to the most recently seen. */
+    private final LinkedHashMap<String, ArchivedPost> posts = new LinkedHashMap<>();
+    private final FeedPostIndex index = new FeedPostIndex();
+    private long nextSequence;
+    private int maxPosts;
+    private Duration maxAge;
+
+    /**
+     * Creates an empty archive with the default retention.
+     */
+    public FeedPostArchive() {
+        this(DEFAULT_MAX_POSTS, DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * Creates an empty archive that keeps at most {@code maxPosts} posts, none of them older than {@code maxAge}.
+     */
+    public FeedPostArchive(int maxPosts, Duration maxAge) {
+        setRetention(maxPosts, maxAge);
+    }
+
+    /**
+     * Changes the retention of this archive, evicting the posts that it no longer keeps.
+     */
+    public synchronized void setRetention(int maxPosts, Duration maxAge) {
+        requireNonNull(maxAge);
+        if (maxPosts < 0 || maxAge.isNegative()) {
+            throw new IllegalArgumentException("Retention must not be negative");
+        }
+        this.maxPosts = maxPosts;
+        this.maxAge = maxAge;
+        evict(Instant.now());
+    }
+
+    public synchronized int getMaxPosts() {
+        return maxPosts;
+    }
+
+    public synchronized Duration getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Merges the posts of a fetch made at {@code now} into this archive.
+     * Posts not in this archive yet are added, and posts already in it are marked as seen at {@code now}. A post
+     * whose title or source changed since it was archived replaces the archived post.
+     *
+     * @return the posts that were added, and the posts that were replaced or evicted to make room for them.
+     */
+    public synchronized Delta merge(Collection<FeedPost> fetched, Instant now) {
+        requireAllNonNull(fetched, now);
+        Set<FeedPost> added = new LinkedHashSet<>();
+        Set<FeedPost> replaced = new LinkedHashSet<>();
+        // Older posts come later in a feed, so they are merged first to be evicted first.
+        List<FeedPost> oldestFirst = new ArrayList<>(fetched);
+        Collections.reverse(oldestFirst);
+        for (FeedPost post : oldestFirst) {
+            ArchivedPost archived = posts.remove(post.getAddress());
+            if (archived == null || !archived.post.equals(post)) {
+                if (archived != null) {
+                    replaced.add(archived.post);
+                    index.remove(archived.post);
+                }
+                added.add(post);
+                index.add(post);
+            }
+            put(post, now);
+        }
+
+        Set<FeedPost> removed = evict(now);
+        Set<FeedPost> addedAndKept = new LinkedHashSet<>(added);
+        addedAndKept.removeAll(removed);
+        removed.removeAll(added);
+        removed.addAll(replaced);
+        return new Delta(addedAndKept, removed);
+    }
+
+    /**
+     * Puts each post of {@code lastSeenTimes} into this archive as last seen at the time it maps to, replacing
+     * the post with the same address, if any. Restored posts were kept under the retention of the archive they
+     * were saved from, which may differ from the retention of this archive until it is set, so they are only
+     * evicted by the next change of retention or merge.
+     */
+    public synchronized void restore(Map<FeedPost, Instant> lastSeenTimes) {
+        requireNonNull(lastSeenTimes);
+        lastSeenTimes.forEach((post, lastSeen) -> {
+            requireAllNonNull(post, lastSeen);
+            ArchivedPost replaced = posts.put(post.getAddress(), new ArchivedPost(post, lastSeen, 0));
+            if (replaced != null) {
+                index.remove(replaced.post);
+            }
+            index.add(post);
+        });
+
+        List<ArchivedPost> leastRecentFirst = new ArrayList<>(posts.values());
+        leastRecentFirst.sort((first, second) -> first.lastSeen.compareTo(second.lastSeen));
+        posts.clear();
+        leastRecentFirst.forEach(archived -> put(archived.post, archived.lastSeen));
+    }
+
+    /**
+     * Removes all posts from this archive.
+     */
+    public synchronized void clear() {
+        posts.clear();
+        index.clear();
+    }
+
+    public synchronized boolean isEmpty() {
+        return posts.isEmpty();
+    }
+
+    /**
+     * Returns the posts in this archive, from the most to the least recently seen.
+     */
+    public synchronized Set<FeedPost> getPosts() {
+        List<FeedPost> mostRecentFirst = new ArrayList<>(posts.size());
+        posts.values().forEach(archived -> mostRecentFirst.add(archived.post));
+        Collections.reverse(mostRecentFirst);
+        return Collections.unmodifiableSet(new LinkedHashSet<>(mostRecentFirst));
+    }
+
+    /**
+     * Returns the posts in this archive that have any of the words in {@code keywords} in their title or source,
+     * from the most to the least recently seen. Words are matched whole and case-insensitively.
+     */
+    public synchronized List<FeedPostMatch> search(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<String, Integer> scores = index.score(FeedPostIndex.toWords(keywords));
+        List<ArchivedPost> found = new ArrayList<>(scores.size());
+        scores.keySet().forEach(address -> found.add(posts.get(address)));
+        found.sort(MOST_RECENT_FIRST);
+
+        List<FeedPostMatch> matches = new ArrayList<>(found.size());
+        for (ArchivedPost archived : found) {
+            matches.add(new FeedPostMatch(archived.post, scores.get(archived.post.getAddress()), archived.lastSeen));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns when each post in this archive was last seen, from the least to the most recently seen post.
+     */
+    public synchronized Map<FeedPost, Instant> getLastSeenTimes() {
+        Map<FeedPost, Instant> lastSeenTimes = new LinkedHashMap<>();
+        posts.values().forEach(archived -> lastSeenTimes.put(archived.post, archived.lastSeen));
+        return lastSeenTimes;
+    }
+
+    /**
+     * Evicts the posts last seen more than {@code maxAge} before {@code now}, then the least recently seen posts
+     * until at most {@code maxPosts} are left.
+     *
+     * @return the evicted posts.
+     */
+    private Set<FeedPost> evict(Instant now) {
+        Set<FeedPost> evicted = new LinkedHashSet<>();
+        Instant oldestKept = now.minus(maxAge);
+        Iterator<ArchivedPost> iterator = posts.values().iterator();
+        while (iterator.hasNext()) {
+            ArchivedPost archived = iterator.next();
+            if (posts.size() > maxPosts || archived.lastSeen.isBefore(oldestKept)) {
+                evicted.add(archived.post);
+                index.remove(archived.post);
+                iterator.remove();
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Puts {@code post} as the most recently seen post, last seen at {@code lastSeen}.
+     */
+    private void put(FeedPost post, Instant lastSeen) {
+        posts.put(post.getAddress(), new ArchivedPost(post, lastSeen, nextSequence++));
+    }
+
+    /**
+     * A post with when it was last seen, and its place among the posts of the archive.
+     */
+    private static class ArchivedPost {
+        private final FeedPost post;
+        private final Instant lastSeen;
+        private final long sequence;
+
+        ArchivedPost(FeedPost post, Instant lastSeen, long sequence) {
+            this.post = post;
+            this.lastSeen = lastSeen;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * The posts added to and evicted from an archive by a merge.
+     * Guarantees: immutable.
+     */
+    public static class Delta {
+        public static final Delta EMPTY = new Delta(Collections.emptySet(), Collections.emptySet());
+
+        private final Set<FeedPost> added;
+        private final Set<FeedPost> removed;
+
+        Delta(Set<FeedPost> added, Set<FeedPost> removed) {
+            this.added = Collections.unmodifiableSet(added);
+            this.removed = Collections.unmodifiableSet(removed);
+        }
+
+        public Set<FeedPost> getAdded() {
+            return added;
+        }
+
+        public Set<FeedPost> getRemoved() {
+            return removed;
+        }
+
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Delta
+                    && added.equals(((Delta) other).added)
+                    && removed.equals(((Delta) other).removed));
+        }
+
+        @Override
+        public int hashCode() {
+            return added.hashCode() * 31 + removed.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Added: %s, removed: %s", added, removed);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.eatme.model.feed;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from the words in the titles and sources of feed posts to the addresses of those posts.
+ * It is kept up to date as posts are added and removed, so searching it never goes through the posts themselves.
+ * Words are matched whole and case-insensitively, and a word in the title of a post counts for more than a word
+ * in its source.
+ */
+class FeedPostIndex {
+
+    static final int TITLE_WEIGHT = 2;
+    static final int SOURCE_WEIGHT = 1;
+
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<String, Set<String>> addressesByTitleWord = new HashMap<>();
+    private final Map<String, Set<String>> addressesBySourceWord = new HashMap<>();
+
+    /**
+     * Adds the words of {@code post} to this index.
+     */
+    void add(FeedPost post) {
+        add(addressesByTitleWord, toWords(post.getTitle()), post.getAddress());
+        add(addressesBySourceWord, toWords(post.getSource()), post.getAddress());
+    }
+
+    /**
+     * Removes the words of {@code post} from this index.
+     */
+    void remove(FeedPost post) {
+        remove(addressesByTitleWord, toWords(post.getTitle()), post.getAddress());
+        remove(addressesBySourceWord, toWords(post.getSource()), post.getAddress());
+    }
+
+    void clear() {
+        addressesByTitleWord.clear();
+        addressesBySourceWord.clear();
+    }
+
+    /**
+     * Returns the score of each post that has any of {@code words} in its title or source, by address.
+     * Each word adds {@link #TITLE_WEIGHT} to the score of a post if it is in its title, and {@link #SOURCE_WEIGHT}
+     * if it is in its source.
+     */
+    Map<String, Integer> score(Set<String> words) {
+        Map<String, Integer> scores = new HashMap<>();
+        for (String word : words) {
+            addressesByTitleWord.getOrDefault(word, Set.of())
+                    .forEach(address -> scores.merge(address, TITLE_WEIGHT, Integer::sum));
+            addressesBySourceWord.getOrDefault(word, Set.of())
+                    .forEach(address -> scores.merge(address, SOURCE_WEIGHT, Integer::sum));
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the distinct lower case words in {@code texts}.
+     */
+    static Set<String> toWords(Collection<String> texts) {
+        return texts.stream().flatMap(text -> toWords(text).stream()).collect(Collectors.toSet());
+    }
+
+    private static Set<String> toWords(String text) {
+        return Arrays.stream(NON_WORD_CHARACTERS.split(text.toLowerCase(Locale.ROOT)))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static void add(Map<String, Set<String>> index, Set<String> words, String address) {
+        words.forEach(word -> index.computeIfAbsent(word, key -> new HashSet<>()).add(address));
+    }
+
+    private static void remove(Map<String, Set<String>> index, Set<String> words, String address) {
+        for (String word : words) {
+            Set<String> addresses = index.get(word);
+            if (addresses != null && addresses.remove(address) && addresses.isEmpty()) {
+                index.remove(word);
+            }
+        }
+    }
+}
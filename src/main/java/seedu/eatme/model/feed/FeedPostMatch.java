@@ -0,0 +1,75 @@
+package seedu.eatme.model.feed;
+
+import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Represents a feed post found by a search, with how relevant it is to the search and how recent it is.
+ * Guarantees: immutable.
+ */
+public class FeedPostMatch {
+
+    /**
+     * Orders matches from the most to the least relevant, and equally relevant ones from the most recently seen.
+     * Matches seen in the same fetch are left in the order they are in, which is the order of the feed for the
+     * matches of a {@link FeedPostArchive#search}.
+     */
+    public static final Comparator<FeedPostMatch> BY_RELEVANCE_AND_RECENCY =
+            Comparator.comparingInt(FeedPostMatch::getScore).reversed()
+                    .thenComparing(FeedPostMatch::getLastSeen, Comparator.reverseOrder());
+
+    private final FeedPost post;
+    private final int score;
+    private final Instant lastSeen;
+
+    /**
+     * Creates a match of {@code post}, last seen in a fetch at {@code lastSeen}, with the given {@code score}.
+     */
+    FeedPostMatch(FeedPost post, int score, Instant lastSeen) {
+        requireAllNonNull(post, lastSeen);
+        this.post = post;
+        this.score = score;
+        this.lastSeen = lastSeen;
+    }
+
+    public FeedPost getPost() {
+        return post;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public Instant getLastSeen() {
+        return lastSeen;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FeedPostMatch)) {
+            return false;
+        }
+
+        FeedPostMatch otherMatch = (FeedPostMatch) other;
+        return otherMatch.post.equals(post)
+                && otherMatch.score == score
+                && otherMatch.lastSeen.equals(lastSeen);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(post, score, lastSeen);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (score %d)", post, score);
+    }
+}
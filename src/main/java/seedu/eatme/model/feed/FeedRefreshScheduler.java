@@ -0,0 +1,287 @@
+package seedu.eatme.model.feed;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.eatme.commons.core.LogsCenter;
+import seedu.eatme.model.feed.FeedRefreshStatus.CircuitState;
+import seedu.eatme.model.feed.FeedRefreshStatus.Outcome;
+
+/**
+ * Refreshes the posts of feeds in the background, each feed on its own schedule.
+ *
+ * Each feed is first refreshed after a random delay of up to {@code startupJitter}, so that feeds scheduled together
+ * at startup are not all refreshed together. It is then refreshed every {@code interval}, or every time-to-live
+ * announced by the feed if that is longer, with every delay lengthened by a random fraction of up to
+ * {@link #JITTER}. A feed that fails to be refreshed is retried after a delay that doubles with every failure
+ * in a row, and once it has failed {@code failureThreshold} times in a row its circuit is opened: it is left alone
+ * for {@code openDuration}, then given a single trial refresh that closes the circuit again if it succeeds.
+ */
+public class FeedRefreshScheduler {
+
+    public static final int DEFAULT_MAX_CONCURRENT_FETCHES = 4;
+    public static final Duration DEFAULT_STARTUP_JITTER = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(30);
+    public static final Duration DEFAULT_BASE_BACKOFF = Duration.ofMinutes(1);
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofHours(6);
+    public static final double JITTER = 0.2;
+
+    private static final Logger logger = LogsCenter.getLogger(FeedRefreshScheduler.class);
+
+    private final Fetcher fetcher;
+    private final BiConsumer<Feed, FeedPostArchive.Delta> onRefreshed;
+    private final Duration startupJitter;
+    private final Duration interval;
+    private final Duration baseBackoff;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final DoubleSupplier random;
+    private final Map<Feed, Entry> entries = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(
+            DEFAULT_MAX_CONCURRENT_FETCHES, FeedRefreshScheduler::newDaemonThread);
+
+    /**
+     * Creates a scheduler with the default intervals and timeouts, that passes each refreshed feed with the posts
+     * added to and evicted from its archive to {@code onRefreshed}, on a background thread.
+     */
+    public FeedRefreshScheduler(BiConsumer<Feed, FeedPostArchive.Delta> onRefreshed) {
+        this(feed -> feed.refreshPosts(Feed.DEFAULT_CONNECT_TIMEOUT, Feed.DEFAULT_READ_TIMEOUT), onRefreshed,
+                DEFAULT_STARTUP_JITTER, DEFAULT_INTERVAL, DEFAULT_BASE_BACKOFF, DEFAULT_FAILURE_THRESHOLD,
+                DEFAULT_OPEN_DURATION, Math::random);
+    }
+
+    /**
+     * Creates a scheduler that refreshes the posts of each feed with {@code fetcher}, and draws the jitter of each
+     * delay from {@code random}, which returns numbers from 0 (inclusive) to 1 (exclusive).
+     */
+    FeedRefreshScheduler(Fetcher fetcher, BiConsumer<Feed, FeedPostArchive.Delta> onRefreshed,
+                         Duration startupJitter, Duration interval, Duration baseBackoff, int failureThreshold,
+                         Duration openDuration, DoubleSupplier random) {
+        requireAllNonNull(fetcher, onRefreshed, startupJitter, interval, baseBackoff, openDuration, random);
+        assert failureThreshold > 0;
+        this.fetcher = fetcher;
+        this.onRefreshed = onRefreshed;
+        this.startupJitter = startupJitter;
+        this.interval = interval;
+        this.baseBackoff = baseBackoff;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.random = random;
+    }
+
+    /**
+     * Schedules every feed in {@code feeds} to be refreshed, and keeps the schedule in step with {@code feeds} as
+     * feeds are added to and removed from it.
+     */
+    public void scheduleAll(ObservableList<Feed> feeds) {
+        requireNonNull(feeds);
+        feeds.forEach(this::schedule);
+        feeds.addListener((ListChangeListener<Feed>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::cancel);
+                change.getAddedSubList().forEach(this::schedule);
+            }
+        });
+    }
+
+    /**
+     * Schedules {@code feed} to be refreshed after a random delay of up to the startup jitter, unless it is already
+     * scheduled.
+     */
+    public void schedule(Feed feed) {
+        requireNonNull(feed);
+        entries.computeIfAbsent(feed, key -> {
+            Entry entry = new Entry(key);
+            synchronized (entry) {
+                long delayMillis = (long) (startupJitter.toMillis() * (1 - random.getAsDouble()));
+                scheduleAfter(entry, delayMillis);
+            }
+            return entry;
+        });
+    }
+
+    /**
+     * Stops refreshing {@code feed}.
+     */
+    public void cancel(Feed feed) {
+        requireNonNull(feed);
+        Entry entry = entries.remove(feed);
+        if (entry != null) {
+            synchronized (entry) {
+                entry.isCancelled = true;
+                entry.task.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Returns the refresh status of {@code feed}, or an empty optional if it is not scheduled to be refreshed.
+     */
+    public Optional<FeedRefreshStatus> getStatus(Feed feed) {
+        requireNonNull(feed);
+        Entry entry = entries.get(feed);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        synchronized (entry) {
+            return Optional.of(entry.toStatus());
+        }
+    }
+
+    /**
+     * Stops refreshing all feeds. Feeds that are being refreshed are given up on.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Refreshes {@code feed} on the calling thread, and schedules its next refresh according to how that went.
+     */
+    void refresh(Feed feed) {
+        Entry entry = entries.get(feed);
+        if (entry != null) {
+            refresh(entry);
+        }
+    }
+
+    private void refresh(Entry entry) {
+        Feed feed = entry.feed;
+        synchronized (entry) {
+            if (entry.circuitState == CircuitState.OPEN) {
+                entry.circuitState = CircuitState.HALF_OPEN;
+            }
+        }
+
+        FeedPostArchive.Delta delta = null;
+        try {
+            delta = fetcher.fetch(feed);
+        } catch (IOException | RuntimeException e) {
+            logger.warning(String.format("[Feed: %s] Failed to refresh posts: %s", feed.getName(), e));
+        }
+
+        synchronized (entry) {
+            if (entry.isCancelled) {
+                return;
+            }
+            entry.lastRefresh = Instant.now();
+            if (delta != null) {
+                entry.lastOutcome = Outcome.SUCCEEDED;
+                entry.consecutiveFailures = 0;
+                entry.circuitState = CircuitState.CLOSED;
+                scheduleNext(entry, intervalOf(feed));
+            } else {
+                entry.lastOutcome = Outcome.FAILED;
+                entry.consecutiveFailures++;
+                if (entry.circuitState == CircuitState.HALF_OPEN || entry.consecutiveFailures >= failureThreshold) {
+                    logger.warning(String.format("[Feed: %s] Failed %d times in a row, not refreshing it for %s",
+                            feed.getName(), entry.consecutiveFailures, openDuration));
+                    entry.circuitState = CircuitState.OPEN;
+                    scheduleNext(entry, openDuration);
+                } else {
+                    scheduleNext(entry, backoffOf(entry.consecutiveFailures));
+                }
+            }
+        }
+
+        if (delta != null) {
+            try {
+                onRefreshed.accept(feed, delta);
+            } catch (RuntimeException re) {
+                logger.warning(String.format("[Feed: %s] Failed to handle refreshed posts: %s", feed.getName(), re));
+            }
+        }
+    }
+
+    /**
+     * Returns how long to wait between refreshes of {@code feed} that succeed.
+     */
+    private Duration intervalOf(Feed feed) {
+        return feed.getTimeToLive().filter(timeToLive -> timeToLive.compareTo(interval) > 0).orElse(interval);
+    }
+
+    /**
+     * Returns how long to wait before retrying a feed that has failed {@code consecutiveFailures} times in a row.
+     */
+    private Duration backoffOf(int consecutiveFailures) {
+        int doublings = Math.min(consecutiveFailures - 1, Long.SIZE - 2);
+        Duration backoff = baseBackoff.multipliedBy(1L << doublings);
+        return backoff.isNegative() || backoff.compareTo(openDuration) > 0 ? openDuration : backoff;
+    }
+
+    /**
+     * Schedules the next refresh of {@code entry} after {@code delay}, lengthened by a random jitter.
+     * Must be called while holding the lock of {@code entry}.
+     */
+    private void scheduleNext(Entry entry, Duration delay) {
+        scheduleAfter(entry, (long) (delay.toMillis() * (1 + JITTER * random.getAsDouble())));
+    }
+
+    /**
+     * Schedules the next refresh of {@code entry} after exactly {@code delayMillis} milliseconds.
+     * Must be called while holding the lock of {@code entry}.
+     */
+    private void scheduleAfter(Entry entry, long delayMillis) {
+        if (entry.task != null) {
+            entry.task.cancel(false);
+        }
+        entry.nextRefresh = Instant.now().plusMillis(delayMillis);
+        entry.task = executor.schedule(() -> refresh(entry), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns a daemon thread that runs {@code runnable}, so that refreshes never keep the application running.
+     */
+    private static Thread newDaemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "feed-refresher");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Fetches the posts of a feed into its archive, failing if they cannot be fetched.
+     */
+    @FunctionalInterface
+    interface Fetcher {
+        FeedPostArchive.Delta fetch(Feed feed) throws IOException;
+    }
+
+    /**
+     * The refresh schedule of a scheduled feed. Guarded by its own lock.
+     */
+    private static class Entry {
+        private final Feed feed;
+        private ScheduledFuture<?> task;
+        private Instant lastRefresh;
+        private Instant nextRefresh;
+        private Outcome lastOutcome = Outcome.PENDING;
+        private int consecutiveFailures;
+        private CircuitState circuitState = CircuitState.CLOSED;
+        private boolean isCancelled;
+
+        Entry(Feed feed) {
+            this.feed = feed;
+        }
+
+        FeedRefreshStatus toStatus() {
+            return new FeedRefreshStatus(lastRefresh, nextRefresh, lastOutcome, consecutiveFailures, circuitState);
+        }
+    }
+}
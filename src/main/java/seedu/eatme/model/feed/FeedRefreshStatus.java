@@ -0,0 +1,97 @@
+package seedu.eatme.model.feed;
+
+import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents when a feed was last refreshed in the background, how that went, and when it will be refreshed next.
+ * Guarantees: immutable.
+ */
+public class FeedRefreshStatus {
+
+    /**
+     * The outcome of the last refresh of a feed.
+     */
+    public enum Outcome { PENDING, SUCCEEDED, FAILED }
+
+    /**
+     * Whether a feed is refreshed as usual ({@code CLOSED}), left alone after failing too often ({@code OPEN}),
+     * or given a single trial refresh after being left alone ({@code HALF_OPEN}).
+     */
+    public enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    private final Instant lastRefresh;
+    private final Instant nextRefresh;
+    private final Outcome lastOutcome;
+    private final int consecutiveFailures;
+    private final CircuitState circuitState;
+
+    /**
+     * Every field except {@code lastRefresh} must be present and not null.
+     */
+    public FeedRefreshStatus(Instant lastRefresh, Instant nextRefresh, Outcome lastOutcome, int consecutiveFailures,
+                             CircuitState circuitState) {
+        requireAllNonNull(nextRefresh, lastOutcome, circuitState);
+        this.lastRefresh = lastRefresh;
+        this.nextRefresh = nextRefresh;
+        this.lastOutcome = lastOutcome;
+        this.consecutiveFailures = consecutiveFailures;
+        this.circuitState = circuitState;
+    }
+
+    /**
+     * Returns when the feed was last refreshed, or an empty optional if it has yet to be refreshed.
+     */
+    public Optional<Instant> getLastRefresh() {
+        return Optional.ofNullable(lastRefresh);
+    }
+
+    public Instant getNextRefresh() {
+        return nextRefresh;
+    }
+
+    public Outcome getLastOutcome() {
+        return lastOutcome;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public CircuitState getCircuitState() {
+        return circuitState;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FeedRefreshStatus)) {
+            return false;
+        }
+
+        FeedRefreshStatus otherStatus = (FeedRefreshStatus) other;
+        return Objects.equals(otherStatus.lastRefresh, lastRefresh)
+                && otherStatus.nextRefresh.equals(nextRefresh)
+                && otherStatus.lastOutcome == lastOutcome
+                && otherStatus.consecutiveFailures == consecutiveFailures
+                && otherStatus.circuitState == circuitState;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lastRefresh, nextRefresh, lastOutcome, consecutiveFailures, circuitState);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Last refresh: %s (%s, %d failures in a row, circuit %s), next refresh: %s",
+                lastRefresh == null ? "never" : lastRefresh, lastOutcome, consecutiveFailures, circuitState,
+                nextRefresh);
+    }
+}
@@ -43,6 +43,26 @@ public class UniqueFeedList implements Iterable<Feed> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds a feed to the list at {@code index}.
+     * The feed must not already exist in the list.
+     */
+    public void add(int index, Feed toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateFeedException();
+        }
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Returns the index of the equivalent feed in the list, or -1 if there is none.
+     */
+    public int indexOf(Feed toFind) {
+        requireNonNull(toFind);
+        return internalList.indexOf(toFind);
+    }
+
     /**
      * Replaces the feed {@code target} in the list with {@code editedFeed}.
      * {@code target} must exist in the list.
@@ -0,0 +1,48 @@
+package seedu.eatme.model.history;
+
+import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * A change made to the data of the application, which knows how to undo and redo itself.
+ * A change only holds the items it changed, so it costs as much memory as the change, not as the data.
+ */
+public interface Change {
+
+    /**
+     * Puts the data back to how it was before the change. The data must be as it was right after the change.
+     */
+    void undo();
+
+    /**
+     * Makes the change again. The data must be as it was right before the change.
+     */
+    void redo();
+
+    /**
+     * Returns the number of items, such as eateries, reviews and feeds, that this change holds on to.
+     */
+    int getSize();
+
+    /**
+     * Returns a change of {@code size} items that is undone with {@code undo} and redone with {@code redo}.
+     */
+    static Change of(int size, Runnable undo, Runnable redo) {
+        requireAllNonNull(undo, redo);
+        return new Change() {
+            @Override
+            public void undo() {
+                undo.run();
+            }
+
+            @Override
+            public void redo() {
+                redo.run();
+            }
+
+            @Override
+            public int getSize() {
+                return size;
+            }
+        };
+    }
+}
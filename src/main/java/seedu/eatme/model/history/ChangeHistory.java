@@ -0,0 +1,254 @@
+package seedu.eatme.model.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.eatme.commons.core.LogsCenter;
+
+/**
+ * The history of the changes made by commands, which can be undone and redone command by command.
+ *
+ * Changes are recorded as they are made, and are grouped into one entry for each command when the command is
+ * committed. Each entry only holds the changes of its command, so the history never copies the data. The history is
+ * bounded both by the number of commands that can be undone, and by the total number of items held by its entries;
+ * the oldest entries are forgotten first. A command whose changes alone hold more items than the bound cannot be
+ * undone, and neither can any command before it.
+ *
+ * Independently of these bounds, the changes made since a rollback point was marked are kept until the point is
+ * released, so that a command made of other commands can put the data back as it was when any of them fails.
+ */
+public class ChangeHistory {
+
+    /** The default number of commands that can be undone. */
+    public static final int DEFAULT_MAX_DEPTH = 20;
+    /** The default number of items, such as eateries and reviews, that the history holds on to at most. */
+    public static final long DEFAULT_MAX_SIZE = 100_000;
+
+    private static final Logger logger = LogsCenter.getLogger(ChangeHistory.class);
+
+    private final int maxDepth;
+    private final long maxSize;
+    private final Deque<Entry> undoEntries = new ArrayDeque<>();
+    private final Deque<Entry> redoEntries = new ArrayDeque<>();
+    private List<Change> pendingChanges = new ArrayList<>();
+    private long pendingSize;
+    private long size;
+    private boolean isOverflowed;
+    private boolean isApplying;
+    private List<Change> rollbackChanges;
+    private int rollbackPendingIndex;
+
+    /**
+     * Creates a history of the last {@code maxDepth} commands, holding on to {@code maxSize} items at most.
+     * Nothing is recorded if {@code maxDepth} is zero.
+     */
+    public ChangeHistory(int maxDepth, long maxSize) {
+        if (maxDepth < 0 || maxSize < 0) {
+            throw new IllegalArgumentException("History bounds must not be negative");
+        }
+        this.maxDepth = maxDepth;
+        this.maxSize = maxSize;
+    }
+
+    public ChangeHistory() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Records {@code change}, which has just been made, as part of the command that is running.
+     * Changes made while undoing or redoing are not recorded.
+     */
+    public void record(Change change) {
+        requireNonNull(change);
+        if (isApplying) {
+            return;
+        }
+        if (rollbackChanges != null) {
+            rollbackChanges.add(change);
+        }
+        if (maxDepth == 0 || isOverflowed) {
+            return;
+        }
+        pendingChanges.add(change);
+        pendingSize += change.getSize();
+        if (pendingSize > maxSize) {
+            logger.info("Changes of the running command are too large to be undone, forgetting the history");
+            clear();
+            isOverflowed = true;
+        }
+    }
+
+    /**
+     * Groups the changes recorded since the last commit into an entry described by {@code description}, which can be
+     * undone. Nothing happens if no change has been recorded. Commands that were undone can no longer be redone once
+     * a new entry is committed.
+     */
+    public void commit(String description) {
+        requireNonNull(description);
+        if (isOverflowed) {
+            isOverflowed = false;
+            return;
+        }
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        redoEntries.forEach(entry -> size -= entry.size);
+        redoEntries.clear();
+        undoEntries.push(new Entry(description, pendingChanges, pendingSize));
+        size += pendingSize;
+        pendingChanges = new ArrayList<>();
+        pendingSize = 0;
+
+        while (!undoEntries.isEmpty() && (undoEntries.size() > maxDepth || size > maxSize)) {
+            size -= undoEntries.removeLast().size;
+        }
+    }
+
+    /**
+     * Forgets the changes recorded since the last commit, such as those of a command that failed. The changes are
+     * left in place, but cannot be undone, and the commands that can be undone or redone stay the same.
+     */
+    public void discard() {
+        isOverflowed = false;
+        pendingChanges = new ArrayList<>();
+        pendingSize = 0;
+    }
+
+    public boolean canUndo() {
+        return !undoEntries.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoEntries.isEmpty();
+    }
+
+    /**
+     * Undoes the changes of the last command that has not been undone.
+     *
+     * @return the description of the undone command.
+     * @throws IllegalStateException if there is no command to undo, or there are uncommitted changes.
+     */
+    public String undo() {
+        if (!canUndo() || !pendingChanges.isEmpty()) {
+            throw new IllegalStateException("There is no command to undo");
+        }
+        Entry entry = undoEntries.pop();
+        isApplying = true;
+        try {
+            for (int i = entry.changes.size() - 1; i >= 0; i--) {
+                entry.changes.get(i).undo();
+            }
+        } finally {
+            isApplying = false;
+        }
+        redoEntries.push(entry);
+        return entry.description;
+    }
+
+    /**
+     * Redoes the changes of the last command that has been undone.
+     *
+     * @return the description of the redone command.
+     * @throws IllegalStateException if there is no command to redo, or there are uncommitted changes.
+     */
+    public String redo() {
+        if (!canRedo() || !pendingChanges.isEmpty()) {
+            throw new IllegalStateException("There is no command to redo");
+        }
+        Entry entry = redoEntries.pop();
+        isApplying = true;
+        try {
+            entry.changes.forEach(Change::redo);
+        } finally {
+            isApplying = false;
+        }
+        undoEntries.push(entry);
+        return entry.description;
+    }
+
+    /**
+     * Marks a rollback point, from which every change recorded is kept until {@link #rollBack()} or
+     * {@link #releaseRollbackPoint()}, however large the changes are.
+     *
+     * @throws IllegalStateException if a rollback point is already marked.
+     */
+    public void markRollbackPoint() {
+        if (rollbackChanges != null) {
+            throw new IllegalStateException("A rollback point is already marked");
+        }
+        rollbackChanges = new ArrayList<>();
+        rollbackPendingIndex = pendingChanges.size();
+    }
+
+    /**
+     * Undoes the changes recorded since the rollback point, and forgets them, which releases the rollback point.
+     *
+     * @throws IllegalStateException if no rollback point is marked.
+     */
+    public void rollBack() {
+        if (rollbackChanges == null) {
+            throw new IllegalStateException("No rollback point is marked");
+        }
+        List<Change> changes = rollbackChanges;
+        releaseRollbackPoint();
+        isApplying = true;
+        try {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo();
+            }
+        } finally {
+            isApplying = false;
+        }
+
+        if (rollbackPendingIndex < pendingChanges.size()) {
+            pendingChanges.subList(rollbackPendingIndex, pendingChanges.size()).clear();
+            pendingSize = pendingChanges.stream().mapToLong(Change::getSize).sum();
+        }
+    }
+
+    /**
+     * Stops keeping the changes recorded since the rollback point, if one is marked.
+     */
+    public void releaseRollbackPoint() {
+        rollbackChanges = null;
+    }
+
+    /**
+     * Returns the total number of items held by the commands that can be undone or redone.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Forgets every command that can be undone or redone, and the changes recorded since the last commit.
+     */
+    public void clear() {
+        undoEntries.clear();
+        redoEntries.clear();
+        pendingChanges = new ArrayList<>();
+        pendingSize = 0;
+        size = 0;
+    }
+
+    /**
+     * The changes made by a single command, in the order they were made.
+     */
+    private static class Entry {
+        private final String description;
+        private final List<Change> changes;
+        private final long size;
+
+        Entry(String description, List<Change> changes, long size) {
+            this.description = description;
+            this.changes = changes;
+            this.size = size;
+        }
+    }
+}
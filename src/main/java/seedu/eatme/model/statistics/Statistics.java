@@ -1,12 +1,10 @@
 package seedu.eatme.model.statistics;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
 import java.util.TreeMap;
 
 import seedu.eatme.model.eatery.Category;
@@ -21,6 +19,8 @@ public class Statistics {
     public static final String MAX_VARIABLE = "max";
     public static final String MIN_VARIABLE = "min";
 
+    private static final int TOP_EATERIES_SIZE = 3;
+
     public final TreeMap<Category, Double> graphCategoryAvgExpense;
     public final TreeMap<Category, Double> graphCategoryTotalExpense;
     public final TreeMap<Category, Integer> chartCategoryTotalVisited;
@@ -30,48 +30,33 @@ public class Statistics {
     public final List<Eatery> leastVisitedEatery;
 
     private List<Eatery> eateries;
-    private TreeMap<Category, List<Eatery>> groupByCategory;
-    private List<Eatery> sortByExpense;
-    private List<Eatery> sortByVisit;
 
-    public Statistics(List<Eatery> allEateries) throws NoAvailableDataException, CannotGenerateStatisticsException {
-        this.eateries = getEateriesWithReviews(allEateries);
+    /**
+     * Creates the statistics from the aggregates kept by {@code tracker}.
+     * No review is gone through again, but the eateries with reviews are still copied, for {@link #equals(Object)}.
+     */
+    public Statistics(StatisticsTracker tracker) throws NoAvailableDataException, CannotGenerateStatisticsException {
+        requireNonNull(tracker);
 
-        if (eateries.size() == 0) {
+        if (tracker.isEmpty()) {
             throw new NoAvailableDataException();
         }
 
-        // needed for stats
-        this.groupByCategory = groupEaterybyCategory();
-        this.sortByExpense = sortEateriesByExpense();
-        this.sortByVisit = sortEateriesByVisit();
-
-        // generate stats
         try {
-            this.graphCategoryAvgExpense = generateCategoryCostAvg();
-            this.graphCategoryTotalExpense = generateCategoryCostTotal();
-            this.chartCategoryTotalVisited = generateCategoryVisit();
-            this.mostExpEatery = getMostExpEateries();
-            this.leastExpEatery = getLeastExpEateries();
-            this.mostVisitedEatery = getMostVisited();
-            this.leastVisitedEatery = getLeastVisited();
+            this.eateries = tracker.getEateriesWithReviews();
+            this.graphCategoryAvgExpense = tracker.getCategoryAverageExpense();
+            this.graphCategoryTotalExpense = tracker.getCategoryTotalExpense();
+            this.chartCategoryTotalVisited = tracker.getCategoryVisits();
+            this.mostExpEatery = tracker.getEateriesByExpense(TOP_EATERIES_SIZE, true);
+            this.leastExpEatery = tracker.getEateriesByExpense(TOP_EATERIES_SIZE, false);
+            this.mostVisitedEatery = tracker.getEateriesByVisit(TOP_EATERIES_SIZE, true);
+            this.leastVisitedEatery = tracker.getEateriesByVisit(TOP_EATERIES_SIZE, false);
 
         } catch (Exception e) {
             throw new CannotGenerateStatisticsException();
         }
     }
 
-    public static List<Eatery> getEateriesWithReviews(List<Eatery> eateries) {
-        List<Eatery> filteredEateries = new ArrayList<>();
-        for (Eatery e : eateries) {
-            if (e.getNumberOfReviews() > 0) {
-                filteredEateries.add(e);
-            }
-        }
-
-        return filteredEateries;
-    }
-
     public static HashMap<String, Double> getMaxMinValue(TreeMap<? extends Object, Double> stats) {
         HashMap<String, Double> maxMinMap = new HashMap<>();
 
@@ -92,178 +77,6 @@ public class Statistics {
         return maxMinMap;
     }
 
-    /**
-     * Groups the eateries by categories; to be used when generating statistics to do with categories.
-     */
-    private TreeMap<Category, List<Eatery>> groupEaterybyCategory() {
-        TreeMap<Category, List<Eatery>> groupedByCategory = new TreeMap<>();
-
-        for (Eatery e : eateries) {
-            if (groupedByCategory.containsKey(e.getCategory())) {
-                groupedByCategory.get(e.getCategory()).add(e);
-            } else {
-                groupedByCategory.put(e.getCategory(), new ArrayList<>());
-                groupedByCategory.get(e.getCategory()).add(e);
-            }
-        }
-
-        return groupedByCategory;
-    }
-
-    /**
-     * Generates a list that sorts the eateries by the number of reviews (i.e. visits).
-     * @return a list of {@link Eatery} sorted by the number of visits.
-     */
-    private List<Eatery> sortEateriesByVisit() {
-        PriorityQueue<Eatery> sortedVisits = new PriorityQueue<>(eateries.size(), new Comparator<Eatery>() {
-            @Override
-            public int compare(Eatery e1, Eatery e2) {
-                return e1.getNumberOfReviews() == e2.getNumberOfReviews() ? e1.getName().compareTo(e2.getName())
-                        : e1.getNumberOfReviews() - e2.getNumberOfReviews();
-            }
-        });
-
-        sortedVisits.addAll(eateries);
-
-        List<Eatery> sortedVisitsList = new ArrayList<>();
-        for (int i = 0; i < eateries.size(); i++) {
-            sortedVisitsList.add((Eatery) sortedVisits.poll());
-        }
-
-        return sortedVisitsList;
-    }
-
-    /**
-     * Generates a list that sorts the eateries by the total expense (i.e. total cost for every review in
-     * the eatery).
-     * @return a list of {@link Eatery} sorted by the total expense.
-     */
-    private List<Eatery> sortEateriesByExpense() {
-        PriorityQueue<Eatery> sortedExpense = new PriorityQueue<>(eateries.size(), new Comparator<Eatery>() {
-            @Override
-            public int compare(Eatery e1, Eatery e2) {
-                double e1Expense = e1.getTotalExpense() / e1.getNumberOfReviews();
-                double e2Expense = e2.getTotalExpense() / e2.getNumberOfReviews();
-
-                return e1Expense == e2Expense ? e1.getName().compareTo(e2.getName())
-                        : e1Expense > e2Expense ? 1 : -1;
-            }
-        });
-
-        sortedExpense.addAll(eateries);
-
-        List<Eatery> sortedExpenseList = new ArrayList<>();
-        for (int i = 0; i < eateries.size(); i++) {
-            sortedExpenseList.add((Eatery) sortedExpense.poll());
-        }
-
-        return sortedExpenseList;
-    }
-
-    /**
-     * Calculates the total amount spent for all categories; used to create the charts.
-     */
-    private TreeMap<Category, Double> generateCategoryCostTotal() {
-        Map<Category, List<Eatery>> duplicateMap = new TreeMap<>(groupEaterybyCategory());
-        TreeMap<Category, Double> statsMap = new TreeMap<>();
-
-        for (Map.Entry<Category, List<Eatery>> entry : duplicateMap.entrySet()) {
-            double total = 0;
-            for (Eatery e : entry.getValue()) {
-                total = total + e.getTotalExpense();
-            }
-
-            statsMap.put(entry.getKey(), total);
-        }
-        return statsMap;
-    }
-
-    /**
-     * Calculates the average amount spent for all categories; used to create the charts.
-     */
-    private TreeMap<Category, Double> generateCategoryCostAvg() {
-        Map<Category, List<Eatery>> duplicateMap = new TreeMap<>(groupEaterybyCategory());
-        TreeMap<Category, Double> statsMap = new TreeMap<>();
-
-        for (Map.Entry<Category, List<Eatery>> entry : duplicateMap.entrySet()) {
-            double total = 0;
-            int numberOfReviews = 0;
-            for (Eatery e : entry.getValue()) {
-                numberOfReviews = e.getNumberOfReviews();
-                total = total + e.getTotalExpense();
-            }
-
-            statsMap.put(entry.getKey(), total / numberOfReviews);
-        }
-        return statsMap;
-    }
-
-    /**
-     * Calculates the total number of visits to eateries in the different categories; used to create the charts.
-     */
-    private TreeMap<Category, Integer> generateCategoryVisit() {
-        Map<Category, List<Eatery>> duplicateMap = new TreeMap<>(groupEaterybyCategory());
-        TreeMap<Category, Integer> statsMap = new TreeMap<>();
-
-        for (Map.Entry<Category, List<Eatery>> entry : duplicateMap.entrySet()) {
-            int numberOfVisits = 0;
-            for (Eatery e : entry.getValue()) {
-                numberOfVisits = numberOfVisits + e.getNumberOfReviews();
-            }
-
-            statsMap.put(entry.getKey(), numberOfVisits);
-        }
-        return statsMap;
-    }
-
-    private List<Eatery> getMostExpEateries() {
-        List<Eatery> mostExp = new ArrayList<>();
-        List<Eatery> sortByExpenseCopy = new ArrayList<>(sortByExpense);
-        int size = sortByExpense.size() > 3 ? 3 : sortByExpense.size();
-
-        Collections.reverse(sortByExpenseCopy);
-        for (int i = 0; i < size; i++) {
-            mostExp.add(sortByExpenseCopy.get(i));
-        }
-
-        return mostExp;
-    }
-
-    private List<Eatery> getLeastExpEateries() {
-        List<Eatery> leastExp = new ArrayList<>();
-        int size = sortByExpense.size() > 3 ? 3 : sortByExpense.size();
-
-        for (int i = 0; i < size; i++) {
-            leastExp.add(sortByExpense.get(i));
-        }
-
-        return leastExp;
-    }
-
-    private List<Eatery> getMostVisited() {
-        List<Eatery> mostVisited = new ArrayList<>();
-        List<Eatery> sortByVisitCopy = new ArrayList<>(sortByVisit);
-        int size = sortByVisit.size() > 3 ? 3 : sortByVisit.size();
-
-        Collections.reverse(sortByVisitCopy);
-        for (int i = 0; i < size; i++) {
-            mostVisited.add(sortByVisitCopy.get(i));
-        }
-
-        return mostVisited;
-    }
-
-    private List<Eatery> getLeastVisited() {
-        List<Eatery> leastVisited = new ArrayList<>();
-        int size = sortByVisit.size() > 3 ? 3 : sortByVisit.size();
-
-        for (int i = 0; i < size; i++) {
-            leastVisited.add(sortByVisit.get(i));
-        }
-
-        return leastVisited;
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
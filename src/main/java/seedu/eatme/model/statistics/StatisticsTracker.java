@@ -0,0 +1,195 @@
+package seedu.eatme.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.eatme.model.eatery.Category;
+import seedu.eatme.model.eatery.Eatery;
+
+/**
+ * Keeps running aggregates of the reviews of a list of eateries, so that {@link Statistics} can be read off
+ * without going through every eatery and review.
+ *
+ * Additions, edits and removals of eateries are picked up from the list itself. Changes to the reviews of an
+ * eatery that is already in the list have to be reported through {@link #refresh(Eatery)}.
+ */
+public class StatisticsTracker {
+
+    private static final Comparator<Summary> BY_IDENTITY = Comparator
+            .comparing((Summary s) -> s.eatery.getName())
+            .thenComparing(s -> s.eatery.getAddress().value);
+    private static final Comparator<Summary> BY_EXPENSE = Comparator
+            .comparingDouble((Summary s) -> s.totalExpense / s.numberOfReviews)
+            .thenComparing(BY_IDENTITY);
+    private static final Comparator<Summary> BY_VISIT = Comparator
+            .comparingInt((Summary s) -> s.numberOfReviews)
+            .thenComparing(BY_IDENTITY);
+
+    private final Map<Eatery, Summary> summaries = new IdentityHashMap<>();
+    private final TreeMap<Category, CategoryTotal> categoryTotals = new TreeMap<>();
+    private final TreeSet<Summary> sortedByExpense = new TreeSet<>(BY_EXPENSE);
+    private final TreeSet<Summary> sortedByVisit = new TreeSet<>(BY_VISIT);
+
+    /**
+     * Creates a tracker over {@code eateries} that is kept in sync with the list.
+     */
+    public StatisticsTracker(ObservableList<Eatery> eateries) {
+        requireNonNull(eateries);
+        eateries.forEach(this::track);
+        eateries.addListener(this::update);
+    }
+
+    /**
+     * Updates the aggregates of {@code eatery} after its reviews have been changed.
+     * Eateries that are not in the tracked list are ignored.
+     */
+    public void refresh(Eatery eatery) {
+        requireNonNull(eatery);
+        if (summaries.containsKey(eatery)) {
+            untrack(eatery);
+            track(eatery);
+        }
+    }
+
+    /**
+     * Returns true if none of the tracked eateries has any reviews.
+     */
+    public boolean isEmpty() {
+        return sortedByVisit.isEmpty();
+    }
+
+    TreeMap<Category, Double> getCategoryTotalExpense() {
+        TreeMap<Category, Double> totalExpense = new TreeMap<>();
+        categoryTotals.forEach((category, total) -> totalExpense.put(category, total.totalExpense.doubleValue()));
+        return totalExpense;
+    }
+
+    /**
+     * Returns the average expense per review of each category, which is the total expense of the category divided
+     * by the number of reviews of all its eateries.
+     */
+    TreeMap<Category, Double> getCategoryAverageExpense() {
+        TreeMap<Category, Double> averageExpense = new TreeMap<>();
+        categoryTotals.forEach((category, total) ->
+                averageExpense.put(category, total.totalExpense.doubleValue() / total.numberOfReviews));
+        return averageExpense;
+    }
+
+    TreeMap<Category, Integer> getCategoryVisits() {
+        TreeMap<Category, Integer> visits = new TreeMap<>();
+        categoryTotals.forEach((category, total) -> visits.put(category, total.numberOfReviews));
+        return visits;
+    }
+
+    /**
+     * Returns at most {@code limit} eateries, from the highest average expense per review downwards
+     * if {@code isDescending}, otherwise from the lowest upwards.
+     */
+    List<Eatery> getEateriesByExpense(int limit, boolean isDescending) {
+        return take(isDescending ? sortedByExpense.descendingIterator() : sortedByExpense.iterator(), limit);
+    }
+
+    /**
+     * Returns at most {@code limit} eateries, from the most visited downwards if {@code isDescending},
+     * otherwise from the least visited upwards.
+     */
+    List<Eatery> getEateriesByVisit(int limit, boolean isDescending) {
+        return take(isDescending ? sortedByVisit.descendingIterator() : sortedByVisit.iterator(), limit);
+    }
+
+    /**
+     * Returns all eateries with reviews, from the least visited upwards.
+     */
+    List<Eatery> getEateriesWithReviews() {
+        return take(sortedByVisit.iterator(), sortedByVisit.size());
+    }
+
+    private void update(ListChangeListener.Change<? extends Eatery> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::untrack);
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    private void track(Eatery eatery) {
+        Summary summary = new Summary(eatery);
+        summaries.put(eatery, summary);
+        if (summary.numberOfReviews == 0) {
+            return;
+        }
+
+        sortedByExpense.add(summary);
+        sortedByVisit.add(summary);
+        categoryTotals.computeIfAbsent(summary.category, unused -> new CategoryTotal()).add(summary, 1);
+    }
+
+    private void untrack(Eatery eatery) {
+        Summary summary = summaries.remove(eatery);
+        if (summary == null || summary.numberOfReviews == 0) {
+            return;
+        }
+
+        sortedByExpense.remove(summary);
+        sortedByVisit.remove(summary);
+        CategoryTotal total = categoryTotals.get(summary.category);
+        total.add(summary, -1);
+        if (total.numberOfReviews == 0) {
+            categoryTotals.remove(summary.category);
+        }
+    }
+
+    private static List<Eatery> take(Iterator<Summary> iterator, int limit) {
+        List<Eatery> eateries = new ArrayList<>();
+        while (iterator.hasNext() && eateries.size() < limit) {
+            eateries.add(iterator.next().eatery);
+        }
+        return eateries;
+    }
+
+    /**
+     * Values of an eatery at the time it was last tracked.
+     * These are kept separately as the sorted sets must not see the values change while the summary is in them.
+     */
+    private static class Summary {
+        private final Eatery eatery;
+        private final Category category;
+        private final double totalExpense;
+        private final int numberOfReviews;
+
+        Summary(Eatery eatery) {
+            this.eatery = eatery;
+            this.category = eatery.getCategory();
+            this.totalExpense = eatery.getTotalExpense();
+            this.numberOfReviews = eatery.getNumberOfReviews();
+        }
+    }
+
+    /**
+     * Running totals of the eateries in a category.
+     * The expense is summed exactly, so that it does not drift from the sum of the eateries over many changes.
+     */
+    private static class CategoryTotal {
+        private BigDecimal totalExpense = BigDecimal.ZERO;
+        private int numberOfReviews;
+
+        void add(Summary summary, int sign) {
+            BigDecimal expense = new BigDecimal(summary.totalExpense);
+            totalExpense = sign > 0 ? totalExpense.add(expense) : totalExpense.subtract(expense);
+            numberOfReviews = numberOfReviews + sign * summary.numberOfReviews;
+        }
+    }
+}
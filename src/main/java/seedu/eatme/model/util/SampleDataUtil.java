@@ -24,32 +24,32 @@ public class SampleDataUtil {
             new Eatery(new Name("Ali Nachia Briyani Dam"),
                 true,
                 new Address("5 Tanjong Pagar Plaza, #02-04, Singapore 081005"),
-                new Category("Malay"),
+                Category.create("Malay"),
                 getTagSet("nice")),
             new Eatery(new Name("Fei Fei Wanton Mee"),
                 true,
                 new Address("62 Joo Chiat Place, Singapore 427785"),
-                new Category("Chinese"),
+                Category.create("Chinese"),
                 getTagSet("delicious")),
             new Eatery(new Name("Swee Choon Tim Sum"),
                 true,
                 new Address("191 Jalan Besar, Singapore 208882"),
-                new Category("Chinese"),
+                Category.create("Chinese"),
                 getTagSet("supper")),
             new Eatery(new Name("Janggut Laksa"),
                 true,
                 new Address("1 Queensway, Queensway Shopping Centre, #01-59, Singapore 149053"),
-                new Category("Peranakan"),
+                Category.create("Peranakan"),
                 getTagSet("delicious")),
             new Eatery(new Name("Seng Hiang Food Stall"),
                 true,
                 new Address("Blk 85 Bedok North Street 4, Fengshan Market & FoodCentre, Singapore 460085"),
-                new Category("Chinese"),
+                Category.create("Chinese"),
                 getTagSet("hawker", "cheap")),
             new Eatery(new Name("Selegie Soya Bean"),
                 true,
                 new Address("990 Upper Serangoon Road, Singapore 534734"),
-                new Category("Chinese"),
+                Category.create("Chinese"),
                 getTagSet("dessert"))
         };
     }
@@ -73,7 +73,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::create)
                 .collect(Collectors.toSet());
     }
 
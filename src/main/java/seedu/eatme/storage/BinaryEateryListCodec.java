@@ -0,0 +1,275 @@
+package seedu.eatme.storage;
+
+import static seedu.eatme.storage.JsonSerializableEateryList.MESSAGE_DUPLICATE_EATERY;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.eatme.commons.exceptions.IllegalValueException;
+import seedu.eatme.model.EateryList;
+import seedu.eatme.model.ReadOnlyEateryList;
+import seedu.eatme.model.eatery.Address;
+import seedu.eatme.model.eatery.Category;
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.Name;
+import seedu.eatme.model.eatery.Review;
+import seedu.eatme.model.eatery.Tag;
+
+/**
+ * Encodes eatery lists into the binary format of {@link BinaryEateryListStorage}, and decodes them back.
+ *
+ * All numbers are big-endian, and every string is its length in UTF-8 bytes followed by those bytes.
+ * A file holds the magic number and format version, then a dictionary of the names of all tags and categories,
+ * then the eateries and the todos, each a count followed by that many eateries. An eatery is its name, whether it
+ * is open, its address, the dictionary index of its category, its tag count and tag indices, and its review count
+ * followed by packed reviews of the date in epoch millis, the cost, the rating and the description.
+ */
+class BinaryEateryListCodec {
+
+    public static final int MAGIC = 0x45415442; // "EATB"
+    public static final int VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary eatery list.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary eatery list version %1$d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary eatery list is truncated or corrupted.";
+
+    private BinaryEateryListCodec() {}
+
+    /**
+     * Returns true if {@code header} starts with the magic number of the binary format.
+     */
+    static boolean isBinary(ByteBuffer header) {
+        return header.remaining() >= Integer.BYTES && header.getInt(header.position()) == MAGIC;
+    }
+
+    /**
+     * Encodes {@code source} into the binary format.
+     */
+    static byte[] encode(ReadOnlyEateryList source) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (List<Eatery> eateries : List.of(source.getEateryList(), source.getTodoList())) {
+            for (Eatery eatery : eateries) {
+                dictionary.putIfAbsent(eatery.getCategory().getName(), dictionary.size());
+                for (Tag tag : eatery.getTags()) {
+                    dictionary.putIfAbsent(tag.getName(), dictionary.size());
+                }
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(dictionary.size());
+            for (String name : dictionary.keySet()) {
+                writeString(output, name);
+            }
+            writeEateries(output, source.getEateryList(), dictionary);
+            writeEateries(output, source.getTodoList(), dictionary);
+        } catch (IOException ioe) {
+            throw new AssertionError("Writing to memory should not fail.", ioe);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the eatery list in {@code buffer}, from its position to its limit.
+     *
+     * @throws IOException if the buffer does not hold a complete eatery list of a supported version.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static EateryList decode(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            if (!isBinary(buffer)) {
+                throw new IOException(MESSAGE_NOT_BINARY);
+            }
+            buffer.getInt();
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            return new Decoder(buffer).decode();
+        } catch (BufferUnderflowException bue) {
+            throw new IOException(MESSAGE_CORRUPTED, bue);
+        }
+    }
+
+    private static void writeEateries(DataOutputStream output, List<Eatery> eateries,
+                                      Map<String, Integer> dictionary) throws IOException {
+        output.writeInt(eateries.size());
+        for (Eatery eatery : eateries) {
+            writeString(output, eatery.getName().fullName);
+            output.writeBoolean(eatery.getIsOpen());
+            writeString(output, eatery.getAddress().value);
+            output.writeInt(dictionary.get(eatery.getCategory().getName()));
+            output.writeInt(eatery.getTags().size());
+            for (Tag tag : eatery.getTags()) {
+                output.writeInt(dictionary.get(tag.getName()));
+            }
+            output.writeInt(eatery.getReviews().size());
+            for (Review review : eatery.getReviews()) {
+                output.writeLong(review.getDate().getTime());
+                output.writeDouble(review.getCost());
+                output.writeByte(review.getRating());
+                writeString(output, review.getDescription());
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Decodes one eatery list, validating each dictionary entry once, the first time it is used.
+     */
+    private static class Decoder {
+
+        private static final int MIN_STRING_BYTES = Integer.BYTES;
+        private static final int MIN_EATERY_BYTES = 2 * MIN_STRING_BYTES + 1 + 3 * Integer.BYTES;
+        private static final int MIN_REVIEW_BYTES = Long.BYTES + Double.BYTES + 1 + MIN_STRING_BYTES;
+
+        private final ByteBuffer buffer;
+        private byte[] scratch = new byte[64];
+        private String[] dictionary;
+        private Category[] categories;
+        private Tag[] tags;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        EateryList decode() throws IOException, IllegalValueException {
+            int dictionarySize = readCount(MIN_STRING_BYTES);
+            dictionary = new String[dictionarySize];
+            categories = new Category[dictionarySize];
+            tags = new Tag[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                dictionary[i] = readString();
+            }
+
+            EateryList eateryList = new EateryList();
+            readEateries(eateryList);
+            eateryList.toggle();
+            readEateries(eateryList);
+            if (buffer.hasRemaining()) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            return eateryList;
+        }
+
+        private void readEateries(EateryList eateryList) throws IOException, IllegalValueException {
+            int count = readCount(MIN_EATERY_BYTES);
+            for (int i = 0; i < count; i++) {
+                Eatery eatery = readEatery();
+                if (eateryList.hasEatery(eatery)) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_EATERY);
+                }
+                eateryList.addEatery(eatery);
+            }
+        }
+
+        private Eatery readEatery() throws IOException, IllegalValueException {
+            String name = readString();
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            boolean isOpen = buffer.get() != 0;
+            String address = readString();
+            if (!Address.isValidAddress(address)) {
+                throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+            }
+            Category category = readCategory();
+
+            int tagCount = readCount(Integer.BYTES);
+            Set<Tag> eateryTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                eateryTags.add(readTag());
+            }
+
+            int reviewCount = readCount(MIN_REVIEW_BYTES);
+            List<Review> reviews = new ArrayList<>(reviewCount);
+            for (int i = 0; i < reviewCount; i++) {
+                reviews.add(readReview());
+            }
+
+            Eatery eatery = new Eatery(new Name(name), isOpen, new Address(address), category, eateryTags);
+            eatery.setReviews(reviews);
+            return eatery;
+        }
+
+        private Review readReview() throws IOException, IllegalValueException {
+            long date = buffer.getLong();
+            double cost = buffer.getDouble();
+            int rating = buffer.get();
+            String description = readString();
+            if (!Review.isValidReview(description, cost, rating)) {
+                throw new IllegalValueException(Review.REVIEW_CONSTRAINTS);
+            }
+            return new Review(description, cost, rating, new Date(date));
+        }
+
+        private Category readCategory() throws IOException, IllegalValueException {
+            int id = readDictionaryIndex();
+            if (categories[id] == null) {
+                if (!Category.isValidCategory(dictionary[id])) {
+                    throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
+                }
+                categories[id] = Category.create(dictionary[id]);
+            }
+            return categories[id];
+        }
+
+        private Tag readTag() throws IOException, IllegalValueException {
+            int id = readDictionaryIndex();
+            if (tags[id] == null) {
+                if (!Tag.isValidTag(dictionary[id])) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags[id] = Tag.create(dictionary[id]);
+            }
+            return tags[id];
+        }
+
+        private int readDictionaryIndex() throws IOException {
+            int id = buffer.getInt();
+            if (id < 0 || id >= dictionary.length) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            return id;
+        }
+
+        /**
+         * Reads a count of items that take at least {@code minBytes} each, checking that they can fit in the rest
+         * of the buffer so that a corrupted count is not used to allocate memory.
+         */
+        private int readCount(int minBytes) throws IOException {
+            int count = buffer.getInt();
+            if (count < 0 || (long) count * minBytes > buffer.remaining()) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            return count;
+        }
+
+        private String readString() throws IOException {
+            int length = readCount(1);
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, 2 * scratch.length)];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package seedu.eatme.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.eatme.commons.core.LogsCenter;
+import seedu.eatme.commons.exceptions.DataConversionException;
+import seedu.eatme.commons.exceptions.IllegalValueException;
+import seedu.eatme.commons.util.FileUtil;
+import seedu.eatme.model.ReadOnlyEateryList;
+
+/**
+ * A class to access EateryList data stored in the compact binary format of {@link BinaryEateryListCodec}.
+ *
+ * The data file is kept next to the json data file, with {@link #BINARY_SUFFIX} appended to its name, and is
+ * read in one go into a buffer that it is decoded from. If there is no binary data file yet, or the json data file
+ * or its journal was saved after it, the json data is imported instead, and the next save writes the binary file.
+ * The json storages import the binary data file in the same way when it was saved after their json data, so the
+ * format can be switched either way without losing changes.
+ * Reading any other file accepts both formats, and saving to any other file writes json unless its name ends
+ * with {@link #BINARY_SUFFIX}, so the data can be exported to and imported from json without loss.
+ */
+public class BinaryEateryListStorage implements EateryListStorage {
+
+    public static final String BINARY_SUFFIX = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryEateryListStorage.class);
+
+    private final Path jsonFilePath;
+    private final Path filePath;
+
+    /**
+     * Creates a storage that keeps its data file next to the json data file at {@code jsonFilePath}.
+     */
+    public BinaryEateryListStorage(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        this.jsonFilePath = jsonFilePath;
+        this.filePath = binaryPath(jsonFilePath);
+    }
+
+    @Override
+    public Path getEateryListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEateryList> readEateryList() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found, importing " + jsonFilePath);
+            return readEateryList(jsonFilePath);
+        }
+        if (isSavedAfter(jsonDataFiles(jsonFilePath), List.of(filePath))) {
+            logger.info("Json data " + jsonFilePath + " is newer than " + filePath + ", importing it");
+            return readEateryList(jsonFilePath);
+        }
+        return readEateryList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEateryList()}.
+     *
+     * @param filePath location of the data, in either the binary or the json format. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyEateryList> readEateryList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return readJournalOnly(filePath);
+        }
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                return Optional.of(readJson(filePath).toModelType());
+            }
+            // the file is not memory-mapped, as a mapping is only released when it is garbage collected, and keeps
+            // the file from being replaced by the next save on some platforms
+            return Optional.of(BinaryEateryListCodec.decode(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveEateryList(ReadOnlyEateryList eateryList) throws IOException {
+        saveEateryList(eateryList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEateryList(ReadOnlyEateryList)}.
+     *
+     * @param filePath location of the data, in the binary format if its name ends with {@link #BINARY_SUFFIX},
+     *                 and in the json format otherwise. Cannot be null.
+     */
+    @Override
+    public void saveEateryList(ReadOnlyEateryList eateryList, Path filePath) throws IOException {
+        requireNonNull(eateryList);
+        requireNonNull(filePath);
+
+        if (filePath.getFileName().toString().endsWith(BINARY_SUFFIX)) {
+            writeFile(filePath, BinaryEateryListCodec.encode(eateryList));
+        } else {
+            JsonEateryListStream.write(eateryList, 0, filePath);
+        }
+    }
+
+    @Override
+    public PendingSave prepareSaveEateryList(ReadOnlyEateryList eateryList) {
+        requireNonNull(eateryList);
+
+        byte[] bytes = BinaryEateryListCodec.encode(eateryList);
+        return () -> writeFile(filePath, bytes);
+    }
+
+    @Override
+    public void trackEateryList(ReadOnlyEateryList eateryList) {
+        // every save writes the binary file whole
+    }
+
+    @Override
+    public void flushEateryList() {
+        // the binary file is always complete
+    }
+
+    /**
+     * Returns the path of the binary data file kept next to the json data file at {@code jsonFilePath}.
+     */
+    static Path binaryPath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + BINARY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the binary data file kept next to the json data file at {@code jsonFilePath} was saved after
+     * the json data file and its journal, which means the binary format was used last.
+     */
+    static boolean isBinaryNewer(Path jsonFilePath) {
+        return isSavedAfter(List.of(binaryPath(jsonFilePath)), jsonDataFiles(jsonFilePath));
+    }
+
+    /**
+     * Reads the binary data file kept next to the json data file at {@code jsonFilePath}, for a json storage of
+     * that file once {@link #isBinaryNewer(Path)}. The journal of the json data is older than the binary data, so
+     * it is deleted, to keep it from being replayed on top of the binary data once that is saved as json.
+     *
+     * @throws DataConversionException if the binary data file is not in the correct format, or the journal cannot
+     *                                 be deleted.
+     */
+    static Optional<ReadOnlyEateryList> importBinary(Path jsonFilePath) throws DataConversionException {
+        Path filePath = binaryPath(jsonFilePath);
+        logger.info("Binary file " + filePath + " is newer than " + jsonFilePath + ", importing it");
+        Optional<ReadOnlyEateryList> eateryList = new BinaryEateryListStorage(jsonFilePath).readEateryList(filePath);
+        try {
+            JournaledEateryListStorage.deleteJournals(jsonFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Error deleting the journal of " + jsonFilePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+        return eateryList;
+    }
+
+    /**
+     * Returns the files that hold the json data at {@code jsonFilePath}.
+     */
+    private static List<Path> jsonDataFiles(Path jsonFilePath) {
+        return List.of(jsonFilePath,
+                JournaledEateryListStorage.journalPath(jsonFilePath, JournaledEateryListStorage.JOURNAL_SUFFIX),
+                JournaledEateryListStorage.journalPath(jsonFilePath,
+                        JournaledEateryListStorage.COMPACTING_JOURNAL_SUFFIX));
+    }
+
+    /**
+     * Returns true if one of {@code newerFiles} exists and was saved after all of {@code olderFiles}.
+     */
+    private static boolean isSavedAfter(List<Path> newerFiles, List<Path> olderFiles) {
+        Optional<FileTime> newer = lastModifiedTime(newerFiles);
+        Optional<FileTime> older = lastModifiedTime(olderFiles);
+        return newer.isPresent() && (older.isEmpty() || newer.get().compareTo(older.get()) > 0);
+    }
+
+    /**
+     * Returns the time the most recently saved of {@code files} was saved, if any of them exists.
+     */
+    private static Optional<FileTime> lastModifiedTime(List<Path> files) {
+        Optional<FileTime> lastModifiedTime = Optional.empty();
+        for (Path file : files) {
+            try {
+                FileTime time = Files.getLastModifiedTime(file);
+                if (lastModifiedTime.isEmpty() || time.compareTo(lastModifiedTime.get()) > 0) {
+                    lastModifiedTime = Optional.of(time);
+                }
+            } catch (IOException ioe) {
+                // a file that does not exist was never saved
+            }
+        }
+        return lastModifiedTime;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary eatery list.
+     */
+    private static boolean isBinaryFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            int bytesRead = 0;
+            while (header.hasRemaining() && bytesRead >= 0) {
+                bytesRead = channel.read(header);
+            }
+            header.flip();
+            return BinaryEateryListCodec.isBinary(header);
+        }
+    }
+
+    /**
+     * Writes {@code bytes} to a temporary file that then replaces the file at {@code filePath}, so that the file
+     * is never left half written.
+     */
+    private static void writeFile(Path filePath, byte[] bytes) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.write(temporaryFile, bytes);
+        Files.move(temporaryFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the json data at {@code filePath}, which does not exist, from the journal left next to it, if any.
+     */
+    private static Optional<ReadOnlyEateryList> readJournalOnly(Path filePath) throws DataConversionException {
+        if (!JournaledEateryListStorage.hasJournal(filePath)) {
+            logger.info("Data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readJson(filePath).toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the journal of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from the journal of " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Reads the json data at {@code filePath} with the journal next to it, if any, replayed on top.
+     */
+    private static JsonEateryListStream readJson(Path filePath) throws IOException, IllegalValueException {
+        return JournaledEateryListStorage.readSnapshotAndJournal(filePath).orElseThrow(() ->
+                new IOException("Data file " + filePath + " not found"));
+    }
+}
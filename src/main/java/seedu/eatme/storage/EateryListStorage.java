@@ -43,4 +43,26 @@ public interface EateryListStorage {
      */
     void saveEateryList(ReadOnlyEateryList eateryList, Path filePath) throws IOException;
 
+    /**
+     * Takes the data of the given {@link ReadOnlyEateryList} now, and returns a save of it to the storage
+     * that can be written later on another thread.
+     * A save that has not been written yet may be dropped in favour of a later one from the same storage.
+     * @param eateryList cannot be null.
+     */
+    PendingSave prepareSaveEateryList(ReadOnlyEateryList eateryList);
+
+    /**
+     * Tells this storage that {@code eateryList} holds the data just read from its data file, so that later saves
+     * of it may only write the changes made to it from now on.
+     * @param eateryList cannot be null.
+     */
+    void trackEateryList(ReadOnlyEateryList eateryList);
+
+    /**
+     * Writes any saved data that this storage keeps apart from its data file, such as a journal, into the
+     * data file, so that the data file alone is complete.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushEateryList() throws IOException;
+
 }
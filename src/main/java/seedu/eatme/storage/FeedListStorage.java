@@ -44,4 +44,13 @@ public interface FeedListStorage {
      */
     void saveFeedList(ReadOnlyFeedList feedList, Path filePath) throws IOException;
 
+    /**
+     * Takes the data of the given {@link ReadOnlyFeedList} now, and returns a save of it to the storage
+     * that can be written later on another thread.
+     * A save that has not been written yet may be dropped in favour of a later one from the same storage.
+     *
+     * @param feedList cannot be null.
+     */
+    PendingSave prepareSaveFeedList(ReadOnlyFeedList feedList);
+
 }
@@ -0,0 +1,460 @@
+package seedu.eatme.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import seedu.eatme.commons.core.LogsCenter;
+import seedu.eatme.commons.exceptions.DataConversionException;
+import seedu.eatme.commons.exceptions.IllegalValueException;
+import seedu.eatme.commons.util.JsonUtil;
+import seedu.eatme.model.ReadOnlyEateryList;
+import seedu.eatme.model.eatery.Eatery;
+
+/**
+ * A class to access EateryList data stored as a json snapshot and an append-only journal on the hard disk.
+ *
+ * The eatery list read from the snapshot and journal is tracked with {@link #trackEateryList(ReadOnlyEateryList)},
+ * and any other eatery list is tracked from its first save, which writes the whole of it to the snapshot. Saves of
+ * the tracked list only append the changes since the previous save to the journal, one compact
+ * {@link JsonEateryListRecord} per line. Once the journal holds {@code compactionThreshold} records, it is
+ * folded into a new snapshot in the background, and it is folded in on {@link #flushEateryList()} too, so the
+ * snapshot is complete once the application stops. Reading the data replays the journal on top of the snapshot,
+ * unless a {@link BinaryEateryListStorage} saved the data after them, in which case the binary data is imported.
+ *
+ * Records and snapshots are taken from the model when a save is prepared, and handed to the writing side
+ * through thread-safe queues, so a {@link PendingSave} of this storage may be written on another thread.
+ * Every pending save writes out whatever has been handed over so far, so any of them may be dropped as long as
+ * a later one is written.
+ */
+public class JournaledEateryListStorage implements EateryListStorage {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_SUFFIX = ".journal.old";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledEateryListStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "eatery-list-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Queue<JsonEateryListRecord> pendingRecords = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Snapshot> pendingSnapshot = new AtomicReference<>();
+    private volatile boolean needsFullSnapshot = true;
+
+    // Used by the thread that changes and saves the model.
+    private final ListChangeListener<Eatery> eateriesListener = change -> record(change, false);
+    private final ListChangeListener<Eatery> todosListener = change -> record(change, true);
+    private ReadOnlyEateryList trackedEateryList;
+    private long sequence;
+    private int recordsSinceSnapshot;
+    /** Whether the data files hold the data of the last eatery list read from them. */
+    private boolean isReadFromDataFiles;
+
+    // Used by the thread that writes the saves, guarded by this storage.
+    private Future<?> compaction;
+
+    public JournaledEateryListStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that folds the journal into the snapshot once it holds {@code compactionThreshold} records.
+     */
+    public JournaledEateryListStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getEateryListFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath(filePath, JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyEateryList> readEateryList() throws DataConversionException {
+        if (BinaryEateryListStorage.isBinaryNewer(filePath)) {
+            awaitCompaction();
+            sequence = 0;
+            isReadFromDataFiles = false;
+            return BinaryEateryListStorage.importBinary(filePath);
+        }
+        return readEateryList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEateryList()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyEateryList> readEateryList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        awaitCompaction();
+
+        try {
+            Optional<JsonEateryListStream> jsonEateryList = readSnapshotAndJournal(filePath);
+            if (jsonEateryList.isEmpty()) {
+                logger.info("Json file " + filePath + " not found");
+                return Optional.empty();
+            }
+            if (filePath.equals(this.filePath)) {
+                sequence = jsonEateryList.get().getSequence();
+                isReadFromDataFiles = true;
+            }
+            return Optional.of(jsonEateryList.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + " or its journal: " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveEateryList(ReadOnlyEateryList eateryList) throws IOException {
+        prepareSaveEateryList(eateryList).write();
+    }
+
+    /**
+     * Similar to {@link #saveEateryList(ReadOnlyEateryList)}.
+     * Only saves to the storage's own file path are journaled; other paths get a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveEateryList(ReadOnlyEateryList eateryList, Path filePath) throws IOException {
+        requireNonNull(eateryList);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveEateryList(eateryList);
+            return;
+        }
+
+        JsonEateryListStream.write(eateryList, 0, filePath);
+    }
+
+    @Override
+    public PendingSave prepareSaveEateryList(ReadOnlyEateryList eateryList) {
+        requireNonNull(eateryList);
+
+        if (eateryList != trackedEateryList || needsFullSnapshot) {
+            track(eateryList);
+            recordsSinceSnapshot = 0;
+            handOver(new Snapshot(new JsonSerializableEateryList(eateryList, sequence), true));
+            needsFullSnapshot = false;
+        } else if (recordsSinceSnapshot >= compactionThreshold) {
+            recordsSinceSnapshot = 0;
+            handOver(new Snapshot(new JsonSerializableEateryList(eateryList, sequence), false));
+        }
+        return this::write;
+    }
+
+    /**
+     * Starts journaling the changes of {@code eateryList} without writing it to the snapshot first, if it holds
+     * the data just read from the snapshot and journal of this storage.
+     */
+    @Override
+    public void trackEateryList(ReadOnlyEateryList eateryList) {
+        requireNonNull(eateryList);
+        if (!isReadFromDataFiles || trackedEateryList != null) {
+            return;
+        }
+        track(eateryList);
+        recordsSinceSnapshot = 0;
+        needsFullSnapshot = false;
+    }
+
+    /**
+     * Folds the journal into the snapshot, so that the snapshot alone holds all the data saved so far.
+     * If no eatery list has been saved by this storage yet, a journal left behind by an earlier run is folded.
+     */
+    @Override
+    public void flushEateryList() throws IOException {
+        if (trackedEateryList != null) {
+            if (!needsFullSnapshot && pendingRecords.isEmpty() && !hasJournal(filePath)) {
+                return;
+            }
+            recordsSinceSnapshot = 0;
+            handOver(new Snapshot(new JsonSerializableEateryList(trackedEateryList, sequence), true));
+            write();
+            return;
+        }
+
+        awaitCompaction();
+        if (!hasJournal(filePath)) {
+            return;
+        }
+        try {
+            Optional<JsonEateryListStream> jsonEateryList = readSnapshotAndJournal(filePath);
+            assert jsonEateryList.isPresent();
+            JsonEateryListStream.write(jsonEateryList.get().toModelType(), jsonEateryList.get().getSequence(),
+                    filePath);
+            deleteJournals(filePath);
+        } catch (IllegalValueException ive) {
+            logger.warning("Cannot fold the journal of " + filePath + ": " + ive.getMessage());
+        }
+    }
+
+    /**
+     * Waits for the background compaction, if any, to finish.
+     */
+    synchronized void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+
+        try {
+            compaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Compaction of " + filePath + " failed: " + ee.getCause());
+        }
+        compaction = null;
+    }
+
+    private void track(ReadOnlyEateryList eateryList) {
+        if (trackedEateryList == eateryList) {
+            return;
+        }
+        if (trackedEateryList != null) {
+            trackedEateryList.getEateryList().removeListener(eateriesListener);
+            trackedEateryList.getTodoList().removeListener(todosListener);
+        }
+        trackedEateryList = eateryList;
+        eateryList.getEateryList().addListener(eateriesListener);
+        eateryList.getTodoList().addListener(todosListener);
+    }
+
+    /**
+     * Converts a change of the tracked eateries or todos into pending journal records.
+     */
+    private void record(ListChangeListener.Change<? extends Eatery> change, boolean isTodo) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            sequence++;
+            recordsSinceSnapshot++;
+            pendingRecords.add(JsonEateryListRecord.of(sequence, isTodo, change.getFrom(),
+                    change.getRemovedSize(), change.getAddedSubList()));
+        }
+    }
+
+    /**
+     * Hands {@code snapshot} over to be written, in place of any snapshot that has not been written yet.
+     * A full snapshot stays full when it is replaced by a newer compaction snapshot.
+     */
+    private void handOver(Snapshot snapshot) {
+        pendingSnapshot.accumulateAndGet(snapshot, (waiting, newer) ->
+                waiting != null && waiting.isFull ? new Snapshot(newer.data, true) : newer);
+    }
+
+    /**
+     * Writes the records and the snapshot handed over so far.
+     * If a write fails, the journal may be missing records, so the next save writes a full snapshot instead.
+     */
+    private synchronized void write() throws IOException {
+        boolean isSnapshotNeeded = needsFullSnapshot;
+        List<JsonEateryListRecord> records = new ArrayList<>();
+        for (JsonEateryListRecord record = pendingRecords.poll(); record != null; record = pendingRecords.poll()) {
+            records.add(record);
+        }
+        Snapshot snapshot = pendingSnapshot.getAndSet(null);
+
+        if (isSnapshotNeeded && (snapshot == null || !snapshot.isFull)) {
+            // the journal cannot be trusted until the full snapshot of the next save is written
+            return;
+        }
+
+        try {
+            if (snapshot != null && snapshot.isFull) {
+                awaitCompaction();
+                writeSnapshot(snapshot.data);
+                deleteJournals(filePath);
+                records.removeIf(record -> record.getSequence() <= snapshot.data.getSequence());
+            } else if (snapshot != null) {
+                // records made after the snapshot was taken must outlive the journal that is compacted
+                Map<Boolean, List<JsonEateryListRecord>> isInSnapshot = records.stream().collect(
+                        Collectors.partitioningBy(record -> record.getSequence() <= snapshot.data.getSequence()));
+                append(isInSnapshot.get(true));
+                compact(snapshot.data);
+                records = isInSnapshot.get(false);
+            }
+            append(records);
+        } catch (IOException ioe) {
+            needsFullSnapshot = true;
+            throw ioe;
+        }
+    }
+
+    private void append(List<JsonEateryListRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonEateryListRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+        }
+        Files.write(getJournalFilePath(), lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Folds the journal into {@code snapshot}, which must hold every record in the journal.
+     * The journal is moved aside so that new records can be appended while the snapshot is written in the
+     * background. Records already in the snapshot are skipped on replay, so it is safe to stop at any point.
+     */
+    private void compact(JsonSerializableEateryList snapshot) throws IOException {
+        awaitCompaction();
+        Path compactingJournal = journalPath(filePath, COMPACTING_JOURNAL_SUFFIX);
+        if (Files.exists(compactingJournal)) {
+            writeSnapshot(snapshot);
+            Files.deleteIfExists(compactingJournal);
+            return;
+        }
+        if (!Files.exists(getJournalFilePath())) {
+            writeSnapshot(snapshot);
+            return;
+        }
+
+        Files.move(getJournalFilePath(), compactingJournal);
+        compaction = compactor.submit(() -> {
+            writeSnapshot(snapshot);
+            Files.deleteIfExists(compactingJournal);
+            return null;
+        });
+    }
+
+    /**
+     * Replaces the snapshot with {@code snapshot}, without leaving a partially written file behind.
+     */
+    private void writeSnapshot(JsonSerializableEateryList snapshot) throws IOException {
+        JsonUtil.writeJsonFile(filePath, generator -> JsonUtil.writeValue(generator, snapshot));
+    }
+
+    /**
+     * Reads the json snapshot at {@code filePath} with the journal next to it, if any, replayed on top.
+     * Any storage that reads a json data file goes through this, so that no journaled change is lost when the
+     * journal is turned off. Returns {@code Optional.empty()} if there is neither a snapshot nor a journal.
+     *
+     * @throws IOException if the snapshot or the journal cannot be read or is not in the correct format.
+     * @throws IllegalValueException if a record does not fit the snapshot, or there were any data constraints
+     *                               violated.
+     */
+    static Optional<JsonEateryListStream> readSnapshotAndJournal(Path filePath)
+            throws IOException, IllegalValueException {
+        boolean hasSnapshot = Files.exists(filePath);
+        if (!hasSnapshot && !hasJournal(filePath)) {
+            return Optional.empty();
+        }
+
+        JsonEateryListStream jsonEateryList = hasSnapshot
+                ? JsonEateryListStream.read(filePath)
+                : JsonEateryListStream.empty();
+        replay(jsonEateryList, journalPath(filePath, COMPACTING_JOURNAL_SUFFIX));
+        replay(jsonEateryList, journalPath(filePath, JOURNAL_SUFFIX));
+        return Optional.of(jsonEateryList);
+    }
+
+    /**
+     * Returns true if there is a journal next to the json snapshot at {@code filePath}.
+     */
+    static boolean hasJournal(Path filePath) {
+        return Files.exists(journalPath(filePath, JOURNAL_SUFFIX))
+                || Files.exists(journalPath(filePath, COMPACTING_JOURNAL_SUFFIX));
+    }
+
+    /**
+     * Deletes the journal next to the json snapshot at {@code filePath}, once the snapshot holds all its records.
+     */
+    static void deleteJournals(Path filePath) throws IOException {
+        Files.deleteIfExists(journalPath(filePath, JOURNAL_SUFFIX));
+        Files.deleteIfExists(journalPath(filePath, COMPACTING_JOURNAL_SUFFIX));
+    }
+
+    /**
+     * Applies the records in {@code journal} that are not yet in {@code eateryList}.
+     * A last line that cannot be read is taken to be a record that was not fully written, and is ignored.
+     */
+    private static void replay(JsonEateryListStream eateryList, Path journal)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journal)) {
+            return;
+        }
+
+        List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+
+            JsonEateryListRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonEateryListRecord.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete journal record in " + journal);
+                    return;
+                }
+                throw ioe;
+            }
+
+            if (record.getSequence() > eateryList.getSequence()) {
+                eateryList.apply(record);
+            }
+        }
+    }
+
+    static Path journalPath(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+
+    /**
+     * A snapshot of the eatery list waiting to be written.
+     * A full snapshot replaces the journal, while any other snapshot is only a compaction of it.
+     */
+    private static class Snapshot {
+        private final JsonSerializableEateryList data;
+        private final boolean isFull;
+
+        Snapshot(JsonSerializableEateryList data, boolean isFull) {
+            this.data = data;
+            this.isFull = isFull;
+        }
+    }
+}
@@ -118,7 +118,7 @@ class JsonAdaptedEatery {
         if (!Category.isValidCategory(category)) {
             throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
         }
-        final Category modelCategory = new Category(category);
+        final Category modelCategory = Category.create(category);
 
         final List<Review> modelReviews = new ArrayList<>(eateryReviews);
         final Set<Tag> modelTags = new HashSet<>(eateryTags);
@@ -1,8 +1,10 @@
 package seedu.eatme.storage;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -20,7 +22,9 @@ class JsonAdaptedFeed {
 
     private final String name;
     private final String address;
-    private final Set<JsonAdaptedFeedPost> posts = new HashSet<>();
+    private final List<JsonAdaptedFeedPost> posts = new ArrayList<>();
+    private final String entityTag;
+    private final String lastModified;
 
     /**
      * Constructs a {@code JsonAdaptedFeed} with the given feed details.
@@ -28,10 +32,14 @@ class JsonAdaptedFeed {
     @JsonCreator
     public JsonAdaptedFeed(@JsonProperty("name") String name,
                            @JsonProperty("address") String address,
-                           @JsonProperty("posts") Set<JsonAdaptedFeedPost> posts) {
+                           @JsonProperty("posts") List<JsonAdaptedFeedPost> posts,
+                           @JsonProperty("entityTag") String entityTag,
+                           @JsonProperty("lastModified") String lastModified) {
         this.name = name;
         this.address = address;
         this.posts.addAll(posts);
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
     }
 
     /**
@@ -40,7 +48,10 @@ class JsonAdaptedFeed {
     public JsonAdaptedFeed(Feed source) {
         name = source.getName();
         address = source.getAddress();
-        this.posts.addAll(source.getPosts().stream().map(JsonAdaptedFeedPost::new).collect(Collectors.toSet()));
+        source.getPostArchive().getLastSeenTimes().forEach((post, lastSeen) ->
+                this.posts.add(new JsonAdaptedFeedPost(post, lastSeen)));
+        entityTag = source.getEntityTag();
+        lastModified = source.getLastModified();
     }
 
     /**
@@ -58,11 +69,13 @@ class JsonAdaptedFeed {
 
         Feed feed = new Feed(name, address);
 
-        Set<FeedPost> feedPosts = new HashSet<>();
+        Instant now = Instant.now();
+        Map<FeedPost, Instant> lastSeenTimes = new LinkedHashMap<>();
         for (JsonAdaptedFeedPost feedPost : this.posts) {
-            feedPosts.add(feedPost.toModelType());
+            lastSeenTimes.put(feedPost.toModelType(), feedPost.toLastSeen(now));
         }
-        feed.setPosts(feedPosts);
+        feed.getPostArchive().restore(lastSeenTimes);
+        feed.setCacheValidators(entityTag, lastModified);
 
         return feed;
     }
@@ -1,5 +1,8 @@
 package seedu.eatme.storage;
 
+import java.time.DateTimeException;
+import java.time.Instant;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -12,10 +15,12 @@ import seedu.eatme.model.feed.FeedPost;
 class JsonAdaptedFeedPost {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "FeedPost's %s field is missing!";
+    public static final String INVALID_LAST_SEEN_MESSAGE_FORMAT = "FeedPost's last seen time %s is invalid!";
 
     private final String source;
     private final String title;
     private final String address;
+    private final String lastSeen;
 
     /**
      * Constructs a {@code JsonAdaptedFeedPost} with the given feed post details.
@@ -23,19 +28,22 @@ class JsonAdaptedFeedPost {
     @JsonCreator
     public JsonAdaptedFeedPost(@JsonProperty("source") String source,
                                @JsonProperty("title") String title,
-                               @JsonProperty("address") String address) {
+                               @JsonProperty("address") String address,
+                               @JsonProperty("lastSeen") String lastSeen) {
         this.source = source;
         this.title = title;
         this.address = address;
+        this.lastSeen = lastSeen;
     }
 
     /**
-     * Converts a given {@code FeedPost} into this class for Jackson use.
+     * Converts a given {@code FeedPost}, last seen in a fetch at {@code lastSeen}, into this class for Jackson use.
      */
-    public JsonAdaptedFeedPost(FeedPost source) {
+    public JsonAdaptedFeedPost(FeedPost source, Instant lastSeen) {
         this.source = source.getSource();
         this.title = source.getTitle();
         this.address = source.getAddress();
+        this.lastSeen = lastSeen.toString();
     }
 
     /**
@@ -57,4 +65,22 @@ class JsonAdaptedFeedPost {
         return new FeedPost(source, title, address);
     }
 
+    /**
+     * Returns when this adapted feed post was last seen in a fetch. Posts saved before this was recorded are
+     * treated as seen at {@code defaultLastSeen}.
+     *
+     * @throws IllegalValueException if the recorded time is not a valid instant.
+     */
+    public Instant toLastSeen(Instant defaultLastSeen) throws IllegalValueException {
+        if (lastSeen == null) {
+            return defaultLastSeen;
+        }
+
+        try {
+            return Instant.parse(lastSeen);
+        } catch (DateTimeException dte) {
+            throw new IllegalValueException(String.format(INVALID_LAST_SEEN_MESSAGE_FORMAT, lastSeen));
+        }
+    }
+
 }
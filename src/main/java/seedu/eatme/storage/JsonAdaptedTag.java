@@ -42,7 +42,7 @@ class JsonAdaptedTag {
         if (!Tag.isValidTag(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.create(tagName);
     }
 
 }
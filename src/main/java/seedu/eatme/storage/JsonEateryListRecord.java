@@ -0,0 +1,68 @@
+package seedu.eatme.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.eatme.model.eatery.Eatery;
+
+/**
+ * A Jackson-friendly journal record of a change to the eateries or todos of an eatery list.
+ * The record replaces {@code removed} eateries starting at {@code from} with the {@code added} eateries.
+ */
+class JsonEateryListRecord {
+
+    private final long sequence;
+    private final boolean isTodo;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedEatery> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonEateryListRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonEateryListRecord(@JsonProperty("sequence") long sequence, @JsonProperty("isTodo") boolean isTodo,
+                                @JsonProperty("from") int from, @JsonProperty("removed") int removed,
+                                @JsonProperty("added") List<JsonAdaptedEatery> added) {
+        this.sequence = sequence;
+        this.isTodo = isTodo;
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a change of a list of eateries into this class for Jackson use.
+     */
+    public static JsonEateryListRecord of(long sequence, boolean isTodo, int from, int removed,
+                                          List<? extends Eatery> added) {
+        return new JsonEateryListRecord(sequence, isTodo, from, removed,
+                added.stream().map(JsonAdaptedEatery::new).collect(Collectors.toList()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public boolean isTodo() {
+        return isTodo;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemoved() {
+        return removed;
+    }
+
+    public List<JsonAdaptedEatery> getAdded() {
+        return added;
+    }
+}
@@ -10,18 +10,22 @@ import java.util.logging.Logger;
 import seedu.eatme.commons.core.LogsCenter;
 import seedu.eatme.commons.exceptions.DataConversionException;
 import seedu.eatme.commons.exceptions.IllegalValueException;
-import seedu.eatme.commons.util.FileUtil;
 import seedu.eatme.commons.util.JsonUtil;
 import seedu.eatme.model.ReadOnlyEateryList;
 
 /**
  * A class to access EateryList data stored as a json file on the hard disk.
+ *
+ * A journal left next to the json file by a {@link JournaledEateryListStorage} is replayed when the file is read,
+ * and deleted once the file is saved again, so that turning the journal off loses none of its changes.
+ * Likewise, a binary data file saved by a {@link BinaryEateryListStorage} after the json file is imported.
  */
 public class JsonEateryListStorage implements EateryListStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonEateryListStorage.class);
 
     private Path filePath;
+    private long sequence;
 
     public JsonEateryListStorage(Path filePath) {
         this.filePath = filePath;
@@ -33,6 +37,10 @@ public class JsonEateryListStorage implements EateryListStorage {
 
     @Override
     public Optional<ReadOnlyEateryList> readEateryList() throws DataConversionException {
+        if (BinaryEateryListStorage.isBinaryNewer(filePath)) {
+            sequence = 0;
+            return BinaryEateryListStorage.importBinary(filePath);
+        }
         return readEateryList(filePath);
     }
 
@@ -45,17 +53,22 @@ public class JsonEateryListStorage implements EateryListStorage {
     public Optional<ReadOnlyEateryList> readEateryList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableEateryList> jsonEateryList = JsonUtil.readJsonFile(
-                filePath, JsonSerializableEateryList.class);
-        if (!jsonEateryList.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
+            Optional<JsonEateryListStream> jsonEateryList = JournaledEateryListStorage.readSnapshotAndJournal(filePath);
+            if (jsonEateryList.isEmpty()) {
+                logger.info("Json file " + filePath + " not found");
+                return Optional.empty();
+            }
+            if (filePath.equals(this.filePath)) {
+                sequence = jsonEateryList.get().getSequence();
+            }
             return Optional.of(jsonEateryList.get().toModelType());
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         }
     }
 
@@ -73,8 +86,33 @@ public class JsonEateryListStorage implements EateryListStorage {
         requireNonNull(eateryList);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableEateryList(eateryList), filePath);
+        if (!filePath.equals(this.filePath)) {
+            JsonEateryListStream.write(eateryList, 0, filePath);
+            return;
+        }
+        JsonEateryListStream.write(eateryList, sequence, filePath);
+        JournaledEateryListStorage.deleteJournals(filePath);
+    }
+
+    @Override
+    public PendingSave prepareSaveEateryList(ReadOnlyEateryList eateryList) {
+        requireNonNull(eateryList);
+
+        JsonSerializableEateryList jsonEateryList = new JsonSerializableEateryList(eateryList, sequence);
+        return () -> {
+            JsonUtil.writeJsonFile(filePath, generator -> JsonUtil.writeValue(generator, jsonEateryList));
+            JournaledEateryListStorage.deleteJournals(filePath);
+        };
+    }
+
+    @Override
+    public void trackEateryList(ReadOnlyEateryList eateryList) {
+        // every save writes the json file whole
+    }
+
+    @Override
+    public void flushEateryList() {
+        // the json file is always complete
     }
 
 }
@@ -0,0 +1,171 @@
+package seedu.eatme.storage;
+
+import static seedu.eatme.storage.JsonSerializableEateryList.MESSAGE_DUPLICATE_EATERY;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.eatme.commons.exceptions.IllegalValueException;
+import seedu.eatme.commons.util.JsonUtil;
+import seedu.eatme.model.EateryList;
+import seedu.eatme.model.ReadOnlyEateryList;
+import seedu.eatme.model.eatery.Eatery;
+
+/**
+ * Reads and writes eatery lists in the json format of {@link JsonSerializableEateryList}, one eatery at a time.
+ * Each {@link JsonAdaptedEatery} is converted as soon as it is parsed or just before it is generated, so only
+ * one of them is held in memory at any time.
+ */
+class JsonEateryListStream {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record %1$d does not match the eatery list.";
+
+    private final List<Eatery> eateries = new ArrayList<>();
+    private final List<Eatery> todos = new ArrayList<>();
+    private long sequence;
+
+    private JsonEateryListStream() {}
+
+    /**
+     * Reads the eatery list in the json file at {@code filePath}. The file must exist.
+     *
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static JsonEateryListStream read(Path filePath) throws IOException, IllegalValueException {
+        JsonEateryListStream stream = new JsonEateryListStream();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (fieldName) {
+                case "eateries":
+                    readEateries(parser, value, stream.eateries);
+                    break;
+                case "todos":
+                    readEateries(parser, value, stream.todos);
+                    break;
+                case "sequence":
+                    stream.sequence = parser.getValueAsLong();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, token, JsonToken.END_OBJECT);
+        }
+        return stream;
+    }
+
+    /**
+     * Returns an empty eatery list, for journals without a snapshot.
+     */
+    static JsonEateryListStream empty() {
+        return new JsonEateryListStream();
+    }
+
+    /**
+     * Writes {@code source} to the json file at {@code filePath}, recording that it already includes the journal
+     * records up to {@code sequence}.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(ReadOnlyEateryList source, long sequence, Path filePath) throws IOException {
+        JsonUtil.writeJsonFile(filePath, generator -> {
+            generator.writeStartObject();
+            writeEateries(generator, "eateries", source.getEateryList());
+            writeEateries(generator, "todos", source.getTodoList());
+            if (sequence > 0) {
+                generator.writeNumberField("sequence", sequence);
+            }
+            generator.writeEndObject();
+        });
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies {@code record} to this eatery list.
+     *
+     * @throws IllegalValueException if the record does not fit the list it refers to, or has invalid eateries.
+     */
+    void apply(JsonEateryListRecord record) throws IllegalValueException {
+        List<Eatery> list = record.isTodo() ? todos : eateries;
+        int from = record.getFrom();
+        int to = from + record.getRemoved();
+        if (from < 0 || record.getRemoved() < 0 || to > list.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, record.getSequence()));
+        }
+
+        List<Eatery> added = new ArrayList<>();
+        for (JsonAdaptedEatery jsonAdaptedEatery : record.getAdded()) {
+            added.add(jsonAdaptedEatery.toModelType());
+        }
+        list.subList(from, to).clear();
+        list.addAll(from, added);
+        sequence = record.getSequence();
+    }
+
+    /**
+     * Converts this eatery list into the model's {@code EateryList} object.
+     *
+     * @throws IllegalValueException if there are duplicate eateries.
+     */
+    EateryList toModelType() throws IllegalValueException {
+        EateryList eateryList = new EateryList();
+        for (Eatery eatery : eateries) {
+            if (eateryList.hasEatery(eatery)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_EATERY);
+            }
+            eateryList.addEatery(eatery);
+        }
+
+        eateryList.toggle();
+        for (Eatery eatery : todos) {
+            if (eateryList.hasEatery(eatery)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_EATERY);
+            }
+            eateryList.addEatery(eatery);
+        }
+
+        return eateryList;
+    }
+
+    private static void readEateries(JsonParser parser, JsonToken value, List<Eatery> eateries)
+            throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+
+        expect(parser, value, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            eateries.add(JsonUtil.readValue(parser, JsonAdaptedEatery.class).toModelType());
+        }
+    }
+
+    private static void writeEateries(JsonGenerator generator, String fieldName, List<Eatery> eateries)
+            throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (Eatery eatery : eateries) {
+            JsonUtil.writeValue(generator, new JsonAdaptedEatery(eatery));
+        }
+        generator.writeEndArray();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.eatme.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,7 +11,6 @@ import java.util.logging.Logger;
 import seedu.eatme.commons.core.LogsCenter;
 import seedu.eatme.commons.exceptions.DataConversionException;
 import seedu.eatme.commons.exceptions.IllegalValueException;
-import seedu.eatme.commons.util.FileUtil;
 import seedu.eatme.commons.util.JsonUtil;
 import seedu.eatme.model.ReadOnlyFeedList;
 
@@ -45,17 +45,19 @@ public class JsonFeedListStorage implements FeedListStorage {
     public Optional<ReadOnlyFeedList> readFeedList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFeedList> jsonFeedList = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFeedList.class);
-        if (jsonFeedList.isEmpty()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonFeedList.get().toModelType());
+            return Optional.of(JsonFeedListStream.read(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         }
     }
 
@@ -73,7 +75,14 @@ public class JsonFeedListStorage implements FeedListStorage {
         requireNonNull(feedList);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFeedList(feedList), filePath);
+        JsonFeedListStream.write(feedList, filePath);
+    }
+
+    @Override
+    public PendingSave prepareSaveFeedList(ReadOnlyFeedList feedList) {
+        requireNonNull(feedList);
+
+        JsonSerializableFeedList jsonFeedList = new JsonSerializableFeedList(feedList);
+        return () -> JsonUtil.writeJsonFile(filePath, generator -> JsonUtil.writeValue(generator, jsonFeedList));
     }
 }
@@ -0,0 +1,82 @@
+package seedu.eatme.storage;
+
+import static seedu.eatme.storage.JsonSerializableFeedList.MESSAGE_DUPLICATE_FEED;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.eatme.commons.exceptions.IllegalValueException;
+import seedu.eatme.commons.util.JsonUtil;
+import seedu.eatme.model.FeedList;
+import seedu.eatme.model.ReadOnlyFeedList;
+import seedu.eatme.model.feed.Feed;
+
+/**
+ * Reads and writes feed lists in the json format of {@link JsonSerializableFeedList}, one feed at a time.
+ * Each {@link JsonAdaptedFeed} is converted as soon as it is parsed or just before it is generated, so only
+ * one of them is held in memory at any time.
+ */
+class JsonFeedListStream {
+
+    private JsonFeedListStream() {}
+
+    /**
+     * Reads the feed list in the json file at {@code filePath}. The file must exist.
+     *
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static FeedList read(Path filePath) throws IOException, IllegalValueException {
+        FeedList feedList = new FeedList();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals("feeds") || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                expect(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    Feed feed = JsonUtil.readValue(parser, JsonAdaptedFeed.class).toModelType();
+                    if (feedList.hasFeed(feed)) {
+                        throw new IllegalValueException(MESSAGE_DUPLICATE_FEED);
+                    }
+                    feedList.addFeed(feed);
+                }
+            }
+            expect(parser, token, JsonToken.END_OBJECT);
+        }
+        return feedList;
+    }
+
+    /**
+     * Writes {@code source} to the json file at {@code filePath}.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(ReadOnlyFeedList source, Path filePath) throws IOException {
+        JsonUtil.writeJsonFile(filePath, generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("feeds");
+            for (Feed feed : source.getFeedList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedFeed(feed));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -24,6 +24,7 @@ class JsonSerializableEateryList {
 
     private final List<JsonAdaptedEatery> eateries = new ArrayList<>();
     private final List<JsonAdaptedEatery> todos = new ArrayList<>();
+    private long sequence;
 
     /**
      * Constructs a {@code JsonSerializableEateryList} with the given eateries.
@@ -44,6 +45,22 @@ class JsonSerializableEateryList {
         todos.addAll(source.getTodoList().stream().map(JsonAdaptedEatery::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Converts a given {@code ReadOnlyEateryList} into this class for Jackson use, recording that it already
+     * includes the journal records up to {@code sequence}.
+     */
+    public JsonSerializableEateryList(ReadOnlyEateryList source, long sequence) {
+        this(source);
+        this.sequence = sequence;
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in this eatery list.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
     /**
      * Converts this eatery list into the model's {@code EateryList} object.
      *
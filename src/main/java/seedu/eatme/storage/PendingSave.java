@@ -0,0 +1,16 @@
+package seedu.eatme.storage;
+
+import java.io.IOException;
+
+/**
+ * A save whose data has already been taken from the model, so that it can be written on another thread.
+ */
+@FunctionalInterface
+public interface PendingSave {
+
+    /**
+     * Writes the data of this save to the storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+}
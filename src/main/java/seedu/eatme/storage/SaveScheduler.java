@@ -0,0 +1,172 @@
+package seedu.eatme.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.eatme.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.eatme.commons.core.LogsCenter;
+
+/**
+ * Writes {@link PendingSave}s on a single background thread.
+ *
+ * Saves are scheduled under a key, one per file. If a save is scheduled while an earlier save with the same key
+ * is still waiting to be written, only the later one is written, so a burst of commands results in one write.
+ * Saves can also be delayed, so that the saves of a burst spread over the delay are written once at its end.
+ * A save can be written right away on the calling thread too, in place of the save waiting under its key.
+ * A failed write is logged, and rethrown to the caller of the next {@link #schedule(String, PendingSave)} or
+ * {@link #flush()}.
+ */
+public class SaveScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(SaveScheduler.class);
+
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, PendingSave> waitingSaves = new HashMap<>();
+    private final Set<String> delayedKeys = new HashSet<>();
+    /** Held while a save is taken and written, so that saves under the same key are written in order. */
+    private final Map<String, Object> writeLocks = new ConcurrentHashMap<>();
+    private IOException failure;
+
+    /**
+     * Schedules {@code save} to be written, in place of the save waiting under {@code key}, if any.
+     *
+     * @throws IOException if a save failed to be written since the last call.
+     */
+    public void schedule(String key, PendingSave save) throws IOException {
+        requireAllNonNull(key, save);
+        synchronized (this) {
+            // A delayed save under the same key is brought forward, as it is no longer the latest.
+            if (waitingSaves.put(key, save) == null || delayedKeys.remove(key)) {
+                writer.execute(() -> write(key));
+            }
+        }
+        throwFailure();
+    }
+
+    /**
+     * Schedules {@code save} to be written after {@code delay}, in place of the save waiting under {@code key},
+     * if any. If a save is already waiting under {@code key}, {@code save} is written when that save would have
+     * been, so a steady stream of saves is still written at least once every {@code delay}.
+     *
+     * @throws IOException if a save failed to be written since the last call.
+     */
+    public void schedule(String key, PendingSave save, Duration delay) throws IOException {
+        requireAllNonNull(key, save, delay);
+        synchronized (this) {
+            if (waitingSaves.put(key, save) == null) {
+                delayedKeys.add(key);
+                writer.schedule(() -> write(key), delay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        throwFailure();
+    }
+
+    /**
+     * Writes the save waiting under {@code key}, if any, on the calling thread without waiting for its delay.
+     * Saves waiting under other keys are left to be written when they were scheduled to.
+     *
+     * @throws IOException if a save failed to be written since the last call.
+     */
+    public void flush(String key) throws IOException {
+        requireNonNull(key);
+        write(key);
+        throwFailure();
+    }
+
+    /**
+     * Writes {@code save} on the calling thread, in place of the save waiting under {@code key}, if any, and
+     * after the save under {@code key} that is being written, if any. Saves waiting under other keys are left
+     * to be written when they were scheduled to.
+     *
+     * @throws IOException if {@code save} failed to be written, or a save failed to be written since the last
+     *                     call.
+     */
+    public void writeNow(String key, PendingSave save) throws IOException {
+        requireAllNonNull(key, save);
+        synchronized (lockOf(key)) {
+            synchronized (this) {
+                waitingSaves.remove(key);
+                delayedKeys.remove(key);
+            }
+            save.write();
+        }
+        throwFailure();
+    }
+
+    /**
+     * Waits for all scheduled saves to be written, writing delayed saves without waiting for their delay.
+     *
+     * @throws IOException if a save failed to be written since the last call.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {
+                Set<String> keys;
+                synchronized (this) {
+                    keys = new HashSet<>(waitingSaves.keySet());
+                }
+                keys.forEach(this::write);
+            }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+        throwFailure();
+    }
+
+    /**
+     * Writes the save waiting under {@code key}, if any, recording its failure to be reported later.
+     */
+    private void write(String key) {
+        synchronized (lockOf(key)) {
+            PendingSave save;
+            synchronized (this) {
+                save = waitingSaves.remove(key);
+                delayedKeys.remove(key);
+            }
+            if (save == null) {
+                // Already written by a flush, by a save brought forward, or in place of a newer save.
+                return;
+            }
+
+            try {
+                save.write();
+            } catch (IOException ioe) {
+                logger.warning("Failed to save " + key + " in the background: " + ioe);
+                synchronized (this) {
+                    failure = ioe;
+                }
+            }
+        }
+    }
+
+    private Object lockOf(String key) {
+        return writeLocks.computeIfAbsent(key, unused -> new Object());
+    }
+
+    private synchronized void throwFailure() throws IOException {
+        if (failure != null) {
+            IOException toThrow = failure;
+            failure = null;
+            throw toThrow;
+        }
+    }
+}
@@ -39,4 +39,19 @@ public interface Storage extends EateryListStorage, UserPrefsStorage, FeedListSt
     @Override
     void saveFeedList(ReadOnlyFeedList feedList) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyFeedList} in the background after a short delay, together with any other
+     * feed list saves asked for in the meantime, so that a burst of saves results in one write.
+     * @param feedList cannot be null.
+     * @throws IOException if a save failed to be written in the background since the last call.
+     */
+    void saveFeedListLater(ReadOnlyFeedList feedList) throws IOException;
+
+    /**
+     * Waits for all saves that are being written in the background to finish, and makes the data files complete
+     * on their own. Meant to be called once, when the application stops.
+     * @throws IOException if there was any problem writing a save.
+     */
+    void flush() throws IOException;
+
 }
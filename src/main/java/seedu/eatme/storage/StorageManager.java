@@ -1,11 +1,14 @@
 package seedu.eatme.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.eatme.commons.core.LogsCenter;
+import seedu.eatme.commons.core.metrics.StorageSaveEvent;
 import seedu.eatme.commons.exceptions.DataConversionException;
 import seedu.eatme.model.ReadOnlyEateryList;
 import seedu.eatme.model.ReadOnlyFeedList;
@@ -14,20 +17,52 @@ import seedu.eatme.model.UserPrefs;
 
 /**
  * Manages storage of EatMe data in local storage.
+ *
+ * Eatery list and feed list saves to their own file paths are written by a {@link SaveScheduler} if one is given,
+ * and synchronously otherwise. Feed list saves asked for with {@link #saveFeedListLater(ReadOnlyFeedList)} are
+ * always written in the background, after a delay that coalesces them. A synchronous save to the same file
+ * takes the place of a background save that is still waiting, without writing the saves of other files, which
+ * are only forced out by {@link #flush()} when the application stops. A save that fails in the background is
+ * reported by the next save or flush. Every write is recorded as a {@link StorageSaveEvent} on the thread that
+ * does it.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final String EATERY_LIST_KEY = "eatery list";
+    private static final String FEED_LIST_KEY = "feed list";
+    private static final String USER_PREFS_KEY = "user prefs";
+    private static final Duration FEED_LIST_SAVE_DELAY = Duration.ofSeconds(2);
+
     private EateryListStorage eateryListStorage;
     private UserPrefsStorage userPrefsStorage;
     private FeedListStorage feedListStorage;
+    private final Optional<SaveScheduler> saveScheduler;
+    private final SaveScheduler delayedSaveScheduler;
 
     public StorageManager(EateryListStorage eateryListStorage, FeedListStorage feedListStorage,
                           UserPrefsStorage userPrefsStorage) {
+        this(eateryListStorage, feedListStorage, userPrefsStorage, Optional.empty());
+    }
+
+    /**
+     * Creates a {@code StorageManager} that writes its saves in the background with {@code saveScheduler},
+     * if it is present.
+     */
+    public StorageManager(EateryListStorage eateryListStorage, FeedListStorage feedListStorage,
+                          UserPrefsStorage userPrefsStorage, Optional<SaveScheduler> saveScheduler) {
         super();
         this.eateryListStorage = eateryListStorage;
         this.feedListStorage = feedListStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveScheduler = saveScheduler;
+        this.delayedSaveScheduler = saveScheduler.orElseGet(SaveScheduler::new);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        delayedSaveScheduler.flush();
+        eateryListStorage.flushEateryList();
     }
 
     // ================ UserPrefs methods ==============================
@@ -44,7 +79,7 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        userPrefsStorage.saveUserPrefs(userPrefs);
+        recorded(USER_PREFS_KEY, getUserPrefsFilePath(), () -> userPrefsStorage.saveUserPrefs(userPrefs)).write();
     }
 
 
@@ -68,13 +103,41 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveEateryList(ReadOnlyEateryList eateryList) throws IOException {
+        if (saveScheduler.isPresent()) {
+            logger.fine("Scheduling write to data file: " + eateryListStorage.getEateryListFilePath());
+            saveScheduler.get().schedule(EATERY_LIST_KEY, prepareSaveEateryList(eateryList));
+            return;
+        }
         saveEateryList(eateryList, eateryListStorage.getEateryListFilePath());
     }
 
     @Override
     public void saveEateryList(ReadOnlyEateryList eateryList, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        eateryListStorage.saveEateryList(eateryList, filePath);
+        PendingSave save = recorded(EATERY_LIST_KEY, filePath,
+                () -> eateryListStorage.saveEateryList(eateryList, filePath));
+        if (filePath.equals(eateryListStorage.getEateryListFilePath())) {
+            delayedSaveScheduler.writeNow(EATERY_LIST_KEY, save);
+        } else {
+            save.write();
+        }
+    }
+
+    @Override
+    public PendingSave prepareSaveEateryList(ReadOnlyEateryList eateryList) {
+        return recorded(EATERY_LIST_KEY, eateryListStorage.getEateryListFilePath(),
+                eateryListStorage.prepareSaveEateryList(eateryList));
+    }
+
+    @Override
+    public void trackEateryList(ReadOnlyEateryList eateryList) {
+        eateryListStorage.trackEateryList(eateryList);
+    }
+
+    @Override
+    public void flushEateryList() throws IOException {
+        delayedSaveScheduler.flush(EATERY_LIST_KEY);
+        eateryListStorage.flushEateryList();
     }
 
     // ================ FeedList methods ==============================
@@ -97,13 +160,67 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveFeedList(ReadOnlyFeedList feedList) throws IOException {
+        if (saveScheduler.isPresent()) {
+            logger.fine("Scheduling write to data file: " + feedListStorage.getFeedListFilePath());
+            saveScheduler.get().schedule(FEED_LIST_KEY, prepareSaveFeedList(feedList));
+            return;
+        }
         saveFeedList(feedList, feedListStorage.getFeedListFilePath());
     }
 
+    @Override
+    public void saveFeedListLater(ReadOnlyFeedList feedList) throws IOException {
+        logger.fine("Scheduling delayed write to data file: " + feedListStorage.getFeedListFilePath());
+        delayedSaveScheduler.schedule(FEED_LIST_KEY, prepareSaveFeedList(feedList), FEED_LIST_SAVE_DELAY);
+    }
+
     @Override
     public void saveFeedList(ReadOnlyFeedList feedList, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        feedListStorage.saveFeedList(feedList, filePath);
+        PendingSave save = recorded(FEED_LIST_KEY, filePath, () -> feedListStorage.saveFeedList(feedList, filePath));
+        if (filePath.equals(feedListStorage.getFeedListFilePath())) {
+            delayedSaveScheduler.writeNow(FEED_LIST_KEY, save);
+        } else {
+            save.write();
+        }
+    }
+
+    @Override
+    public PendingSave prepareSaveFeedList(ReadOnlyFeedList feedList) {
+        return recorded(FEED_LIST_KEY, feedListStorage.getFeedListFilePath(),
+                feedListStorage.prepareSaveFeedList(feedList));
+    }
+
+    /**
+     * Returns a save that writes {@code store} to {@code filePath} with {@code save}, and records the write as a
+     * {@link StorageSaveEvent}.
+     */
+    private static PendingSave recorded(String store, Path filePath, PendingSave save) {
+        return () -> {
+            StorageSaveEvent event = new StorageSaveEvent();
+            event.begin();
+            boolean isSuccessful = false;
+            try {
+                save.write();
+                isSuccessful = true;
+            } finally {
+                if (event.shouldCommit()) {
+                    event.setStore(store);
+                    event.setFilePath(filePath.toString());
+                    event.setBytes(sizeOf(filePath));
+                    event.setSuccessful(isSuccessful);
+                    event.commit();
+                }
+            }
+        };
+    }
+
+    private static long sizeOf(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException ioe) {
+            return -1;
+        }
     }
 
 }
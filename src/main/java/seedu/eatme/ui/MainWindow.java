@@ -83,12 +83,12 @@ public class MainWindow extends UiPart<Stage> {
         eateryListPanel = new EateryListPanel(logic.getFilteredEateryList(), true);
         eateryListPanelPlaceholder.getChildren().add(eateryListPanel.getRoot());
 
-        feedPostListPanel = new FeedPostListPanel(logic.getFeedList(), logic);
+        feedPostListPanel = new FeedPostListPanel(logic.getFeedPostList());
         feedPostListPanelPlaceholder.getChildren().add(feedPostListPanel.getRoot());
 
         reviewListPanel = new ReviewListPanel(logic.getActiveReviews());
 
-        resultDisplay = new ResultDisplay(reviewListPanel);
+        resultDisplay = new ResultDisplay(reviewListPanel, logic.getActiveFeedPosts());
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getEateryListFilePath());
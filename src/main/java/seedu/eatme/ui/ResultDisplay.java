@@ -7,15 +7,19 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Comparator;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
 import javafx.scene.web.WebView;
 import seedu.eatme.logic.commands.CommandResult;
 import seedu.eatme.model.eatery.Eatery;
 import seedu.eatme.model.eatery.Tag;
+import seedu.eatme.model.feed.FeedPost;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
@@ -31,6 +35,8 @@ public class ResultDisplay extends UiPart<Region> {
             + "allowfullscreen></iframe>";
 
     private final ReviewListPanel reviewListPanel;
+    private final ObservableList<FeedPost> feedPosts;
+    private boolean isShowingEatery;
 
     @FXML
     private Label commandFeedback;
@@ -49,11 +55,21 @@ public class ResultDisplay extends UiPart<Region> {
     private Label reviewHeader;
     @FXML
     private StackPane reviewListPanelPlaceholder;
+    @FXML
+    private Label feedPostHeader;
+    @FXML
+    private VBox feedPostPlaceholder;
 
-    public ResultDisplay(ReviewListPanel reviewListPanel) {
+    public ResultDisplay(ReviewListPanel reviewListPanel, ObservableList<FeedPost> feedPosts) {
         super(FXML);
         eateryMap.getEngine().loadContent(String.format(WEBVIEW_WRAPPER, ""));
         this.reviewListPanel = reviewListPanel;
+        this.feedPosts = feedPosts;
+        feedPosts.addListener((ListChangeListener<FeedPost>) change -> {
+            if (isShowingEatery) {
+                fillFeedPosts();
+            }
+        });
     }
 
     public void setFeedbackToUser(CommandResult commandResult) {
@@ -86,6 +102,10 @@ public class ResultDisplay extends UiPart<Region> {
             // Reviews
             reviewHeader.setText("Reviews");
             reviewListPanelPlaceholder.getChildren().add(reviewListPanel.getRoot());
+
+            // Feed posts that mention the eatery
+            isShowingEatery = true;
+            fillFeedPosts();
         }
     }
 
@@ -110,6 +130,19 @@ public class ResultDisplay extends UiPart<Region> {
 
         reviewHeader.setText("");
         reviewListPanelPlaceholder.getChildren().clear();
+
+        isShowingEatery = false;
+        feedPostHeader.setText("");
+        feedPostPlaceholder.getChildren().clear();
+    }
+
+    /**
+     * Shows the feed posts that mention the shown eatery, if there are any.
+     */
+    private void fillFeedPosts() {
+        feedPostHeader.setText(feedPosts.isEmpty() ? "" : "Mentioned in feeds");
+        feedPostPlaceholder.getChildren().clear();
+        feedPosts.forEach(post -> feedPostPlaceholder.getChildren().add(new FeedPostCard(post).getRoot()));
     }
 
 }
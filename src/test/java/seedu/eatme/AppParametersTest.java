@@ -7,10 +7,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.application.Application;
+import seedu.eatme.logic.commands.RunCommand;
 
 public class AppParametersTest {
 
@@ -37,6 +39,44 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("run", "import.txt");
+        parametersStub.namedParameters.put("on-error", "continue");
+        expected.setScriptPath(Paths.get("import.txt"));
+        expected.setOnError(RunCommand.OnError.CONTINUE);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptParameters_success() {
+        parametersStub.namedParameters.put("run", "a\0");
+        parametersStub.namedParameters.put("on-error", "retry");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_recordingPath_success() {
+        parametersStub.namedParameters.put("jfr", "eatme.jfr");
+        expected.setRecordingPath(Paths.get("eatme.jfr"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidRecordingPath_success() {
+        parametersStub.namedParameters.put("jfr", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void getRunCommandText() {
+        assertEquals(Optional.empty(), expected.getRunCommandText());
+
+        expected.setScriptPath(Paths.get("import.txt"));
+        expected.setOnError(RunCommand.OnError.CONTINUE);
+        assertEquals(Optional.of("run \\f import.txt \\e continue"), expected.getRunCommandText());
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,135 @@
+package seedu.eatme;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.eatme.testutil.TypicalEateries.MCDONALD;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.eatme.commons.core.Config;
+import seedu.eatme.commons.util.ConfigUtil;
+import seedu.eatme.logic.commands.AddCommand;
+import seedu.eatme.logic.commands.ExitCommand;
+import seedu.eatme.logic.commands.ListCommand;
+import seedu.eatme.model.UserPrefs;
+import seedu.eatme.storage.JsonUserPrefsStorage;
+import seedu.eatme.testutil.EateryUtil;
+
+public class HeadlessAppTest {
+
+    private static final InputStream NO_INPUT = new ByteArrayInputStream(new byte[0]);
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final HeadlessApp app = new HeadlessApp(new PrintStream(out, true), new PrintStream(err, true));
+    private String configParameter;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setEateryListFilePath(testFolder.resolve("eateries.json"));
+        userPrefs.setFeedListFilePath(testFolder.resolve("feeds.json"));
+        Path userPrefsFilePath = testFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        Path configFilePath = testFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+        configParameter = "--config=" + configFilePath;
+    }
+
+    @Test
+    public void run_commandsInArguments_commandsRunAndSaved() {
+        int status = app.run(Arrays.asList(HeadlessApp.HEADLESS_FLAG, configParameter,
+                EateryUtil.getAddCommand(MCDONALD), ListCommand.COMMAND_WORD), NO_INPUT);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        assertEquals(Arrays.asList(String.format(AddCommand.MESSAGE_SUCCESS, MCDONALD.getName()),
+                ListCommand.MESSAGE_SUCCESS), getLines(out));
+        assertTrue(getLines(err).isEmpty());
+        assertTrue(new AppInitializer(testFolder.resolve("config.json")).getModel().hasEatery(MCDONALD));
+    }
+
+    @Test
+    public void run_invalidCommand_failureStatus() {
+        int status = app.run(Arrays.asList(configParameter, "unknownCommand", ListCommand.COMMAND_WORD), NO_INPUT);
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, status);
+        assertEquals(Arrays.asList(ListCommand.MESSAGE_SUCCESS), getLines(out));
+        assertEquals(Arrays.asList(MESSAGE_UNKNOWN_COMMAND), getLines(err));
+    }
+
+    @Test
+    public void run_noCommandsInArguments_commandsReadUntilExit() {
+        String input = "\n" + ListCommand.COMMAND_WORD + "\n" + ExitCommand.COMMAND_WORD + "\n"
+                + EateryUtil.getAddCommand(MCDONALD) + "\n";
+        int status = app.run(Arrays.asList(configParameter),
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        assertEquals(Arrays.asList(ListCommand.MESSAGE_SUCCESS, ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT),
+                getLines(out));
+        assertFalse(new AppInitializer(testFolder.resolve("config.json")).getModel().hasEatery(MCDONALD));
+    }
+
+    @Test
+    public void run_script_scriptRunInsteadOfInput() throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(EateryUtil.getAddCommand(MCDONALD)), StandardCharsets.UTF_8);
+        InputStream input = new ByteArrayInputStream("unknownCommand\n".getBytes(StandardCharsets.UTF_8));
+
+        int status = app.run(Arrays.asList(configParameter, "--run=" + script), input);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        assertTrue(getLines(err).isEmpty());
+        assertTrue(new AppInitializer(testFolder.resolve("config.json")).getModel().hasEatery(MCDONALD));
+    }
+
+    @Test
+    public void run_recordingPath_eventsRecorded() throws IOException {
+        Path recording = testFolder.resolve("eatme.jfr");
+
+        int status = app.run(Arrays.asList(configParameter, "--jfr=" + recording,
+                EateryUtil.getAddCommand(MCDONALD)), NO_INPUT);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recording);
+        Set<String> eventNames = events.stream()
+                .map(event -> event.getEventType().getName())
+                .collect(Collectors.toSet());
+        assertTrue(eventNames.contains("seedu.eatme.CommandExecuted"));
+        assertTrue(eventNames.contains("seedu.eatme.StorageSave"));
+        assertTrue(events.stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.eatme.CommandExecuted"))
+                .anyMatch(event -> event.getString("commandWord").equals(AddCommand.COMMAND_WORD)
+                        && event.getBoolean("isSuccessful")));
+    }
+
+    private static List<String> getLines(ByteArrayOutputStream stream) {
+        String text = stream.toString(StandardCharsets.UTF_8);
+        return text.isEmpty() ? List.of() : Arrays.asList(text.split(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.eatme.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void getSummary_noCommands_noMetricsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_METRICS, metrics.getSummary());
+    }
+
+    @Test
+    public void record_allStagesEnded_allStagesRecorded() {
+        CommandMetrics.Recording recording = metrics.startRecording();
+        recording.endStage(CommandMetrics.Stage.PARSE);
+        recording.endStage(CommandMetrics.Stage.EXECUTE);
+        recording.endStage(CommandMetrics.Stage.SAVE);
+        metrics.record("list", recording, true);
+
+        assertEquals(1, metrics.getCount("list"));
+        for (CommandMetrics.Stage stage : CommandMetrics.Stage.values()) {
+            assertEquals(1, metrics.getLatencies("list", stage).get().getCount());
+        }
+        String summary = metrics.getSummary();
+        assertTrue(summary.startsWith(CommandMetrics.MESSAGE_HEADER + "\nlist: 1 runs, 0 failed, parse "));
+        assertTrue(summary.contains(", execute ") && summary.contains(", save "));
+    }
+
+    @Test
+    public void record_failedCommand_stagesNotEndedNotRecorded() {
+        CommandMetrics.Recording recording = metrics.startRecording();
+        recording.endStage(CommandMetrics.Stage.PARSE);
+        metrics.record("delete", recording, false);
+
+        assertEquals(1, metrics.getLatencies("delete", CommandMetrics.Stage.PARSE).get().getCount());
+        assertEquals(0, metrics.getLatencies("delete", CommandMetrics.Stage.EXECUTE).get().getCount());
+        assertTrue(metrics.getSummary().contains("delete: 1 runs, 1 failed, parse "));
+        assertFalse(metrics.getSummary().contains("execute"));
+    }
+
+    @Test
+    public void getCount_unknownCommandWord_zero() {
+        assertEquals(0, metrics.getCount("list"));
+        assertFalse(metrics.getLatencies("list", CommandMetrics.Stage.PARSE).isPresent());
+    }
+}
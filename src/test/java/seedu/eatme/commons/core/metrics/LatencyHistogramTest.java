@@ -0,0 +1,58 @@
+package seedu.eatme.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void toBucket_boundsOfBucket_sameBucket() {
+        for (long nanos : new long[] {0, 3, 4, 9, 1_000, 123_456_789, Long.MAX_VALUE / 3}) {
+            int bucket = LatencyHistogram.toBucket(nanos);
+            long upperBound = LatencyHistogram.toUpperBound(bucket);
+            assertTrue(nanos <= upperBound);
+            assertEquals(bucket, LatencyHistogram.toBucket(upperBound));
+            assertEquals(bucket + 1, LatencyHistogram.toBucket(upperBound + 1));
+        }
+    }
+
+    @Test
+    public void getPercentileNanos_noDurations_zero() {
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(-1));
+    }
+
+    @Test
+    public void getPercentileNanos_manyDurations_withinQuarterOfDuration() {
+        for (long nanos = 1; nanos <= 1_000; nanos++) {
+            histogram.record(nanos * 1_000);
+        }
+
+        assertEquals(1_000, histogram.getCount());
+        assertEquals(500_500, histogram.getMeanNanos());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        long median = histogram.getPercentileNanos(50);
+        assertTrue(median >= 500_000 && median <= 625_000);
+        long percentile99 = histogram.getPercentileNanos(99);
+        assertTrue(percentile99 >= 990_000 && percentile99 <= 1_000_000);
+        assertEquals(1_000_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void record_negativeDuration_recordedAsZero() {
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+}
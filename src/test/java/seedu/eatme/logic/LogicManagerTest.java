@@ -1,24 +1,32 @@
 package seedu.eatme.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.eatme.commons.core.Messages.MESSAGE_INVALID_EATERY_DISPLAYED_INDEX;
 import static seedu.eatme.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.eatme.logic.commands.CommandTestUtil.VALID_ADDRESS_WITH_PREFIX_MAC;
 import static seedu.eatme.logic.commands.CommandTestUtil.VALID_CATEGORY_WITH_PREFIX;
 import static seedu.eatme.logic.commands.CommandTestUtil.VALID_NAME_WITH_PREFIX_MAC;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_FILE;
 import static seedu.eatme.testutil.Assert.assertThrows;
 import static seedu.eatme.testutil.TypicalEateries.MCDONALD;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.eatme.commons.core.metrics.CommandMetrics;
 import seedu.eatme.logic.commands.AddCommand;
 import seedu.eatme.logic.commands.CommandResult;
 import seedu.eatme.logic.commands.ListCommand;
+import seedu.eatme.logic.commands.RedoCommand;
+import seedu.eatme.logic.commands.RunCommand;
+import seedu.eatme.logic.commands.UndoCommand;
 import seedu.eatme.logic.commands.exceptions.CommandException;
 import seedu.eatme.logic.parser.exceptions.ParseException;
 import seedu.eatme.model.Model;
@@ -93,6 +101,92 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_storageNotWritten() throws Exception {
+        // Setup LogicManager with storages that fail on every save
+        JsonEateryListStorage eateryListStorage =
+                new JsonEateryListIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionEatMe.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        JsonFeedListStorage feedListStorage =
+                new JsonFeedListIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionFeedList.json"));
+        StorageManager storage = new StorageManager(eateryListStorage, feedListStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_feedListUnchanged_onlyEateryListSaved() throws Exception {
+        // Setup LogicManager with a feed list storage that fails on every save
+        JsonEateryListStorage eateryListStorage = new JsonEateryListStorage(temporaryFolder.resolve("eatMe.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        JsonFeedListStorage feedListStorage =
+                new JsonFeedListIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionFeedList.json"));
+        StorageManager storage = new StorageManager(eateryListStorage, feedListStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + VALID_NAME_WITH_PREFIX_MAC
+                + VALID_ADDRESS_WITH_PREFIX_MAC + VALID_CATEGORY_WITH_PREFIX;
+        Eatery expectedEatery = new EateryBuilder(MCDONALD).withTags().build();
+        logic.execute(addCommand);
+        assertTrue(eateryListStorage.readEateryList().get().getEateryList().contains(expectedEatery));
+    }
+
+    @Test
+    public void execute_commands_metricsRecorded() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandMetrics metrics = model.getCommandMetrics();
+        assertEquals(1, metrics.getCount(ListCommand.COMMAND_WORD));
+        assertEquals(1, metrics.getLatencies(ListCommand.COMMAND_WORD, CommandMetrics.Stage.SAVE).get().getCount());
+        assertEquals(1, metrics.getCount(CommandMetrics.INVALID_COMMAND_WORD));
+        assertEquals(0, metrics.getLatencies(CommandMetrics.INVALID_COMMAND_WORD, CommandMetrics.Stage.PARSE).get()
+                .getCount());
+    }
+
+    @Test
+    public void execute_undoRedo_changesReversedAndSaved() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + VALID_NAME_WITH_PREFIX_MAC
+            + VALID_ADDRESS_WITH_PREFIX_MAC + VALID_CATEGORY_WITH_PREFIX;
+        Eatery expectedEatery = new EateryBuilder(MCDONALD).withTags().build();
+        JsonEateryListStorage eateryListStorage = new JsonEateryListStorage(temporaryFolder.resolve("eatMe.json"));
+        logic.execute(addCommand);
+
+        CommandResult result = logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(String.format(UndoCommand.MESSAGE_SUCCESS, addCommand), result.getFeedbackToUser());
+        assertFalse(model.hasEatery(expectedEatery));
+        assertFalse(eateryListStorage.readEateryList().get().getEateryList().contains(expectedEatery));
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertTrue(model.hasEatery(expectedEatery));
+        assertTrue(eateryListStorage.readEateryList().get().getEateryList().contains(expectedEatery));
+    }
+
+    @Test
+    public void execute_failingCommandAfterUndo_undoRedoUnchanged() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + VALID_NAME_WITH_PREFIX_MAC
+            + VALID_ADDRESS_WITH_PREFIX_MAC + VALID_CATEGORY_WITH_PREFIX;
+        Eatery expectedEatery = new EateryBuilder(MCDONALD).withTags().build();
+        logic.execute(addCommand);
+        logic.execute(UndoCommand.COMMAND_WORD);
+
+        assertCommandException("delete 7", MESSAGE_INVALID_EATERY_DISPLAYED_INDEX);
+        assertFalse(model.getChangeHistory().canUndo());
+        assertTrue(model.getChangeHistory().canRedo());
+
+        // a stopped script makes changes before it fails
+        Path script = Files.writeString(temporaryFolder.resolve("script.txt"), addCommand + "\ndelete 7");
+        assertThrows(CommandException.class, () -> logic.execute(RunCommand.COMMAND_WORD + " " + PREFIX_FILE
+                + script));
+        assertFalse(model.getChangeHistory().canUndo());
+        assertTrue(model.getChangeHistory().canRedo());
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertTrue(model.hasEatery(expectedEatery));
+    }
+
     @Test
     public void getFilteredEateryList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredEateryList().remove(0));
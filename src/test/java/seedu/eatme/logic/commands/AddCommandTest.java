@@ -9,13 +9,16 @@ import static seedu.eatme.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.eatme.commons.core.GuiSettings;
+import seedu.eatme.commons.core.metrics.CommandMetrics;
 import seedu.eatme.logic.commands.exceptions.CommandException;
 import seedu.eatme.model.EateryList;
 import seedu.eatme.model.Model;
@@ -23,9 +26,15 @@ import seedu.eatme.model.ReadOnlyEateryList;
 import seedu.eatme.model.ReadOnlyFeedList;
 import seedu.eatme.model.ReadOnlyUserPrefs;
 import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.EateryAttributesContainsKeywordsPredicate;
 import seedu.eatme.model.eatery.Review;
 import seedu.eatme.model.feed.Feed;
+import seedu.eatme.model.feed.FeedPost;
+import seedu.eatme.model.feed.FeedRefreshScheduler;
+import seedu.eatme.model.feed.FeedRefreshStatus;
+import seedu.eatme.model.history.ChangeHistory;
 import seedu.eatme.model.statistics.Statistics;
+import seedu.eatme.model.statistics.StatisticsTracker;
 import seedu.eatme.testutil.EateryBuilder;
 
 public class AddCommandTest {
@@ -144,6 +153,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addReview(Eatery target, Review review) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setReviews(Eatery target, List<Review> reviews) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setActiveEatery(Eatery eatery) {
             throw new AssertionError("This method should not be called.");
@@ -169,6 +188,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredEateryList(EateryAttributesContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Review> getActiveReviews() {
             throw new AssertionError("This method should not be called.");
@@ -179,6 +203,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<FeedPost> getFeedPostList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<FeedPost> getActiveFeedPosts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFeedPosts(Collection<? extends FeedPost> added, Collection<? extends FeedPost> removed) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean isMainMode() {
             throw new AssertionError("This method should not be called.");
@@ -238,6 +277,31 @@ public class AddCommandTest {
         public Statistics getStatistics() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public StatisticsTracker getStatisticsTracker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setFeedRefreshScheduler(FeedRefreshScheduler feedRefreshScheduler) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<FeedRefreshStatus> getFeedRefreshStatus(Feed feed) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandMetrics getCommandMetrics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ChangeHistory getChangeHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
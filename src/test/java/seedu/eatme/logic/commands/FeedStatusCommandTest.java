@@ -0,0 +1,63 @@
+package seedu.eatme.logic.commands;
+
+import static seedu.eatme.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.eatme.testutil.TypicalEateries.getTypicalOpenEateryList;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.eatme.model.FeedList;
+import seedu.eatme.model.Model;
+import seedu.eatme.model.ModelManager;
+import seedu.eatme.model.UserPrefs;
+import seedu.eatme.model.feed.Feed;
+import seedu.eatme.model.feed.FeedRefreshScheduler;
+import seedu.eatme.testutil.FeedBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FeedStatusCommand}.
+ */
+public class FeedStatusCommandTest {
+
+    private final Model model = new ModelManager(getTypicalOpenEateryList(), getFeedList(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalOpenEateryList(), getFeedList(), new UserPrefs());
+
+    @Test
+    public void execute_noFeeds_showsNoFeeds() {
+        assertCommandSuccess(new FeedStatusCommand(), new ModelManager(), FeedStatusCommand.MESSAGE_NO_FEEDS,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_noScheduler_showsNotRefreshed() {
+        String expectedMessage = String.format(FeedStatusCommand.MESSAGE_FEED_STATUS, "Eatbook",
+                FeedStatusCommand.MESSAGE_NOT_REFRESHED) + "\n"
+                + String.format(FeedStatusCommand.MESSAGE_FEED_STATUS, "Seth Lui",
+                FeedStatusCommand.MESSAGE_NOT_REFRESHED);
+        assertCommandSuccess(new FeedStatusCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_feedScheduled_showsRefreshStatus() {
+        FeedRefreshScheduler scheduler = new FeedRefreshScheduler((feed, delta) -> {});
+        try {
+            Feed eatbook = model.getFeedList().getFeedList().get(0);
+            scheduler.schedule(eatbook);
+            model.setFeedRefreshScheduler(scheduler);
+
+            String expectedMessage = String.format(FeedStatusCommand.MESSAGE_FEED_STATUS, "Eatbook",
+                    scheduler.getStatus(eatbook).get()) + "\n"
+                    + String.format(FeedStatusCommand.MESSAGE_FEED_STATUS, "Seth Lui",
+                    FeedStatusCommand.MESSAGE_NOT_REFRESHED);
+            assertCommandSuccess(new FeedStatusCommand(), model, expectedMessage, expectedModel);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private static FeedList getFeedList() {
+        FeedList feedList = new FeedList();
+        feedList.addFeed(new FeedBuilder().withName("Eatbook").withAddress("https://eatbook.sg/feed").build());
+        feedList.addFeed(new FeedBuilder().withName("Seth Lui").withAddress("https://sethlui.com/feed").build());
+        return feedList;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.eatme.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.eatme.testutil.TypicalEateries.getTypicalOpenEateryList;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.eatme.model.FeedList;
+import seedu.eatme.model.Model;
+import seedu.eatme.model.ModelManager;
+import seedu.eatme.model.UserPrefs;
+import seedu.eatme.model.feed.Feed;
+import seedu.eatme.model.feed.FeedPost;
+import seedu.eatme.testutil.FeedBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindFeedCommand}.
+ */
+public class FindFeedCommandTest {
+
+    private static final FeedPost CHICKEN_RICE = new FeedPost("Eatbook", "Best chicken rice", "https://eatbook.sg/1");
+    private static final FeedPost CHICKEN_WINGS = new FeedPost("Eatbook", "Chicken wings", "https://eatbook.sg/2");
+    private static final FeedPost RICE_BOWLS = new FeedPost("Seth Lui", "Rice bowls", "https://sethlui.com/1");
+    private static final FeedPost LAKSA = new FeedPost("Seth Lui", "Laksa", "https://sethlui.com/2");
+
+    private final Model model = new ModelManager(getTypicalOpenEateryList(), getFeedList(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalOpenEateryList(), getFeedList(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindFeedCommand findFirstCommand = new FindFeedCommand(Collections.singletonList("first"));
+        FindFeedCommand findSecondCommand = new FindFeedCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindFeedCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingKeywords_noPostFound() {
+        String expectedMessage = String.format(FindFeedCommand.MESSAGE_FEED_POSTS_FOUND, 0);
+        assertCommandSuccess(new FindFeedCommand(Arrays.asList("pizza")), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_multipleKeywords_rankedByRelevanceThenRecency() {
+        String expectedMessage = String.format(FindFeedCommand.MESSAGE_FEED_POSTS_FOUND, 4)
+                + "\n1. " + CHICKEN_RICE
+                + "\n2. " + RICE_BOWLS
+                + "\n3. " + CHICKEN_WINGS
+                + "\n4. " + LAKSA;
+        assertCommandSuccess(new FindFeedCommand(Arrays.asList("CHICKEN", "rice", "lui")), model, expectedMessage,
+                expectedModel);
+    }
+
+    /**
+     * Returns a feed list whose feeds have the posts above, with rice bowls seen more recently than chicken wings.
+     */
+    private static FeedList getFeedList() {
+        Instant now = Instant.now();
+        Feed eatbook = new FeedBuilder().withName("Eatbook").withAddress("https://eatbook.sg/feed").build();
+        eatbook.getPostArchive().merge(List.of(CHICKEN_RICE, CHICKEN_WINGS), now);
+        Feed sethLui = new FeedBuilder().withName("Seth Lui").withAddress("https://sethlui.com/feed").build();
+        sethLui.getPostArchive().merge(List.of(RICE_BOWLS, LAKSA), now.plusSeconds(1));
+
+        FeedList feedList = new FeedList();
+        feedList.addFeed(eatbook);
+        feedList.addFeed(sethLui);
+        return feedList;
+    }
+}
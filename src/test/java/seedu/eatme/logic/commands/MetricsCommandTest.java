@@ -0,0 +1,29 @@
+package seedu.eatme.logic.commands;
+
+import static seedu.eatme.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.eatme.commons.core.metrics.CommandMetrics;
+import seedu.eatme.model.Model;
+import seedu.eatme.model.ModelManager;
+
+public class MetricsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noCommandsRun_showsNoMetrics() {
+        assertCommandSuccess(new MetricsCommand(), model, CommandMetrics.MESSAGE_NO_METRICS, expectedModel);
+    }
+
+    @Test
+    public void execute_commandsRun_showsSummary() {
+        CommandMetrics.Recording recording = model.getCommandMetrics().startRecording();
+        recording.endStage(CommandMetrics.Stage.PARSE);
+        model.getCommandMetrics().record(ListCommand.COMMAND_WORD, recording, true);
+
+        assertCommandSuccess(new MetricsCommand(), model, model.getCommandMetrics().getSummary(), expectedModel);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.eatme.logic.commands;
+
+import static seedu.eatme.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.eatme.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.eatme.testutil.TypicalEateries.POPEYES;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.eatme.model.Model;
+import seedu.eatme.model.ModelManager;
+
+public class RedoCommandTest {
+
+    private static final String ADD_COMMAND_TEXT = "add \\n Popeyes";
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_nothingToRedo_failure() {
+        model.addEatery(POPEYES);
+        model.getChangeHistory().commit(ADD_COMMAND_TEXT);
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_undoneCommandToRedo_success() {
+        model.addEatery(POPEYES);
+        model.getChangeHistory().commit(ADD_COMMAND_TEXT);
+        model.getChangeHistory().undo();
+        expectedModel.addEatery(POPEYES);
+
+        assertCommandSuccess(new RedoCommand(), model, String.format(RedoCommand.MESSAGE_SUCCESS, ADD_COMMAND_TEXT),
+                expectedModel);
+    }
+}
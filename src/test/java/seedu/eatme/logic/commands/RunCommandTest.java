@@ -0,0 +1,166 @@
+package seedu.eatme.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.eatme.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.eatme.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_COST;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_RATING;
+import static seedu.eatme.testutil.Assert.assertThrows;
+import static seedu.eatme.testutil.TypicalEateries.KENTUCKY;
+import static seedu.eatme.testutil.TypicalEateries.MCDONALD;
+import static seedu.eatme.testutil.TypicalEateries.getTypicalOpenEateryList;
+import static seedu.eatme.testutil.TypicalFeeds.getTypicalFeedList;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.eatme.logic.commands.exceptions.CommandException;
+import seedu.eatme.model.Model;
+import seedu.eatme.model.ModelManager;
+import seedu.eatme.model.UserPrefs;
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.Review;
+import seedu.eatme.testutil.EateryUtil;
+
+public class RunCommandTest {
+
+    private static final String INVALID_COMMAND = "eat everything";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalOpenEateryList(), getTypicalFeedList(), new UserPrefs());
+        expectedModel = new ModelManager(model.getEateryList(), model.getFeedList(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_validScript_success() throws IOException {
+        Path script = writeScript("# adds two eateries", "",
+                EateryUtil.getAddCommand(MCDONALD), "  ", EateryUtil.getAddCommand(KENTUCKY));
+        expectedModel.addEatery(MCDONALD);
+        expectedModel.addEatery(KENTUCKY);
+
+        assertCommandSuccess(new RunCommand(script, RunCommand.OnError.STOP), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 2, script), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidCommandStop_noChangesMade() throws IOException {
+        Path script = writeScript(EateryUtil.getAddCommand(MCDONALD), INVALID_COMMAND,
+                EateryUtil.getAddCommand(KENTUCKY));
+
+        assertCommandFailure(new RunCommand(script, RunCommand.OnError.STOP), model,
+                String.format(RunCommand.MESSAGE_FAILURE, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void execute_reviewBeforeInvalidCommandStop_reviewRolledBack() throws IOException {
+        Eatery reviewed = model.getFilteredEateryList().get(0);
+        List<Review> reviewsBefore = List.copyOf(reviewed.getReviews());
+        Path script = writeScript(ReviewCommand.COMMAND_WORD + " 1 " + PREFIX_DESCRIPTION + " Great noodles! "
+                + PREFIX_COST + " 6.20 " + PREFIX_RATING + " 4 " + PREFIX_DATE + " 14/02/2020", INVALID_COMMAND);
+
+        assertCommandFailure(new RunCommand(script, RunCommand.OnError.STOP), model,
+                String.format(RunCommand.MESSAGE_FAILURE, 2, MESSAGE_UNKNOWN_COMMAND));
+        assertEquals(reviewsBefore, reviewed.getReviews());
+        model.getChangeHistory().commit(RunCommand.COMMAND_WORD);
+        assertFalse(model.getChangeHistory().canUndo());
+    }
+
+    @Test
+    public void execute_undoInScript_throwsCommandException() throws IOException {
+        Path script = writeScript(UndoCommand.COMMAND_WORD);
+
+        assertCommandFailure(new RunCommand(script, RunCommand.OnError.STOP), model,
+                String.format(RunCommand.MESSAGE_FAILURE, 1, RunCommand.MESSAGE_HISTORY_IN_SCRIPT));
+    }
+
+    @Test
+    public void execute_modeChangedBeforeInvalidCommandStop_modeRestored() throws IOException {
+        Path script = writeScript(ModeCommand.COMMAND_WORD, INVALID_COMMAND);
+
+        assertCommandFailure(new RunCommand(script, RunCommand.OnError.STOP), model,
+                String.format(RunCommand.MESSAGE_FAILURE, 2, MESSAGE_UNKNOWN_COMMAND));
+        assertTrue(model.isMainMode());
+    }
+
+    @Test
+    public void execute_invalidCommandContinue_invalidCommandSkipped() throws IOException {
+        Path script = writeScript(EateryUtil.getAddCommand(MCDONALD), INVALID_COMMAND,
+                EateryUtil.getAddCommand(KENTUCKY));
+        expectedModel.addEatery(MCDONALD);
+        expectedModel.addEatery(KENTUCKY);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS_WITH_FAILURES, 2, script, 1)
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 2, MESSAGE_UNKNOWN_COMMAND);
+        assertCommandSuccess(new RunCommand(script, RunCommand.OnError.CONTINUE), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_nestedRun_throwsCommandException() throws IOException {
+        Path script = writeScript(RunCommand.COMMAND_WORD + " " + PREFIX_FILE + " other.txt");
+
+        assertCommandFailure(new RunCommand(script, RunCommand.OnError.STOP), model,
+                String.format(RunCommand.MESSAGE_FAILURE, 1, RunCommand.MESSAGE_NESTED_RUN));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path script = testFolder.resolve("missing.txt");
+        RunCommand command = new RunCommand(script, RunCommand.OnError.STOP);
+
+        assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(expectedModel.getEateryList(), model.getEateryList());
+    }
+
+    @Test
+    public void equals() {
+        Path firstPath = testFolder.resolve("first.txt");
+        Path secondPath = testFolder.resolve("second.txt");
+        RunCommand runFirstCommand = new RunCommand(firstPath, RunCommand.OnError.STOP);
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(firstPath, RunCommand.OnError.STOP)));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runFirstCommand.equals(new RunCommand(secondPath, RunCommand.OnError.STOP)));
+
+        // different error handling -> returns false
+        assertFalse(runFirstCommand.equals(new RunCommand(firstPath, RunCommand.OnError.CONTINUE)));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return script;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.eatme.logic.commands;
+
+import static seedu.eatme.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.eatme.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.eatme.testutil.TypicalEateries.POPEYES;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.eatme.model.Model;
+import seedu.eatme.model.ModelManager;
+
+public class UndoCommandTest {
+
+    private static final String ADD_COMMAND_TEXT = "add \\n Popeyes";
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_nothingToUndo_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_commandToUndo_success() {
+        model.addEatery(POPEYES);
+        model.getChangeHistory().commit(ADD_COMMAND_TEXT);
+
+        assertCommandSuccess(new UndoCommand(), model, String.format(UndoCommand.MESSAGE_SUCCESS, ADD_COMMAND_TEXT),
+                expectedModel);
+    }
+}
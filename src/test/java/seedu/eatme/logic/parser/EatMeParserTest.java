@@ -8,10 +8,13 @@ import static seedu.eatme.logic.commands.CommandTestUtil.ADDRESS_DESC_EATBOOK;
 import static seedu.eatme.logic.commands.CommandTestUtil.NAME_DESC_EATBOOK;
 import static seedu.eatme.logic.commands.CommandTestUtil.VALID_ADDRESS_EATBOOK;
 import static seedu.eatme.logic.commands.CommandTestUtil.VALID_NAME_EATBOOK;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_FILE;
 import static seedu.eatme.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_ON_ERROR;
 import static seedu.eatme.testutil.Assert.assertThrows;
 import static seedu.eatme.testutil.TypicalIndexes.INDEX_FIRST_EATERY;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,14 +30,20 @@ import seedu.eatme.logic.commands.DeleteFeedCommand;
 import seedu.eatme.logic.commands.EditCommand;
 import seedu.eatme.logic.commands.EditCommand.EditEateryDescriptor;
 import seedu.eatme.logic.commands.ExitCommand;
+import seedu.eatme.logic.commands.FeedStatusCommand;
 import seedu.eatme.logic.commands.FindCommand;
+import seedu.eatme.logic.commands.FindFeedCommand;
 import seedu.eatme.logic.commands.HelpCommand;
 import seedu.eatme.logic.commands.ListCommand;
+import seedu.eatme.logic.commands.MetricsCommand;
 import seedu.eatme.logic.commands.ModeCommand;
+import seedu.eatme.logic.commands.RedoCommand;
 import seedu.eatme.logic.commands.ReopenCommand;
+import seedu.eatme.logic.commands.RunCommand;
 import seedu.eatme.logic.commands.SaveTodoCommand;
 import seedu.eatme.logic.commands.ShowCommand;
 import seedu.eatme.logic.commands.StatsCommand;
+import seedu.eatme.logic.commands.UndoCommand;
 import seedu.eatme.logic.parser.exceptions.ParseException;
 import seedu.eatme.model.eatery.Eatery;
 import seedu.eatme.model.eatery.EateryAttributesContainsKeywordsPredicate;
@@ -106,6 +115,13 @@ public class EatMeParserTest {
         assertEquals(new FindCommand(new EateryAttributesContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findFeed() throws Exception {
+        FindFeedCommand command = (FindFeedCommand) parser.parseCommand(
+                FindFeedCommand.COMMAND_WORD + " chicken  rice", true);
+        assertEquals(new FindFeedCommand(Arrays.asList("chicken", "rice")), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD, true) instanceof HelpCommand);
@@ -149,6 +165,31 @@ public class EatMeParserTest {
         assertEquals(new DeleteFeedCommand(VALID_NAME_EATBOOK), command);
     }
 
+    @Test
+    public void parseCommand_feedstatus() throws Exception {
+        assertTrue(parser.parseCommand(FeedStatusCommand.COMMAND_WORD, true) instanceof FeedStatusCommand);
+        assertTrue(parser.parseCommand(FeedStatusCommand.COMMAND_WORD + " 3", false) instanceof FeedStatusCommand);
+    }
+
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD, true) instanceof MetricsCommand);
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD + " 3", false) instanceof MetricsCommand);
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD, true) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3", false) instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(
+                RunCommand.COMMAND_WORD + " " + PREFIX_FILE + " script.txt " + PREFIX_ON_ERROR + " continue", false);
+        assertEquals(new RunCommand(Paths.get("script.txt"), RunCommand.OnError.CONTINUE), command);
+    }
+
     @Test
     public void parseCommand_show() throws Exception {
         ShowCommand command = (ShowCommand) parser.parseCommand(
@@ -0,0 +1,32 @@
+package seedu.eatme.logic.parser;
+
+import static seedu.eatme.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.eatme.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.eatme.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.eatme.logic.commands.FindFeedCommand;
+
+public class FindFeedCommandParserTest {
+
+    private FindFeedCommandParser parser = new FindFeedCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFeedCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindFeedCommand() {
+        FindFeedCommand expectedCommand = new FindFeedCommand(Arrays.asList("Chicken", "Rice"));
+        assertParseSuccess(parser, "Chicken Rice", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Chicken \n \t Rice  \t", expectedCommand);
+    }
+
+}
@@ -0,0 +1,58 @@
+package seedu.eatme.logic.parser;
+
+import static seedu.eatme.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.eatme.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static seedu.eatme.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.eatme.logic.parser.CliSyntax.PREFIX_ON_ERROR;
+import static seedu.eatme.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.eatme.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.eatme.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+    private static final String VALID_FILE = "data/import.txt";
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_fileOnly_success() {
+        Path path = Paths.get(VALID_FILE);
+
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + " " + PREFIX_FILE + " " + VALID_FILE,
+                new RunCommand(path, RunCommand.OnError.STOP));
+    }
+
+    @Test
+    public void parse_allFieldsSpecified_success() {
+        Path path = Paths.get(VALID_FILE);
+
+        assertParseSuccess(parser, " " + PREFIX_FILE + " " + VALID_FILE + " " + PREFIX_ON_ERROR + " continue",
+                new RunCommand(path, RunCommand.OnError.CONTINUE));
+
+        // case insensitive
+        assertParseSuccess(parser, " " + PREFIX_FILE + " " + VALID_FILE + " " + PREFIX_ON_ERROR + " STOP",
+                new RunCommand(path, RunCommand.OnError.STOP));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        // missing file
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_FILE + " ", MESSAGE_INVALID_FORMAT);
+
+        // non-empty preamble
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + " " + PREFIX_FILE + " " + VALID_FILE, MESSAGE_INVALID_FORMAT);
+
+        // invalid error handling
+        assertParseFailure(parser, " " + PREFIX_FILE + " " + VALID_FILE + " " + PREFIX_ON_ERROR + " retry",
+                MESSAGE_INVALID_FORMAT);
+    }
+}
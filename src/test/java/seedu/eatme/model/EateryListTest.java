@@ -2,11 +2,13 @@ package seedu.eatme.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.eatme.logic.commands.CommandTestUtil.VALID_TAG_NO_PREFIX_CHEAP;
 import static seedu.eatme.testutil.Assert.assertThrows;
 import static seedu.eatme.testutil.TypicalEateries.POPEYES;
 import static seedu.eatme.testutil.TypicalEateries.getTypicalOpenEateryList;
+import static seedu.eatme.testutil.TypicalReviews.REVIEW_1;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -19,6 +21,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.eatme.model.eatery.Eatery;
 import seedu.eatme.model.eatery.exceptions.DuplicateEateryException;
+import seedu.eatme.model.history.ChangeHistory;
 import seedu.eatme.testutil.EateryBuilder;
 
 public class EateryListTest {
@@ -81,6 +84,91 @@ public class EateryListTest {
     public void getEateryList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> eateryList.getEateryList().remove(0));
     }
+    @Test
+    public void getVersion_eateriesChanged_versionChanged() {
+        Eatery eatery = new EateryBuilder().build();
+        long version = eateryList.getVersion();
+        eateryList.addEatery(eatery);
+        assertNotEquals(version, eateryList.getVersion());
+
+        version = eateryList.getVersion();
+        eateryList.setReviews(eatery, Collections.emptyList());
+        assertNotEquals(version, eateryList.getVersion());
+
+        version = eateryList.getVersion();
+        eateryList.removeEatery(eatery);
+        assertNotEquals(version, eateryList.getVersion());
+    }
+
+    @Test
+    public void getVersion_readOrToggled_versionUnchanged() {
+        eateryList.addEatery(new EateryBuilder().build());
+        long version = eateryList.getVersion();
+        eateryList.hasEatery(POPEYES);
+        eateryList.toggle();
+        assertEquals(version, eateryList.getVersion());
+    }
+
+    @Test
+    public void setChangeListener_changesUndoneAndRedone_listsRestored() {
+        ChangeHistory history = new ChangeHistory();
+        eateryList.setChangeListener(history::record);
+        Eatery first = new EateryBuilder().withName("First").build();
+        Eatery second = new EateryBuilder().withName("Second").build();
+        Eatery editedSecond = new EateryBuilder(second).withTags(VALID_TAG_NO_PREFIX_CHEAP).build();
+
+        eateryList.addEatery(first);
+        eateryList.addEatery(second);
+        history.commit("add");
+        eateryList.addReview(first, REVIEW_1);
+        history.commit("review");
+        eateryList.setEatery(second, editedSecond);
+        history.commit("edit");
+        eateryList.removeEatery(first);
+        history.commit("delete");
+        eateryList.toggle();
+        eateryList.resetData(new EateryList());
+        history.commit("clear");
+        eateryList.toggle();
+
+        long version = eateryList.getVersion();
+        history.undo();
+        assertNotEquals(version, eateryList.getVersion());
+        assertEquals(List.of(editedSecond), eateryList.getEateryList());
+        history.undo();
+        assertEquals(List.of(first, editedSecond), eateryList.getEateryList());
+        history.undo();
+        assertEquals(List.of(first, second), eateryList.getEateryList());
+        history.undo();
+        assertEquals(Collections.emptyList(), first.getReviews());
+        history.undo();
+        assertEquals(Collections.emptyList(), eateryList.getEateryList());
+
+        history.redo();
+        history.redo();
+        assertEquals(List.of(REVIEW_1), first.getReviews());
+        history.redo();
+        history.redo();
+        assertEquals(List.of(editedSecond), eateryList.getEateryList());
+        history.redo();
+        assertEquals(Collections.emptyList(), eateryList.getEateryList());
+    }
+
+    @Test
+    public void setChangeListener_todoChangeUndoneInMainMode_todoListRestored() {
+        ChangeHistory history = new ChangeHistory();
+        eateryList.setChangeListener(history::record);
+        Eatery todo = new EateryBuilder().build();
+        eateryList.toggle();
+        eateryList.addEatery(todo);
+        history.commit("add");
+        eateryList.toggle();
+
+        history.undo();
+        assertEquals(Collections.emptyList(), eateryList.getTodoList());
+        assertTrue(eateryList.isMainMode());
+    }
+
     /**
      * A stub ReadOnlyEateryList whose eateries list can violate interface constraints.
      */
@@ -101,6 +189,11 @@ public class EateryListTest {
         public ObservableList<Eatery> getTodoList() {
             return todos;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,78 @@
+package seedu.eatme.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.eatme.testutil.TypicalEateries.KFC;
+import static seedu.eatme.testutil.TypicalEateries.MAC;
+import static seedu.eatme.testutil.TypicalEateries.MOS;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.feed.FeedPost;
+import seedu.eatme.testutil.EateryBuilder;
+
+public class FeedPostLinksTest {
+
+    private final FeedPost macPost = new FeedPost("Food", "McDonald launches a new burger", "https://food.com/1");
+    private final FeedPost bothPost = new FeedPost("Food", "MOS Burger vs McDonald", "https://food.com/2");
+    private final FeedPost kfcPost = new FeedPost("Food", "Kentucky Fried Chicken", "https://food.com/3");
+
+    private final ObservableList<Eatery> eateries = FXCollections.observableArrayList(MAC, MOS);
+    private final ObservableList<Eatery> todos = FXCollections.observableArrayList();
+    private final FeedPostLinks links = new FeedPostLinks(List.of(eateries, todos));
+
+    @Test
+    public void updatePosts_postsAddedAndRemoved_linksUpdated() {
+        links.updatePosts(List.of(macPost, bothPost, kfcPost), List.of());
+        assertEquals(List.of(macPost, bothPost), links.getPosts(MAC));
+        assertEquals(List.of(bothPost), links.getPosts(MOS));
+
+        links.updatePosts(List.of(), List.of(bothPost));
+        assertEquals(List.of(macPost), links.getPosts(MAC));
+        assertEquals(List.of(), links.getPosts(MOS));
+    }
+
+    @Test
+    public void eateryAdded_existingPostsLinked() {
+        links.updatePosts(List.of(macPost, kfcPost), List.of());
+        assertEquals(List.of(), links.getPosts(KFC));
+
+        todos.add(KFC);
+        assertEquals(List.of(kfcPost), links.getPosts(KFC));
+    }
+
+    @Test
+    public void eateryReplaced_linksMoved() {
+        links.updatePosts(List.of(macPost, bothPost), List.of());
+        Eatery editedMac = new EateryBuilder(MAC).withTags("burgers").build();
+        eateries.set(0, editedMac);
+
+        assertEquals(List.of(), links.getPosts(MAC));
+        assertEquals(List.of(macPost, bothPost), links.getPosts(editedMac));
+
+        // a post removed after the eatery was replaced is unlinked from the new eatery
+        links.updatePosts(List.of(), List.of(macPost));
+        assertEquals(List.of(bothPost), links.getPosts(editedMac));
+    }
+
+    @Test
+    public void eateryRenamed_postsMatchedAgain() {
+        links.updatePosts(List.of(macPost, kfcPost), List.of());
+        Eatery renamedMac = new EateryBuilder(MAC).withName("Kentucky Fried Chicken").build();
+        eateries.set(0, renamedMac);
+
+        assertEquals(List.of(), links.getPosts(MAC));
+        assertEquals(List.of(kfcPost), links.getPosts(renamedMac));
+    }
+
+    @Test
+    public void eateryReplacedBySameEatery_linksKept() {
+        links.updatePosts(List.of(macPost, bothPost), List.of());
+        eateries.set(0, MAC);
+        assertEquals(List.of(macPost, bothPost), links.getPosts(MAC));
+    }
+}
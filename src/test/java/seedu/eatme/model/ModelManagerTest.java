@@ -11,13 +11,24 @@ import static seedu.eatme.testutil.TypicalFeeds.getTypicalFeedList;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.eatme.commons.core.GuiSettings;
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.EateryAttributesContainsKeywordsPredicate;
 import seedu.eatme.model.eatery.NameContainsKeywordsPredicate;
+import seedu.eatme.model.eatery.Review;
+import seedu.eatme.model.feed.Feed;
+import seedu.eatme.model.feed.FeedPost;
+import seedu.eatme.testutil.EateryBuilder;
 import seedu.eatme.testutil.EateryListBuilder;
+import seedu.eatme.testutil.FeedBuilder;
 
 public class ModelManagerTest {
 
@@ -94,6 +105,142 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredEateryList().remove(0));
     }
 
+    @Test
+    public void updateFeedPosts_activeEatery_activeFeedPostsUpdated() {
+        FeedPost texasPost = new FeedPost("Food", "Texas Chicken turns 10", "https://food.com/texas");
+        FeedPost otherPost = new FeedPost("Food", "Popeyes Louisiana Kitchen", "https://food.com/other");
+        modelManager.addEatery(TEXAS);
+        modelManager.updateFeedPosts(List.of(texasPost, otherPost), List.of());
+
+        modelManager.setActiveEatery(TEXAS);
+        assertEquals(List.of(texasPost), modelManager.getActiveFeedPosts());
+
+        modelManager.updateFeedPosts(List.of(), List.of(texasPost));
+        assertEquals(List.of(), modelManager.getActiveFeedPosts());
+    }
+
+    @Test
+    public void updateFeedPosts_postAddedTwice_listedOnce() {
+        FeedPost texasPost = new FeedPost("Food", "Texas Chicken turns 10", "https://food.com/texas");
+        FeedPost otherPost = new FeedPost("Food", "Popeyes Louisiana Kitchen", "https://food.com/other");
+        modelManager.updateFeedPosts(List.of(texasPost, otherPost), List.of());
+        modelManager.updateFeedPosts(List.of(texasPost), List.of());
+        assertEquals(List.of(texasPost, otherPost), modelManager.getFeedPostList());
+
+        modelManager.updateFeedPosts(List.of(), List.of(texasPost));
+        assertEquals(List.of(otherPost), modelManager.getFeedPostList());
+    }
+
+    @Test
+    public void addFeed_feedWithCachedPosts_postsListedUntilFeedDeleted() {
+        FeedPost texasPost = new FeedPost("Food", "Texas Chicken turns 10", "https://food.com/texas");
+        Feed feed = new FeedBuilder().withName("Food").withAddress("https://food.com/feed").build();
+        feed.setPosts(Set.of(texasPost));
+        modelManager.addEatery(TEXAS);
+        modelManager.setActiveEatery(TEXAS);
+
+        modelManager.addFeed(feed);
+        assertEquals(List.of(texasPost), modelManager.getFeedPostList());
+        assertEquals(List.of(texasPost), modelManager.getActiveFeedPosts());
+
+        modelManager.deleteFeed(feed);
+        assertEquals(List.of(), modelManager.getFeedPostList());
+        assertEquals(List.of(), modelManager.getActiveFeedPosts());
+    }
+
+    @Test
+    public void deleteEatery_activeEatery_activeFeedPostsUpdated() {
+        FeedPost texasPost = new FeedPost("Food", "Texas Chicken turns 10", "https://food.com/texas");
+        modelManager.addEatery(TEXAS);
+        modelManager.updateFeedPosts(List.of(texasPost), List.of());
+        modelManager.setActiveEatery(TEXAS);
+        modelManager.getChangeHistory().commit("add");
+
+        modelManager.deleteEatery(TEXAS);
+        modelManager.getChangeHistory().commit("delete");
+        assertEquals(List.of(), modelManager.getActiveFeedPosts());
+
+        modelManager.getChangeHistory().undo();
+        assertEquals(List.of(texasPost), modelManager.getActiveFeedPosts());
+    }
+
+    @Test
+    public void updateFilteredEateryList_eateryEditedAfterFind_filterReapplied() {
+        modelManager.addEatery(POPEYES);
+        modelManager.addEatery(TEXAS);
+        modelManager.getChangeHistory().commit("add");
+        modelManager.updateFilteredEateryList(new EateryAttributesContainsKeywordsPredicate(
+                Arrays.asList("chicken"), Arrays.asList(), Arrays.asList(), Arrays.asList("")));
+        assertEquals(List.of(TEXAS), modelManager.getFilteredEateryList());
+
+        Eatery editedTexas = new EateryBuilder(TEXAS).withAddress("new street").build();
+        modelManager.setEatery(TEXAS, editedTexas);
+        modelManager.getChangeHistory().commit("edit");
+        assertEquals(List.of(editedTexas), modelManager.getFilteredEateryList());
+
+        modelManager.getChangeHistory().undo();
+        assertEquals(List.of(TEXAS), modelManager.getFilteredEateryList());
+    }
+
+    @Test
+    public void updateFilteredEateryList_unmatchedEateryReviewedAfterFind_staysFilteredOut() {
+        Eatery popeyes = new EateryBuilder(POPEYES).build();
+        modelManager.addEatery(popeyes);
+        modelManager.addEatery(TEXAS);
+        modelManager.updateFilteredEateryList(new EateryAttributesContainsKeywordsPredicate(Arrays.asList("texas")));
+        assertEquals(List.of(TEXAS), modelManager.getFilteredEateryList());
+
+        modelManager.addReview(popeyes, new Review("Crispy", 8, 4, new Date()));
+        assertEquals(List.of(TEXAS), modelManager.getFilteredEateryList());
+    }
+
+    @Test
+    public void getChangeHistory_feedsChanged_changesUndone() {
+        Feed feed = new FeedBuilder().build();
+        modelManager.addFeed(feed);
+        modelManager.getChangeHistory().commit("addfeed");
+        modelManager.deleteFeed(feed);
+        modelManager.getChangeHistory().commit("deletefeed");
+
+        modelManager.getChangeHistory().undo();
+        assertTrue(modelManager.hasFeed(feed));
+        modelManager.getChangeHistory().undo();
+        assertFalse(modelManager.hasFeed(feed));
+    }
+
+    @Test
+    public void addFeed_feedPostRetentionInUserPrefs_appliedToFeed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFeedPostRetentionCount(1);
+        userPrefs.setFeedPostRetentionAge(Duration.ofDays(7));
+        Feed existingFeed = new FeedBuilder().withName("Existing").withAddress("https://food.com/existing").build();
+        existingFeed.setPosts(Set.of(new FeedPost("Food", "One", "https://food.com/one"),
+                new FeedPost("Food", "Two", "https://food.com/two")));
+        FeedList feedList = new FeedList();
+        feedList.addFeed(existingFeed);
+        ModelManager model = new ModelManager(new EateryList(), feedList, userPrefs);
+        assertEquals(1, existingFeed.getPosts().size());
+
+        Feed addedFeed = new FeedBuilder().build();
+        model.addFeed(addedFeed);
+        assertEquals(1, addedFeed.getPostArchive().getMaxPosts());
+        assertEquals(Duration.ofDays(7), addedFeed.getPostArchive().getMaxAge());
+
+        userPrefs.setFeedPostRetentionCount(5);
+        model.setUserPrefs(userPrefs);
+        assertEquals(5, addedFeed.getPostArchive().getMaxPosts());
+    }
+
+    @Test
+    public void getChangeHistory_zeroUndoHistoryDepth_nothingRecorded() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(0);
+        ModelManager model = new ModelManager(new EateryList(), new FeedList(), userPrefs);
+        model.addEatery(POPEYES);
+        model.getChangeHistory().commit("add");
+        assertFalse(model.getChangeHistory().canUndo());
+    }
+
     @Test
     public void equals() {
         EateryList eateryList = new EateryListBuilder().withEatery(POPEYES).withEatery(TEXAS).build();
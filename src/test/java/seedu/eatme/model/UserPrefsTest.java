@@ -1,5 +1,6 @@
 package seedu.eatme.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.eatme.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +19,11 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setEateryListFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryDepth_negativeDepth_undoTurnedOff() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(-1);
+        assertEquals(0, userPrefs.getUndoHistoryDepth());
+    }
+
 }
@@ -0,0 +1,91 @@
+package seedu.eatme.model.eatery;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.eatme.testutil.EateryBuilder;
+
+public class EateryAttributesContainsKeywordsPredicateTest {
+
+    private final Eatery eatery = new EateryBuilder().withName("Texas Chicken").withAddress("Michegan Ave")
+            .withCategory("Fast Food").withTags("cheap", "spicy").build();
+
+    @Test
+    public void equals() {
+        EateryAttributesContainsKeywordsPredicate firstPredicate = predicate(Arrays.asList("first"), empty(),
+                empty(), empty());
+        EateryAttributesContainsKeywordsPredicate secondPredicate = predicate(empty(), empty(), empty(),
+                Arrays.asList("first"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new EateryAttributesContainsKeywordsPredicate(Arrays.asList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // same keywords for a different attribute -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_attributesContainKeywords_returnsTrue() {
+        // part of the name, ignoring case
+        assertTrue(predicate(Arrays.asList("CHICK"), empty(), empty(), empty()).test(eatery));
+
+        // part of the address
+        assertTrue(predicate(empty(), Arrays.asList("gan av"), empty(), empty()).test(eatery));
+
+        // a word of the category
+        assertTrue(predicate(empty(), empty(), Arrays.asList("food"), empty()).test(eatery));
+
+        // a tag, with only one of the keywords matching
+        assertTrue(predicate(empty(), empty(), empty(), Arrays.asList("pricey", "Spicy")).test(eatery));
+    }
+
+    @Test
+    public void test_attributesDoNotContainKeywords_returnsFalse() {
+        // zero keywords
+        assertFalse(predicate(empty(), empty(), empty(), empty()).test(eatery));
+
+        // part of a category word or tag
+        assertFalse(predicate(empty(), empty(), Arrays.asList("foo"), Arrays.asList("spic")).test(eatery));
+
+        // name keyword matching the address only
+        assertFalse(predicate(Arrays.asList("michegan"), empty(), empty(), empty()).test(eatery));
+    }
+
+    @Test
+    public void test_blankOrMultipleWordKeywords_returnsFalse() {
+        // blank keywords match nothing instead of throwing
+        assertFalse(predicate(Arrays.asList(" "), Arrays.asList(""), Arrays.asList(" "), Arrays.asList(""))
+                .test(eatery));
+
+        // multiple word category and tag keywords match nothing instead of throwing
+        assertFalse(predicate(empty(), empty(), Arrays.asList("Fast Food"), Arrays.asList("cheap spicy"))
+                .test(eatery));
+
+        // multiple word name and address keywords still match parts of the name or address
+        assertTrue(predicate(Arrays.asList("as Chi"), empty(), empty(), empty()).test(eatery));
+    }
+
+    private static EateryAttributesContainsKeywordsPredicate predicate(List<String> names, List<String> addresses,
+                                                                       List<String> categories, List<String> tags) {
+        return new EateryAttributesContainsKeywordsPredicate(names, addresses, categories, tags);
+    }
+
+    private static List<String> empty() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.eatme.model.eatery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.testutil.Assert.assertThrows;
+import static seedu.eatme.testutil.TypicalEateries.KFC;
+import static seedu.eatme.testutil.TypicalEateries.MAC;
+import static seedu.eatme.testutil.TypicalEateries.MOS;
+import static seedu.eatme.testutil.TypicalEateries.PIZZA;
+import static seedu.eatme.testutil.TypicalEateries.TEXAS;
+import static seedu.eatme.testutil.TypicalEateries.getTypicalEateries;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.eatme.testutil.EateryBuilder;
+
+public class EateryKeywordIndexTest {
+
+    private final ObservableList<Eatery> eateries = FXCollections.observableArrayList(getTypicalEateries());
+    private final EateryKeywordIndex index = new EateryKeywordIndex(eateries, new EateryTagIndex(eateries));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new EateryKeywordIndex(null, null));
+    }
+
+    @Test
+    public void find_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null));
+    }
+
+    @Test
+    public void find_sameResultsAsPredicate() {
+        assertSameAsPredicate(predicate(Arrays.asList("chicken"), empty(), empty(), empty()));
+        assertSameAsPredicate(predicate(Arrays.asList("mc", "KING", "z"), empty(), empty(), empty()));
+        assertSameAsPredicate(predicate(empty(), Arrays.asList("street", "AVE 2"), empty(), empty()));
+        assertSameAsPredicate(predicate(empty(), empty(), Arrays.asList("western"), empty()));
+        assertSameAsPredicate(predicate(empty(), empty(), empty(), Arrays.asList("FastFood")));
+        assertSameAsPredicate(predicate(Arrays.asList("pizza"), Arrays.asList("tokyo"), empty(),
+                Arrays.asList("fast")));
+    }
+
+    @Test
+    public void find_keywordLongerThanGrams_verifiesCandidates() {
+        // "chi" and "ken" both occur in "Chinese Kentucky" but "chicken" does not
+        Eatery misleading = new EateryBuilder().withName("Chinese Kentucky").withAddress("nowhere").build();
+        eateries.add(misleading);
+
+        Set<Eatery> matches = index.find(predicate(Arrays.asList("chicken"), empty(), empty(), empty()));
+        assertEquals(setOf(KFC, TEXAS), matches);
+    }
+
+    @Test
+    public void find_nonAsciiCase_sameResultsAsPredicate() {
+        // names and addresses are matched ignoring the case of ASCII letters only
+        eateries.add(new EateryBuilder().withName("Cafe").withAddress("\u00c9cole street").build());
+        eateries.add(new EateryBuilder().withName("Kebab").withAddress("\u0131stanbul road").build());
+        assertSameAsPredicate(predicate(empty(), Arrays.asList("\u00e9cole", "istanbul"), empty(), empty()));
+        assertSameAsPredicate(predicate(empty(), Arrays.asList("\u00c9COLE", "\u0131STANBUL"), empty(), empty()));
+    }
+
+    @Test
+    public void find_blankOrMultipleWordKeywords_noMatches() {
+        assertTrue(index.find(predicate(Arrays.asList(" "), empty(), Arrays.asList("western food"),
+                Arrays.asList(""))).isEmpty());
+    }
+
+    @Test
+    public void find_afterListChanges_indexUpdated() {
+        eateries.remove(PIZZA);
+        assertTrue(index.find(predicate(Arrays.asList("pizza"), empty(), empty(), empty())).isEmpty());
+
+        Eatery editedMos = new EateryBuilder(MOS).withTags("vegetarian").build();
+        eateries.set(eateries.indexOf(MOS), editedMos);
+        assertEquals(setOf(editedMos), index.find(predicate(empty(), empty(), empty(),
+                Arrays.asList("vegetarian"))));
+
+        eateries.setAll(MAC);
+        assertEquals(setOf(MAC), index.find(predicate(empty(), empty(), Arrays.asList("western"), empty())));
+    }
+
+    private void assertSameAsPredicate(EateryAttributesContainsKeywordsPredicate predicate) {
+        Set<Eatery> expected = eateries.stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, index.find(predicate));
+    }
+
+    private static EateryAttributesContainsKeywordsPredicate predicate(List<String> names, List<String> addresses,
+                                                                       List<String> categories, List<String> tags) {
+        return new EateryAttributesContainsKeywordsPredicate(names, addresses, categories, tags);
+    }
+
+    private static List<String> empty() {
+        return Collections.emptyList();
+    }
+
+    private static Set<Eatery> setOf(Eatery... eateries) {
+        return Arrays.stream(eateries).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.eatme.model.eatery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.testutil.Assert.assertThrows;
+import static seedu.eatme.testutil.TypicalEateries.KFC;
+import static seedu.eatme.testutil.TypicalEateries.MAC;
+import static seedu.eatme.testutil.TypicalEateries.MOS;
+import static seedu.eatme.testutil.TypicalEateries.TEXAS;
+import static seedu.eatme.testutil.TypicalEateries.getTypicalEateries;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.eatme.testutil.EateryBuilder;
+
+public class EateryNameMatcherTest {
+
+    private final EateryNameMatcher matcher = new EateryNameMatcher();
+
+    @Test
+    public void match_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> matcher.match(null));
+    }
+
+    @Test
+    public void normalize() {
+        assertEquals("mos burger", EateryNameMatcher.normalize("  MOS   Burger!"));
+        assertEquals("kfc s new burger", EateryNameMatcher.normalize("KFC's new-burger"));
+        assertEquals("", EateryNameMatcher.normalize("--"));
+    }
+
+    @Test
+    public void match_emptyMatcher_noMatches() {
+        assertTrue(matcher.isEmpty());
+        assertTrue(matcher.match("McDonald opens a new outlet").isEmpty());
+    }
+
+    @Test
+    public void match_namesInText_allNamesFound() {
+        getTypicalEateries().forEach(matcher::add);
+
+        assertEquals(setOf(MAC, MOS), matcher.match("McDonald's and MOS-burger go head to head"));
+        assertEquals(setOf(KFC), matcher.match("KENTUCKY  fried chicken: the review"));
+        assertEquals(setOf(), matcher.match("Chicken fried rice in Texas"));
+    }
+
+    @Test
+    public void match_overlappingNames_allNamesFound() {
+        Eatery chicken = new EateryBuilder().withName("Chicken").withAddress("nowhere").build();
+        matcher.add(KFC);
+        matcher.add(TEXAS);
+        matcher.add(chicken);
+
+        // "Fried Chicken" ends at the same place as "Chicken", which is found through the output links
+        assertEquals(setOf(KFC, chicken), matcher.match("Kentucky Fried Chicken"));
+        // the failure from "kentucky fried c" to "c" must still find "chicken"
+        assertEquals(setOf(chicken, TEXAS), matcher.match("Kentucky fried Texas Chicken"));
+    }
+
+    @Test
+    public void match_partialWords_notMatched() {
+        matcher.add(MAC);
+        assertEquals(setOf(), matcher.match("McDonalds"));
+        assertEquals(setOf(), matcher.match("BigMcDonald"));
+        assertEquals(setOf(MAC), matcher.match("McDonald"));
+    }
+
+    @Test
+    public void remove_afterMatching_linksRecomputed() {
+        Eatery chicken = new EateryBuilder().withName("Chicken").withAddress("nowhere").build();
+        matcher.add(TEXAS);
+        matcher.add(chicken);
+        assertEquals(setOf(TEXAS, chicken), matcher.match("Texas Chicken"));
+
+        matcher.remove(chicken);
+        assertEquals(setOf(TEXAS), matcher.match("Texas Chicken"));
+        assertEquals(setOf(), matcher.match("Chicken"));
+
+        // removing an eatery that was never added does nothing
+        matcher.remove(MOS);
+        matcher.remove(TEXAS);
+        assertTrue(matcher.isEmpty());
+    }
+
+    @Test
+    public void remove_sameNameAsAnotherEatery_otherEateryStillMatched() {
+        Eatery otherMac = new EateryBuilder(MAC).withAddress("elsewhere").build();
+        matcher.add(MAC);
+        matcher.add(otherMac);
+
+        matcher.remove(MAC);
+        Set<Eatery> matches = matcher.match("McDonald");
+        assertEquals(1, matches.size());
+        assertTrue(matches.iterator().next() == otherMac);
+    }
+
+    @Test
+    public void replace_sameNormalizedName_replacementMatched() {
+        Eatery otherMac = new EateryBuilder(MAC).withName("MCDONALD").withAddress("elsewhere").build();
+        matcher.add(MAC);
+        assertEquals(setOf(MAC), matcher.match("McDonald"));
+
+        assertTrue(matcher.replace(MAC, otherMac));
+        Set<Eatery> matches = matcher.match("McDonald");
+        assertEquals(1, matches.size());
+        assertTrue(matches.iterator().next() == otherMac);
+
+        // an eatery with a different name is not put in the place of another
+        assertFalse(matcher.replace(otherMac, TEXAS));
+        assertFalse(matcher.replace(MAC, otherMac));
+    }
+
+    private static Set<Eatery> setOf(Eatery... eateries) {
+        return Arrays.stream(eateries).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.eatme.model.eatery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.eatme.testutil.EateryBuilder;
+
+public class EateryTagIndexTest {
+
+    private final Eatery cheapWestern = new EateryBuilder().withName("A").withAddress("a")
+            .withCategory("Western").withTags("cheap").build();
+    private final Eatery cheapNiceWestern = new EateryBuilder().withName("B").withAddress("b")
+            .withCategory("Western").withTags("cheap", "nice").build();
+    private final Eatery niceHawker = new EateryBuilder().withName("C").withAddress("c")
+            .withCategory("Hawker Food").withTags("Nice").build();
+
+    private final ObservableList<Eatery> eateries =
+            FXCollections.observableArrayList(cheapWestern, cheapNiceWestern, niceHawker);
+    private final EateryTagIndex index = new EateryTagIndex(eateries);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new EateryTagIndex(null));
+    }
+
+    @Test
+    public void withTags_anyOrAll_combinesBitmaps() {
+        assertEquals(setOf(cheapWestern, cheapNiceWestern),
+                index.getEateries(index.withTags(Arrays.asList(new Tag("cheap"), new Tag("missing")), false)));
+        assertEquals(setOf(cheapNiceWestern),
+                index.getEateries(index.withTags(Arrays.asList(new Tag("cheap"), new Tag("nice")), true)));
+        assertTrue(index.withTags(Collections.emptyList(), true).isEmpty());
+    }
+
+    @Test
+    public void withCategories_returnsEateriesInAnyCategory() {
+        assertEquals(setOf(cheapWestern, cheapNiceWestern, niceHawker), index.getEateries(
+                index.withCategories(Arrays.asList(new Category("Western"), new Category("Hawker Food")))));
+    }
+
+    @Test
+    public void getTagsNamedAndCategoriesWithWord_ignoreCase() {
+        assertEquals(Set.of(new Tag("nice"), new Tag("Nice")), index.getTagsNamed("NICE"));
+        assertEquals(Set.of(new Category("Hawker Food")), index.getCategoriesWithWord("food"));
+        assertTrue(index.getCategoriesWithWord("hawker food").isEmpty());
+        assertTrue(index.getTagsNamed(" ").isEmpty());
+    }
+
+    @Test
+    public void listChanges_bitmapsUpdated() {
+        Eatery retagged = new EateryBuilder(cheapWestern).withTags("nice").build();
+        eateries.set(eateries.indexOf(cheapWestern), retagged);
+        assertEquals(setOf(cheapNiceWestern), withTagKeyword("cheap"));
+        assertEquals(setOf(retagged, cheapNiceWestern, niceHawker), withTagKeyword("nice"));
+
+        eateries.remove(niceHawker);
+        assertTrue(index.getCategoriesWithWord("hawker").isEmpty());
+
+        Eatery added = new EateryBuilder().withName("D").withAddress("d").withCategory("Hawker").build();
+        eateries.add(added);
+        assertEquals(setOf(added), index.getEateries(
+                index.withCategories(index.getCategoriesWithWord("hawker"))));
+    }
+
+    @Test
+    public void listChanges_lastEateryWithKeywordRemoved_keywordDropped() {
+        int keywordCount = index.getKeywordCount();
+        eateries.remove(niceHawker);
+        assertEquals(keywordCount - 2, index.getKeywordCount());
+
+        eateries.clear();
+        assertEquals(0, index.getKeywordCount());
+    }
+
+    private Set<Eatery> withTagKeyword(String keyword) {
+        return index.getEateries(index.withTags(index.getTagsNamed(keyword), false));
+    }
+
+    private static Set<Eatery> setOf(Eatery... eateries) {
+        return Arrays.stream(eateries).collect(Collectors.toSet());
+    }
+}
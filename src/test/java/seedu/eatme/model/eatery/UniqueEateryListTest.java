@@ -8,13 +8,16 @@ import static seedu.eatme.logic.commands.CommandTestUtil.VALID_TAG_NO_PREFIX_CHE
 import static seedu.eatme.testutil.Assert.assertThrows;
 import static seedu.eatme.testutil.TypicalEateries.KENTUCKY;
 import static seedu.eatme.testutil.TypicalEateries.MCDONALD;
+import static seedu.eatme.testutil.TypicalEateries.PIZZA;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.eatme.model.eatery.exceptions.DuplicateEateryException;
 import seedu.eatme.model.eatery.exceptions.EateryNotFoundException;
 import seedu.eatme.testutil.EateryBuilder;
@@ -166,6 +169,48 @@ public class UniqueEateryListTest {
         assertThrows(DuplicateEateryException.class, () -> uniqueEateryList.setEateries(listWithDuplicateEateries));
     }
 
+    @Test
+    public void contains_eateryRemovedFromList_returnsFalse() {
+        uniqueEateryList.add(MCDONALD);
+        uniqueEateryList.remove(MCDONALD);
+        assertFalse(uniqueEateryList.contains(MCDONALD));
+    }
+
+    @Test
+    public void contains_afterSetEateryWithDifferentIdentity_tracksEditedEatery() {
+        uniqueEateryList.add(MCDONALD);
+        uniqueEateryList.setEatery(MCDONALD, KENTUCKY);
+        assertFalse(uniqueEateryList.contains(MCDONALD));
+        assertTrue(uniqueEateryList.contains(KENTUCKY));
+    }
+
+    @Test
+    public void setEateries_listWithSameIdentityEateries_throwsDuplicateEateryException() {
+        Eatery editedMcdonald = new EateryBuilder(MCDONALD).withTags(VALID_TAG_NO_PREFIX_CHEAP).build();
+        List<Eatery> listWithDuplicateEateries = Arrays.asList(MCDONALD, KENTUCKY, editedMcdonald);
+        assertThrows(DuplicateEateryException.class, () -> uniqueEateryList.setEateries(listWithDuplicateEateries));
+    }
+
+    @Test
+    public void refresh_afterEateriesMoved_replacesEateryAtItsPosition() {
+        uniqueEateryList.setEateries(Arrays.asList(MCDONALD, KENTUCKY, PIZZA));
+        uniqueEateryList.remove(MCDONALD);
+        uniqueEateryList.add(0, MCDONALD);
+        uniqueEateryList.remove(KENTUCKY);
+
+        List<Integer> replaced = new ArrayList<>();
+        uniqueEateryList.asUnmodifiableObservableList().addListener((ListChangeListener<Eatery>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                replaced.add(change.getFrom());
+            }
+        });
+        uniqueEateryList.refresh(PIZZA);
+        uniqueEateryList.refresh(KENTUCKY);
+        assertEquals(List.of(1), replaced);
+        assertEquals(Arrays.asList(MCDONALD, PIZZA), uniqueEateryList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,178 @@
+package seedu.eatme.model.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.eatme.testutil.FeedBuilder;
+import seedu.eatme.testutil.StubFeedServer;
+
+public class FeedHttpClientTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String BODY = "<rss><channel><item><title>Caf\u00e9 Rice</title>"
+            + "<link>https://food.com/1</link></item></channel></rss>";
+
+    private HttpServer server;
+
+    @AfterEach
+    public void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void fetch_gzipBody_decompressed() throws IOException {
+        String address = serve(exchange -> {
+            assertEquals("gzip", exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            respond(exchange, 200, gzip(BODY.getBytes(StandardCharsets.UTF_8)));
+        });
+
+        try (FeedHttpClient.Response response = new FeedHttpClient(1024).fetch(address, null, null, TIMEOUT,
+                TIMEOUT)) {
+            assertFalse(response.isNotModified());
+            assertEquals(BODY, new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void refreshPosts_charsetInHeader_bodyDecodedWithCharset() throws IOException {
+        String address = serve(exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/rss+xml; charset=ISO-8859-1");
+            respond(exchange, 200, BODY.getBytes(StandardCharsets.ISO_8859_1));
+        });
+        Feed feed = new FeedBuilder().withName("Food").withAddress(address).build();
+
+        feed.refreshPosts(new FeedHttpClient(1024), TIMEOUT, TIMEOUT);
+        assertEquals(Set.of(new FeedPost("Food", "Caf\u00e9 Rice", "https://food.com/1")), feed.getPosts());
+    }
+
+    @Test
+    public void fetch_contentLengthOverLimit_throwsIoException() throws IOException {
+        String address = serve(exchange -> respond(exchange, 200, BODY.getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IOException.class, () -> new FeedHttpClient(10).fetch(address, null, null, TIMEOUT, TIMEOUT));
+    }
+
+    @Test
+    public void refreshPosts_compressedBodyOverLimit_throwsIoException() throws IOException {
+        // compresses to far less than the limit, but expands to far more
+        byte[] padding = new byte[64 * 1024];
+        byte[] body = gzip(("<rss><channel><description>" + new String(padding, StandardCharsets.US_ASCII)
+                .replace('\0', ' ') + "</description></channel></rss>").getBytes(StandardCharsets.UTF_8));
+        String address = serve(exchange -> {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            respond(exchange, 200, body);
+        });
+        Feed feed = new FeedBuilder().withAddress(address).build();
+
+        assertTrue(body.length < 4096);
+        assertThrows(IOException.class, "Feed data is larger than 4096 bytes", () ->
+                feed.refreshPosts(new FeedHttpClient(4096), TIMEOUT, TIMEOUT));
+    }
+
+    @Test
+    public void fetch_bodyStallsPastTimeouts_throwsHttpTimeoutException() throws IOException {
+        Duration shortTimeout = Duration.ofMillis(200);
+        try (StubFeedServer server = new StubFeedServer(1).withBodyStall(Duration.ofSeconds(30)).start()) {
+            long start = System.nanoTime();
+            assertThrows(HttpTimeoutException.class, () -> new FeedHttpClient(FeedHttpClient.DEFAULT_MAX_BYTES)
+                    .fetch(server.getAddress(0), null, null, shortTimeout, shortTimeout));
+            assertTrue(System.nanoTime() - start < TIMEOUT.toNanos());
+        }
+    }
+
+    @Test
+    public void fetch_errorStatus_throwsIoException() throws IOException {
+        String address = serve(exchange -> respond(exchange, 404, new byte[0]));
+        assertThrows(IOException.class, () -> new FeedHttpClient(1024).fetch(address, null, null, TIMEOUT, TIMEOUT));
+    }
+
+    @Test
+    public void fetch_notModified_emptyBody() throws IOException {
+        String address = serve(exchange -> {
+            assertEquals("\"v1\"", exchange.getRequestHeaders().getFirst("If-None-Match"));
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+        });
+
+        try (FeedHttpClient.Response response = new FeedHttpClient(1024).fetch(address, "\"v1\"", null, TIMEOUT,
+                TIMEOUT)) {
+            assertTrue(response.isNotModified());
+            assertEquals(-1, response.getBody().read());
+        }
+    }
+
+    @Test
+    public void toCharset() {
+        assertEquals(Optional.of("ISO-8859-1"), FeedHttpClient.toCharset("text/xml; charset=ISO-8859-1"));
+        assertEquals(Optional.of("utf-8"), FeedHttpClient.toCharset("text/xml;Charset=\"utf-8\"; q=1"));
+        assertEquals(Optional.empty(), FeedHttpClient.toCharset("text/xml"));
+        assertEquals(Optional.empty(), FeedHttpClient.toCharset(null));
+    }
+
+    @Test
+    public void boundedInputStream_readPastLimit_throwsIoException() throws IOException {
+        InputStream in = new FeedHttpClient.BoundedInputStream(new ByteArrayInputStream(new byte[10]), 8);
+        assertEquals(8, in.read(new byte[8]));
+        assertThrows(IOException.class, in::read);
+    }
+
+    /**
+     * Serves {@code handler} from a local server, and returns its address.
+     */
+    private String serve(Handler handler) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/feed", exchange -> {
+            try {
+                handler.handle(exchange);
+            } catch (AssertionError e) {
+                respond(exchange, 400, new byte[0]);
+            }
+        });
+        server.start();
+        return "http://localhost:" + server.getAddress().getPort() + "/feed";
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+        exchange.close();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
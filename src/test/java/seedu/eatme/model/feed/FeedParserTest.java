@@ -0,0 +1,101 @@
+package seedu.eatme.model.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.eatme.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.Test;
+
+public class FeedParserTest {
+
+    private static final String SOURCE = "Food";
+
+    @Test
+    public void parse_singleLineRss_allItemsRead() throws Exception {
+        String rss = "<?xml version=\"1.0\"?><rss version=\"2.0\"><channel><title>Food blog</title>"
+                + "<link>https://food.com</link><item><title>Chicken Rice</title><link>https://food.com/1</link>"
+                + "</item><item><link>https://food.com/2</link><title>Laksa</title></item></channel></rss>";
+
+        assertEquals(List.of(new FeedPost(SOURCE, "Chicken Rice", "https://food.com/1"),
+                new FeedPost(SOURCE, "Laksa", "https://food.com/2")), parse(rss, 5));
+    }
+
+    @Test
+    public void parse_atom_alternateLinkRead() throws Exception {
+        String atom = "<feed xmlns=\"http://www.w3.org/2005/Atom\">\n"
+                + "  <title>Food blog</title>\n"
+                + "  <entry>\n"
+                + "    <link rel=\"edit\" href=\"https://food.com/edit/1\"/>\n"
+                + "    <title type=\"html\">Best &lt;em&gt;Satay&lt;/em&gt;</title>\n"
+                + "    <link rel=\"alternate\" href=\"https://food.com/1\"/>\n"
+                + "  </entry>\n"
+                + "</feed>\n";
+
+        assertEquals(List.of(new FeedPost(SOURCE, "Best Satay", "https://food.com/1")), parse(atom, 5));
+    }
+
+    @Test
+    public void parse_entitiesAndCdata_decoded() throws Exception {
+        String rss = "<rss><channel><item>"
+                + "<title><![CDATA[Fish &amp; Chips&#8217;s   new&nbsp;menu]]></title>"
+                + "<link>https://food.com/1</link></item><item>"
+                + "<title>Kaya &amp; Toast &mdash; &#x2764;</title>"
+                + "<link>https://food.com/2</link></item></channel></rss>";
+
+        assertEquals(List.of(new FeedPost(SOURCE, "Fish & Chips\u2019s new menu", "https://food.com/1"),
+                new FeedPost(SOURCE, "Kaya & Toast \u2014 \u2764", "https://food.com/2")), parse(rss, 5));
+    }
+
+    @Test
+    public void parse_maxPostsReached_restOfFeedNotRead() throws Exception {
+        String rss = "<rss><channel>"
+                + "<item><title>One</title><link>https://food.com/1</link></item>"
+                + "<item><title>Two</title><link>https://food.com/2</link></item>"
+                + "<item><title>Three</title><link>not well formed";
+
+        assertEquals(List.of(new FeedPost(SOURCE, "One", "https://food.com/1"),
+                new FeedPost(SOURCE, "Two", "https://food.com/2")), parse(rss, 2));
+    }
+
+    @Test
+    public void parseFeed_channelTimeToLive_read() throws Exception {
+        String rss = "<rss><channel><ttl> 90 </ttl><item><title>One</title><link>https://food.com/1</link></item>"
+                + "</channel></rss>";
+        assertEquals(Optional.of(Duration.ofMinutes(90)), parseFeed(rss).getTimeToLive());
+
+        String invalidTtl = "<rss><channel><ttl>soon</ttl><item><ttl>5</ttl></item></channel></rss>";
+        assertEquals(Optional.empty(), parseFeed(invalidTtl).getTimeToLive());
+    }
+
+    @Test
+    public void parse_itemsWithoutLink_skipped() throws Exception {
+        String rss = "<rss><channel><item><title>No link</title></item>"
+                + "<item><title>Link</title><link>https://food.com/1</link></item></channel></rss>";
+
+        assertEquals(List.of(new FeedPost(SOURCE, "Link", "https://food.com/1")), parse(rss, 5));
+    }
+
+    @Test
+    public void parse_notWellFormed_throwsXmlStreamException() {
+        assertThrows(XMLStreamException.class, () -> parse("<rss><channel><item><title>One</item>", 5));
+    }
+
+    @Test
+    public void decodeEntities_unknownOrMalformed_keptAsIs() {
+        assertEquals("A & B &unknown; &#xZZ; &amp", FeedParser.decodeEntities("A & B &unknown; &#xZZ; &amp"));
+    }
+
+    private static FeedParser.ParsedFeed parseFeed(String feed) throws XMLStreamException {
+        return FeedParser.parseFeed(new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8)), SOURCE, 5);
+    }
+
+    private static List<FeedPost> parse(String feed, int maxPosts) throws XMLStreamException {
+        return FeedParser.parse(new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8)), SOURCE, maxPosts);
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.eatme.model.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class FeedPostArchiveTest {
+
+    private static final Instant NOW = Instant.now();
+
+    private final FeedPost first = post(1);
+    private final FeedPost second = post(2);
+    private final FeedPost third = post(3);
+
+    @Test
+    public void merge_newAndSeenPosts_onlyNewPostsAdded() {
+        FeedPostArchive archive = new FeedPostArchive();
+        assertEquals(new FeedPostArchive.Delta(Set.of(first, second), Set.of()),
+                archive.merge(List.of(second, first), NOW));
+
+        // same address and title -> not a new post
+        assertEquals(new FeedPostArchive.Delta(Set.of(third), Set.of()),
+                archive.merge(List.of(third, second), NOW.plusSeconds(1)));
+        assertEquals(List.of(third, second, first), List.copyOf(archive.getPosts()));
+
+        assertTrue(archive.merge(List.of(third, second), NOW.plusSeconds(2)).isEmpty());
+    }
+
+    @Test
+    public void merge_retitledPost_archivedPostReplaced() {
+        FeedPostArchive archive = new FeedPostArchive();
+        archive.merge(List.of(second, first), NOW);
+
+        FeedPost retitledSecond = new FeedPost("Food", "Retitled", second.getAddress());
+        assertEquals(new FeedPostArchive.Delta(Set.of(retitledSecond), Set.of(second)),
+                archive.merge(List.of(retitledSecond), NOW.plusSeconds(1)));
+        assertEquals(List.of(retitledSecond, first), List.copyOf(archive.getPosts()));
+
+        // the index has the words of the new title only
+        assertEquals(List.of(new FeedPostMatch(retitledSecond, 2, NOW.plusSeconds(1))),
+                archive.search(List.of("retitled")));
+        assertEquals(List.of(), archive.search(List.of("2")));
+    }
+
+    @Test
+    public void merge_moreThanMaxPosts_leastRecentlySeenEvicted() {
+        FeedPostArchive archive = new FeedPostArchive(2, Duration.ofDays(1));
+        archive.merge(List.of(second, first), NOW);
+
+        // first seen again, so second is the least recently seen
+        archive.merge(List.of(first), NOW.plusSeconds(1));
+        assertEquals(new FeedPostArchive.Delta(Set.of(third), Set.of(second)),
+                archive.merge(List.of(third), NOW.plusSeconds(2)));
+        assertEquals(List.of(third, first), List.copyOf(archive.getPosts()));
+    }
+
+    @Test
+    public void merge_postsOlderThanMaxAge_evicted() {
+        FeedPostArchive archive = new FeedPostArchive(10, Duration.ofHours(1));
+        archive.merge(List.of(first), NOW);
+
+        assertEquals(new FeedPostArchive.Delta(Set.of(second), Set.of(first)),
+                archive.merge(List.of(second), NOW.plus(Duration.ofHours(2))));
+    }
+
+    @Test
+    public void restore_unorderedLastSeenTimes_orderedByLastSeenUntilRetentionSet() {
+        FeedPostArchive archive = new FeedPostArchive(2, Duration.ofDays(1));
+        Map<FeedPost, Instant> lastSeenTimes = new LinkedHashMap<>();
+        lastSeenTimes.put(first, NOW.minusSeconds(1));
+        lastSeenTimes.put(second, NOW.minusSeconds(3));
+        lastSeenTimes.put(third, NOW.minusSeconds(2));
+        archive.restore(lastSeenTimes);
+        assertEquals(List.of(first, third, second), List.copyOf(archive.getPosts()));
+
+        archive.setRetention(2, Duration.ofDays(1));
+        assertEquals(List.of(first, third), List.copyOf(archive.getPosts()));
+        assertEquals(List.of(third, first), List.copyOf(archive.getLastSeenTimes().keySet()));
+    }
+
+    @Test
+    public void search_postsAddedAndEvicted_indexKeptInStep() {
+        FeedPostArchive archive = new FeedPostArchive(2, Duration.ofDays(1));
+        FeedPost chickenRice = new FeedPost("Food", "Chicken Rice!", "https://food.com/chicken-rice");
+        FeedPost friedRice = new FeedPost("Food", "Fried rice", "https://food.com/fried-rice");
+        archive.merge(List.of(friedRice, chickenRice), NOW);
+
+        assertEquals(List.of(new FeedPostMatch(chickenRice, 4, NOW), new FeedPostMatch(friedRice, 2, NOW)),
+                sorted(archive.search(List.of("chicken", "RICE"))));
+        // source words count for less than title words
+        assertEquals(List.of(1, 1), scores(archive.search(List.of("food"))));
+        assertEquals(List.of(), archive.search(List.of("chick")));
+
+        archive.merge(List.of(first, second), NOW.plusSeconds(1));
+        assertEquals(List.of(), archive.search(List.of("rice")));
+        assertEquals(List.of(new FeedPostMatch(first, 2, NOW.plusSeconds(1))),
+                archive.search(List.of("1")));
+    }
+
+    @Test
+    public void search_equallyRelevantPosts_mostRecentlySeenFirst() {
+        FeedPostArchive archive = new FeedPostArchive();
+        archive.merge(List.of(third, second), NOW);
+        archive.merge(List.of(first), NOW.plusSeconds(1));
+        assertEquals(List.of(new FeedPostMatch(first, 1, NOW.plusSeconds(1)), new FeedPostMatch(third, 1, NOW),
+                new FeedPostMatch(second, 1, NOW)), archive.search(List.of("food")));
+    }
+
+    @Test
+    public void byRelevanceAndRecency_matchesOfDifferentArchives_orderedByLastSeenOnly() {
+        FeedPostArchive busyArchive = new FeedPostArchive();
+        busyArchive.merge(List.of(third, second), NOW.minusSeconds(1));
+        busyArchive.merge(List.of(third, second), NOW);
+        FeedPostArchive quietArchive = new FeedPostArchive();
+        quietArchive.merge(List.of(first), NOW);
+        FeedPost older = post(4);
+        quietArchive.merge(List.of(older), NOW.minusSeconds(1));
+
+        // posts seen at the same time stay in the order they were found, however many posts each archive has had
+        List<FeedPostMatch> matches = new ArrayList<>(quietArchive.search(List.of("post")));
+        matches.addAll(busyArchive.search(List.of("post")));
+        assertEquals(List.of(first, third, second, older), posts(sorted(matches)));
+    }
+
+    @Test
+    public void setRetention_fewerPosts_excessEvicted() {
+        FeedPostArchive archive = new FeedPostArchive();
+        archive.merge(List.of(third, second, first), NOW);
+        archive.setRetention(1, Duration.ofDays(1));
+        assertEquals(Set.of(third), archive.getPosts());
+    }
+
+    private static List<FeedPostMatch> sorted(List<FeedPostMatch> matches) {
+        matches.sort(FeedPostMatch.BY_RELEVANCE_AND_RECENCY);
+        return matches;
+    }
+
+    private static List<FeedPost> posts(List<FeedPostMatch> matches) {
+        return matches.stream().map(FeedPostMatch::getPost).collect(Collectors.toList());
+    }
+
+    private static List<Integer> scores(List<FeedPostMatch> matches) {
+        return matches.stream().map(FeedPostMatch::getScore).collect(Collectors.toList());
+    }
+
+    private static FeedPost post(int index) {
+        return new FeedPost("Food", "Post " + index, "https://food.com/" + index);
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.eatme.model.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.eatme.model.feed.FeedRefreshStatus.CircuitState;
+import seedu.eatme.model.feed.FeedRefreshStatus.Outcome;
+import seedu.eatme.testutil.FeedBuilder;
+
+public class FeedRefreshSchedulerTest {
+
+    private static final Duration STARTUP_JITTER = Duration.ofMinutes(10);
+    private static final Duration INTERVAL = Duration.ofHours(1);
+    private static final Duration BASE_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration OPEN_DURATION = Duration.ofHours(6);
+    private static final int FAILURE_THRESHOLD = 3;
+
+    private final Feed feed = new FeedBuilder().withName("Food").withAddress("https://food.com/feed").build();
+    private final FeedPostArchive.Delta delta = new FeedPostArchive.Delta(
+            Set.of(new FeedPost("Food", "Chicken Rice", "https://food.com/1")), Set.of());
+
+    @Test
+    public void schedule_newFeed_pendingWithinStartupJitter() {
+        FeedRefreshScheduler scheduler = createScheduler(f -> delta, (f, p) -> { }, 0.5);
+        scheduler.schedule(feed);
+
+        FeedRefreshStatus status = scheduler.getStatus(feed).get();
+        assertEquals(Outcome.PENDING, status.getLastOutcome());
+        assertFalse(status.getLastRefresh().isPresent());
+        Duration untilNextRefresh = Duration.between(Instant.now(), status.getNextRefresh());
+        assertTrue(untilNextRefresh.compareTo(STARTUP_JITTER.dividedBy(2)) <= 0);
+        assertTrue(untilNextRefresh.compareTo(STARTUP_JITTER.dividedBy(3)) > 0);
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void refresh_succeeded_deltaPassedOnAndNextRefreshAfterInterval() {
+        Map<Feed, FeedPostArchive.Delta> refreshed = new ConcurrentHashMap<>();
+        FeedRefreshScheduler scheduler = createScheduler(f -> delta, refreshed::put, 0);
+        scheduler.schedule(feed);
+        scheduler.refresh(feed);
+
+        assertEquals(delta, refreshed.get(feed));
+        FeedRefreshStatus status = scheduler.getStatus(feed).get();
+        assertEquals(Outcome.SUCCEEDED, status.getLastOutcome());
+        assertEquals(CircuitState.CLOSED, status.getCircuitState());
+        assertEquals(INTERVAL, untilNextRefresh(status));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void refresh_longerTimeToLive_timeToLiveHonored() {
+        FeedRefreshScheduler scheduler = createScheduler(f -> delta, (f, p) -> { }, 0);
+        feed.setTimeToLive(Duration.ofHours(2));
+        scheduler.schedule(feed);
+        scheduler.refresh(feed);
+        assertEquals(Duration.ofHours(2), untilNextRefresh(scheduler.getStatus(feed).get()));
+
+        feed.setTimeToLive(Duration.ofMinutes(5));
+        scheduler.refresh(feed);
+        assertEquals(INTERVAL, untilNextRefresh(scheduler.getStatus(feed).get()));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void refresh_repeatedlyFailing_backsOffThenOpensCircuit() {
+        AtomicBoolean isOnline = new AtomicBoolean(false);
+        FeedRefreshScheduler scheduler = createScheduler(f -> {
+            if (!isOnline.get()) {
+                throw new IOException("offline");
+            }
+            return delta;
+        }, (f, p) -> { }, 0);
+        scheduler.schedule(feed);
+
+        scheduler.refresh(feed);
+        FeedRefreshStatus status = scheduler.getStatus(feed).get();
+        assertEquals(Outcome.FAILED, status.getLastOutcome());
+        assertEquals(1, status.getConsecutiveFailures());
+        assertEquals(BASE_BACKOFF, untilNextRefresh(status));
+
+        scheduler.refresh(feed);
+        assertEquals(BASE_BACKOFF.multipliedBy(2), untilNextRefresh(scheduler.getStatus(feed).get()));
+
+        scheduler.refresh(feed);
+        status = scheduler.getStatus(feed).get();
+        assertEquals(CircuitState.OPEN, status.getCircuitState());
+        assertEquals(OPEN_DURATION, untilNextRefresh(status));
+
+        // failed trial -> circuit opened again
+        scheduler.refresh(feed);
+        status = scheduler.getStatus(feed).get();
+        assertEquals(CircuitState.OPEN, status.getCircuitState());
+        assertEquals(4, status.getConsecutiveFailures());
+
+        // successful trial -> circuit closed
+        isOnline.set(true);
+        scheduler.refresh(feed);
+        status = scheduler.getStatus(feed).get();
+        assertEquals(CircuitState.CLOSED, status.getCircuitState());
+        assertEquals(0, status.getConsecutiveFailures());
+        assertEquals(INTERVAL, untilNextRefresh(status));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void scheduleAll_feedsAddedAndRemoved_scheduleKeptInStep() {
+        FeedRefreshScheduler scheduler = createScheduler(f -> delta, (f, p) -> { }, 0);
+        ObservableList<Feed> feeds = FXCollections.observableArrayList(feed);
+        Feed otherFeed = new FeedBuilder().withName("Other").withAddress("https://other.com/feed").build();
+        scheduler.scheduleAll(feeds);
+        assertTrue(scheduler.getStatus(feed).isPresent());
+
+        feeds.add(otherFeed);
+        feeds.remove(feed);
+        assertFalse(scheduler.getStatus(feed).isPresent());
+        assertTrue(scheduler.getStatus(otherFeed).isPresent());
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void schedule_intervalPassed_refreshedInBackground() throws Exception {
+        CountDownLatch refreshed = new CountDownLatch(2);
+        FeedRefreshScheduler scheduler = new FeedRefreshScheduler(f -> delta, (f, p) -> refreshed.countDown(),
+                Duration.ofMillis(20), Duration.ofMillis(20), BASE_BACKOFF, FAILURE_THRESHOLD, OPEN_DURATION,
+                Math::random);
+        scheduler.schedule(feed);
+
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        scheduler.shutdown();
+    }
+
+    private static FeedRefreshScheduler createScheduler(FeedRefreshScheduler.Fetcher fetcher,
+            BiConsumer<Feed, FeedPostArchive.Delta> onRefreshed, double random) {
+        return new FeedRefreshScheduler(fetcher, onRefreshed, STARTUP_JITTER, INTERVAL, BASE_BACKOFF,
+                FAILURE_THRESHOLD, OPEN_DURATION, () -> random);
+    }
+
+    /**
+     * Returns the time between the last and the next refresh of {@code status}, rounded to the nearest second.
+     */
+    private static Duration untilNextRefresh(FeedRefreshStatus status) {
+        Duration untilNextRefresh = Duration.between(status.getLastRefresh().get(), status.getNextRefresh());
+        return Duration.ofSeconds(Math.round(untilNextRefresh.toMillis() / 1000.0));
+    }
+}
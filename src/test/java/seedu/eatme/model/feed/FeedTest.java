@@ -1,10 +1,22 @@
 package seedu.eatme.model.feed;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import com.sun.net.httpserver.HttpServer;
+
 import seedu.eatme.testutil.FeedBuilder;
 
 public class FeedTest {
@@ -38,4 +50,45 @@ public class FeedTest {
         Feed differentAddressFeed = new FeedBuilder(feed).withAddress("https://different.com/feed").build();
         assertFalse(feed.equals(differentAddressFeed));
     }
+
+    @Test
+    public void fetchPosts_notModified_cachedPostsUsed() throws IOException {
+        String body = "<rss>\n<item>\n<title>Chicken Rice</title>\n<link>https://food.com/1</link>\n</item>\n</rss>\n";
+        List<String> receivedEntityTags = new ArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/feed", exchange -> {
+            String entityTag = exchange.getRequestHeaders().getFirst("If-None-Match");
+            receivedEntityTags.add(entityTag);
+            if ("\"v1\"".equals(entityTag)) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                exchange.getResponseHeaders().add("Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT");
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            Feed feed = new FeedBuilder().withName("Food")
+                    .withAddress("http://localhost:" + server.getAddress().getPort() + "/feed").build();
+            Set<FeedPost> expectedPosts = Set.of(new FeedPost("Food", "Chicken Rice", "https://food.com/1"));
+
+            assertEquals(expectedPosts, feed.fetchPosts());
+            assertEquals("\"v1\"", feed.getEntityTag());
+            assertEquals("Wed, 21 Oct 2015 07:28:00 GMT", feed.getLastModified());
+
+            assertEquals(expectedPosts, feed.fetchPosts());
+            assertEquals(2, receivedEntityTags.size());
+            assertNull(receivedEntityTags.get(0));
+            assertEquals("\"v1\"", receivedEntityTags.get(1));
+        } finally {
+            server.stop(0);
+        }
+    }
 }
@@ -0,0 +1,212 @@
+package seedu.eatme.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeHistoryTest {
+
+    private final List<String> items = new ArrayList<>();
+
+    @Test
+    public void constructor_negativeBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeHistory(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ChangeHistory(10, -1));
+    }
+
+    @Test
+    public void undoRedo_commandsCommitted_changesUndoneAndRedoneInOrder() {
+        ChangeHistory history = new ChangeHistory();
+        add(history, "a");
+        add(history, "b");
+        history.commit("first");
+        add(history, "c");
+        history.commit("second");
+
+        assertEquals("second", history.undo());
+        assertEquals(List.of("a", "b"), items);
+        assertEquals("first", history.undo());
+        assertEquals(List.of(), items);
+        assertFalse(history.canUndo());
+
+        assertEquals("first", history.redo());
+        assertEquals(List.of("a", "b"), items);
+        assertEquals("second", history.redo());
+        assertEquals(List.of("a", "b", "c"), items);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        ChangeHistory history = new ChangeHistory();
+        history.commit("list");
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_redoForgotten() {
+        ChangeHistory history = new ChangeHistory();
+        add(history, "a");
+        history.commit("first");
+        history.undo();
+
+        add(history, "b");
+        history.commit("second");
+
+        assertFalse(history.canRedo());
+        assertEquals(1, history.getSize());
+    }
+
+    @Test
+    public void discard_afterUndo_undoAndRedoUnchanged() {
+        ChangeHistory history = new ChangeHistory();
+        add(history, "a");
+        history.commit("first");
+        add(history, "b");
+        history.commit("second");
+        history.undo();
+
+        add(history, "c");
+        history.discard();
+
+        assertTrue(history.canRedo());
+        assertEquals("first", history.undo());
+        assertEquals("first", history.redo());
+        assertEquals("second", history.redo());
+    }
+
+    @Test
+    public void undo_changesMadeWhileUndoing_notRecorded() {
+        ChangeHistory history = new ChangeHistory();
+        history.record(Change.of(1, () -> add(history, "undone"), () -> { }));
+        history.commit("first");
+
+        history.undo();
+        history.commit("undo");
+
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void undo_nothingToUndo_throwsIllegalStateException() {
+        ChangeHistory history = new ChangeHistory();
+        assertThrows(IllegalStateException.class, history::undo);
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void undo_uncommittedChanges_throwsIllegalStateException() {
+        ChangeHistory history = new ChangeHistory();
+        add(history, "a");
+        history.commit("first");
+        add(history, "b");
+        assertThrows(IllegalStateException.class, history::undo);
+    }
+
+    @Test
+    public void commit_moreThanMaxDepth_oldestForgotten() {
+        ChangeHistory history = new ChangeHistory(2, 100);
+        for (String item : List.of("a", "b", "c")) {
+            add(history, item);
+            history.commit(item);
+        }
+
+        assertEquals("c", history.undo());
+        assertEquals("b", history.undo());
+        assertFalse(history.canUndo());
+        assertEquals(List.of("a"), items);
+    }
+
+    @Test
+    public void commit_moreThanMaxSize_oldestForgotten() {
+        ChangeHistory history = new ChangeHistory(10, 3);
+        add(history, "a");
+        add(history, "b");
+        history.commit("first");
+        add(history, "c");
+        add(history, "d");
+        history.commit("second");
+
+        assertEquals(2, history.getSize());
+        assertEquals("second", history.undo());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void record_commandLargerThanMaxSize_historyForgotten() {
+        ChangeHistory history = new ChangeHistory(10, 2);
+        add(history, "a");
+        history.commit("first");
+
+        add(history, "b");
+        add(history, "c");
+        add(history, "d");
+        history.commit("second");
+
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getSize());
+
+        add(history, "e");
+        history.commit("third");
+        assertEquals("third", history.undo());
+    }
+
+    @Test
+    public void record_zeroMaxDepth_nothingRecorded() {
+        ChangeHistory history = new ChangeHistory(0, 100);
+        add(history, "a");
+        history.commit("first");
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void rollBack_changesSinceRollbackPoint_undoneAndForgotten() {
+        ChangeHistory history = new ChangeHistory();
+        add(history, "a");
+        history.markRollbackPoint();
+        add(history, "b");
+        add(history, "c");
+
+        history.rollBack();
+        assertEquals(List.of("a"), items);
+        history.commit("first");
+        assertEquals("first", history.undo());
+        assertEquals(List.of(), items);
+    }
+
+    @Test
+    public void rollBack_zeroMaxDepth_changesStillUndone() {
+        ChangeHistory history = new ChangeHistory(0, 100);
+        history.markRollbackPoint();
+        add(history, "a");
+
+        history.rollBack();
+        assertEquals(List.of(), items);
+    }
+
+    @Test
+    public void rollBack_noRollbackPoint_throwsIllegalStateException() {
+        ChangeHistory history = new ChangeHistory();
+        assertThrows(IllegalStateException.class, history::rollBack);
+
+        history.markRollbackPoint();
+        assertThrows(IllegalStateException.class, history::markRollbackPoint);
+        history.releaseRollbackPoint();
+        assertThrows(IllegalStateException.class, history::rollBack);
+    }
+
+    /**
+     * Adds {@code item} to the items, and records the change in {@code history}.
+     */
+    private void add(ChangeHistory history, String item) {
+        items.add(item);
+        history.record(Change.of(1, () -> items.remove(items.size() - 1), () -> items.add(item)));
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.eatme.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.eatme.model.eatery.Category;
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.Review;
+import seedu.eatme.testutil.EateryBuilder;
+
+public class StatisticsTrackerTest {
+
+    private final Eatery cheap = new EateryBuilder().withName("Cheap").withCategory("Western").build();
+    private final Eatery pricey = new EateryBuilder().withName("Pricey").withCategory("Western").build();
+    private final Eatery noodles = new EateryBuilder().withName("Noodles").withCategory("Chinese").build();
+
+    private final ObservableList<Eatery> eateries = FXCollections.observableArrayList(cheap, pricey, noodles);
+    private final StatisticsTracker tracker = new StatisticsTracker(eateries);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatisticsTracker(null));
+    }
+
+    @Test
+    public void refresh_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tracker.refresh(null));
+    }
+
+    @Test
+    public void isEmpty_noReviews_returnsTrue() {
+        assertTrue(tracker.isEmpty());
+    }
+
+    @Test
+    public void refresh_reviewsAdded_aggregatesUpdated() {
+        addReviews(cheap, 2, 4);
+        addReviews(pricey, 30);
+        addReviews(noodles, 5);
+
+        assertFalse(tracker.isEmpty());
+        assertEquals(36.0, tracker.getCategoryTotalExpense().get(new Category("Western")));
+        assertEquals(3, tracker.getCategoryVisits().get(new Category("Western")));
+        assertEquals(Arrays.asList(pricey, noodles), tracker.getEateriesByExpense(2, true));
+        assertEquals(Arrays.asList(cheap, noodles), tracker.getEateriesByExpense(2, false));
+        assertEquals(Arrays.asList(cheap, pricey, noodles), tracker.getEateriesByVisit(3, true));
+    }
+
+    @Test
+    public void getCategoryAverageExpense_eateriesWithDifferentReviewCounts_averagedOverAllReviews() {
+        addReviews(cheap, 2, 4);
+        addReviews(pricey, 30);
+
+        // 36 over the 3 reviews of the category, not over the review count of either eatery
+        assertEquals(12.0, tracker.getCategoryAverageExpense().get(new Category("Western")));
+    }
+
+    @Test
+    public void refresh_reviewsReplaced_aggregatesUpdated() {
+        addReviews(cheap, 2, 4);
+        addReviews(pricey, 30);
+
+        pricey.setReviews(Arrays.asList());
+        tracker.refresh(pricey);
+
+        assertEquals(6.0, tracker.getCategoryTotalExpense().get(new Category("Western")));
+        assertEquals(Arrays.asList(cheap), tracker.getEateriesWithReviews());
+    }
+
+    @Test
+    public void listChanges_eateryRemovedOrReplaced_aggregatesUpdated() {
+        addReviews(cheap, 2);
+        addReviews(noodles, 5);
+
+        eateries.remove(noodles);
+        assertFalse(tracker.getCategoryVisits().containsKey(new Category("Chinese")));
+
+        Eatery editedCheap = new EateryBuilder(cheap).withCategory("Japanese").build();
+        editedCheap.setReviews(cheap.getReviews());
+        eateries.set(eateries.indexOf(cheap), editedCheap);
+        assertEquals(Arrays.asList(editedCheap), tracker.getEateriesWithReviews());
+        assertEquals(2.0, tracker.getCategoryTotalExpense().get(new Category("Japanese")));
+        assertFalse(tracker.getCategoryTotalExpense().containsKey(new Category("Western")));
+
+        eateries.clear();
+        assertTrue(tracker.isEmpty());
+    }
+
+    @Test
+    public void refresh_manyReviewsAddedAndRemoved_totalsMatchFreshTracker() {
+        for (int i = 0; i < 1000; i++) {
+            addReviews(cheap, 0.1 * i + 0.01);
+            addReviews(pricey, 9999.99 / (i + 1));
+            addReviews(noodles, 0.7);
+            if (i % 3 == 1) {
+                cheap.setReviews(Arrays.asList());
+                tracker.refresh(cheap);
+            }
+        }
+        assertEquals(new StatisticsTracker(eateries).getCategoryTotalExpense(), tracker.getCategoryTotalExpense());
+
+        pricey.setReviews(Arrays.asList());
+        tracker.refresh(pricey);
+        assertEquals(cheap.getTotalExpense(), tracker.getCategoryTotalExpense().get(new Category("Western")));
+    }
+
+    @Test
+    public void refresh_eateryNotTracked_ignored() {
+        Eatery other = new EateryBuilder().withName("Other").build();
+        addReviews(other, 10);
+        assertTrue(tracker.isEmpty());
+    }
+
+    private void addReviews(Eatery eatery, double... costs) {
+        for (double cost : costs) {
+            eatery.addReview(new Review("review", cost, 3, new Date()));
+        }
+        tracker.refresh(eatery);
+    }
+}
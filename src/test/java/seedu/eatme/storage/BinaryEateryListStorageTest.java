@@ -0,0 +1,122 @@
+package seedu.eatme.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.testutil.Assert.assertThrows;
+import static seedu.eatme.testutil.TypicalEateries.MAC;
+import static seedu.eatme.testutil.TypicalEateries.PIZZAHUT;
+import static seedu.eatme.testutil.TypicalEateries.getTypicalOpenEateryList;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.eatme.commons.exceptions.DataConversionException;
+import seedu.eatme.model.EateryList;
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.Review;
+import seedu.eatme.testutil.EateryBuilder;
+
+public class BinaryEateryListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readEateryList_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryEateryListStorage(testFolder.resolve("missing.json")).readEateryList().isPresent());
+    }
+
+    @Test
+    public void readAndSaveEateryList_allInOrder_success() throws Exception {
+        BinaryEateryListStorage storage = new BinaryEateryListStorage(testFolder.resolve("eaterylist.json"));
+        EateryList original = getTypicalOpenEateryList();
+
+        storage.saveEateryList(original);
+        assertTrue(Files.exists(storage.getEateryListFilePath()));
+        assertEquals(original, storage.readEateryList().get());
+
+        Eatery reviewed = new EateryBuilder(PIZZAHUT).build();
+        original.addEatery(reviewed);
+        original.removeEatery(MAC);
+        original.addReview(reviewed, new Review("nice", 4.5, 4, new Date(123456789L)));
+        storage.prepareSaveEateryList(original).write();
+        assertEquals(original, storage.readEateryList().get());
+    }
+
+    @Test
+    public void readEateryList_onlyJsonFile_importedLosslessly() throws Exception {
+        Path jsonFilePath = testFolder.resolve("eaterylist.json");
+        EateryList original = getTypicalOpenEateryList();
+        new JsonEateryListStorage(jsonFilePath).saveEateryList(original);
+
+        BinaryEateryListStorage storage = new BinaryEateryListStorage(jsonFilePath);
+        assertEquals(original, storage.readEateryList().get());
+
+        storage.saveEateryList(storage.readEateryList().get());
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        storage.saveEateryList(storage.readEateryList().get(), exportedFilePath);
+        assertEquals(original, new JsonEateryListStorage(exportedFilePath).readEateryList().get());
+    }
+
+    @Test
+    public void readEateryList_truncatedFile_throwsDataConversionException() throws Exception {
+        BinaryEateryListStorage storage = new BinaryEateryListStorage(testFolder.resolve("eaterylist.json"));
+        storage.saveEateryList(getTypicalOpenEateryList());
+        byte[] bytes = Files.readAllBytes(storage.getEateryListFilePath());
+        Files.write(storage.getEateryListFilePath(), Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, storage::readEateryList);
+    }
+
+    @Test
+    public void readEateryList_unsupportedVersion_throwsDataConversionException() throws Exception {
+        BinaryEateryListStorage storage = new BinaryEateryListStorage(testFolder.resolve("eaterylist.json"));
+        byte[] bytes = BinaryEateryListCodec.encode(getTypicalOpenEateryList());
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryEateryListCodec.VERSION + 1);
+        Files.write(storage.getEateryListFilePath(), bytes);
+
+        assertThrows(DataConversionException.class, storage::readEateryList);
+    }
+
+    @Test
+    public void readEateryList_binaryFileNewer_importedByJsonStorages() throws Exception {
+        Path jsonFilePath = testFolder.resolve("eaterylist.json");
+        EateryList original = getTypicalOpenEateryList();
+        JournaledEateryListStorage journaledStorage = new JournaledEateryListStorage(jsonFilePath);
+        journaledStorage.saveEateryList(original);
+        original.removeEatery(MAC);
+        journaledStorage.saveEateryList(original);
+
+        BinaryEateryListStorage storage = new BinaryEateryListStorage(jsonFilePath);
+        original.addEatery(PIZZAHUT);
+        storage.saveEateryList(original);
+        Files.setLastModifiedTime(storage.getEateryListFilePath(), FileTime.fromMillis(System.currentTimeMillis()
+                + 60_000));
+
+        assertEquals(original, new JsonEateryListStorage(jsonFilePath).readEateryList().get());
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+        assertEquals(original, new JournaledEateryListStorage(jsonFilePath).readEateryList().get());
+    }
+
+    @Test
+    public void readEateryList_jsonFileNewer_jsonFileImported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("eaterylist.json");
+        BinaryEateryListStorage storage = new BinaryEateryListStorage(jsonFilePath);
+        storage.saveEateryList(getTypicalOpenEateryList());
+
+        EateryList original = getTypicalOpenEateryList();
+        original.removeEatery(MAC);
+        new JsonEateryListStorage(jsonFilePath).saveEateryList(original);
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        assertEquals(original, storage.readEateryList().get());
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.eatme.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.testutil.Assert.assertThrows;
+import static seedu.eatme.testutil.TypicalEateries.BURGERKING;
+import static seedu.eatme.testutil.TypicalEateries.MAC;
+import static seedu.eatme.testutil.TypicalEateries.PIZZAHUT;
+import static seedu.eatme.testutil.TypicalEateries.getTypicalOpenEateryList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.eatme.commons.exceptions.DataConversionException;
+import seedu.eatme.model.EateryList;
+import seedu.eatme.model.eatery.Eatery;
+import seedu.eatme.model.eatery.Review;
+import seedu.eatme.testutil.EateryBuilder;
+
+public class JournaledEateryListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readEateryList_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledEateryListStorage(testFolder.resolve("missing.json")).readEateryList().isPresent());
+    }
+
+    @Test
+    public void saveEateryList_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath);
+        EateryList original = getTypicalOpenEateryList();
+
+        storage.saveEateryList(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        Eatery reviewed = new EateryBuilder(PIZZAHUT).build();
+        original.addEatery(reviewed);
+        original.removeEatery(MAC);
+        original.addReview(reviewed, new Review("nice", 4, 4, new Date(0)));
+        storage.saveEateryList(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new JournaledEateryListStorage(filePath).readEateryList().get());
+    }
+
+    @Test
+    public void trackEateryList_listRead_changesAppendedWithoutSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        new JournaledEateryListStorage(filePath).saveEateryList(getTypicalOpenEateryList());
+        String snapshot = Files.readString(filePath);
+
+        JournaledEateryListStorage nextRun = new JournaledEateryListStorage(filePath);
+        EateryList original = new EateryList(nextRun.readEateryList().get());
+        nextRun.trackEateryList(original);
+        original.removeEatery(MAC);
+        nextRun.saveEateryList(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(nextRun.getJournalFilePath()).size());
+        assertEquals(original, new JournaledEateryListStorage(filePath).readEateryList().get());
+    }
+
+    @Test
+    public void trackEateryList_listNotRead_snapshotWrittenOnFirstSave() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath);
+        EateryList original = getTypicalOpenEateryList();
+        storage.trackEateryList(original);
+        storage.saveEateryList(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new JournaledEateryListStorage(filePath).readEateryList().get());
+    }
+
+    @Test
+    public void saveEateryList_noChanges_journalUntouched() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath);
+        EateryList original = getTypicalOpenEateryList();
+
+        storage.saveEateryList(original);
+        storage.saveEateryList(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveEateryList_thresholdReached_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath, 2);
+        EateryList original = getTypicalOpenEateryList();
+        storage.saveEateryList(original);
+
+        original.addEatery(PIZZAHUT);
+        original.addEatery(BURGERKING);
+        storage.saveEateryList(original);
+        storage.awaitCompaction();
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        original.removeEatery(PIZZAHUT);
+        storage.saveEateryList(original);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new JournaledEateryListStorage(filePath).readEateryList().get());
+    }
+
+    @Test
+    public void readEateryList_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath);
+        EateryList original = getTypicalOpenEateryList();
+        storage.saveEateryList(original);
+        original.addEatery(PIZZAHUT);
+        storage.saveEateryList(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"sequence\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new JournaledEateryListStorage(filePath).readEateryList().get());
+    }
+
+    @Test
+    public void readEateryList_recordOutOfRange_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath);
+        storage.saveEateryList(new EateryList());
+
+        Files.write(storage.getJournalFilePath(),
+                "{\"sequence\":1,\"isTodo\":false,\"from\":3,\"removed\":1,\"added\":[]}\n"
+                        .getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> new JournaledEateryListStorage(filePath).readEateryList());
+    }
+
+    @Test
+    public void saveEateryList_otherFilePath_fullSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath);
+        EateryList original = getTypicalOpenEateryList();
+
+        storage.saveEateryList(original, otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new JsonEateryListStorage(otherFilePath).readEateryList().get());
+    }
+
+    @Test
+    public void flushEateryList_journalWritten_foldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath);
+        EateryList original = getTypicalOpenEateryList();
+        storage.saveEateryList(original);
+        original.addEatery(PIZZAHUT);
+        storage.saveEateryList(original);
+
+        storage.flushEateryList();
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new JsonEateryListStorage(filePath).readEateryList().get());
+    }
+
+    @Test
+    public void flushEateryList_journalFromEarlierRun_foldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath);
+        EateryList original = getTypicalOpenEateryList();
+        storage.saveEateryList(original);
+        original.addEatery(PIZZAHUT);
+        storage.saveEateryList(original);
+
+        JournaledEateryListStorage nextRun = new JournaledEateryListStorage(filePath);
+        nextRun.flushEateryList();
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, nextRun.readEateryList().get());
+    }
+
+    @Test
+    public void readEateryList_journalTurnedOff_journalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath);
+        EateryList original = getTypicalOpenEateryList();
+        storage.saveEateryList(original);
+        original.addEatery(PIZZAHUT);
+        storage.saveEateryList(original);
+
+        JsonEateryListStorage jsonStorage = new JsonEateryListStorage(filePath);
+        assertEquals(original, jsonStorage.readEateryList().get());
+        assertEquals(original, new BinaryEateryListStorage(filePath).readEateryList().get());
+
+        original.removeEatery(MAC);
+        jsonStorage.saveEateryList(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new JournaledEateryListStorage(filePath).readEateryList().get());
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.eatme.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.eatme.testutil.Assert.assertThrows;
+import static seedu.eatme.testutil.TypicalEateries.getTypicalOpenEateryList;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.eatme.commons.util.JsonUtil;
+import seedu.eatme.model.EateryList;
+
+public class JsonEateryListStreamTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_typicalEateryList_readBackEqual() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        EateryList original = getTypicalOpenEateryList();
+
+        JsonEateryListStream.write(original, 5, filePath);
+        JsonEateryListStream readBack = JsonEateryListStream.read(filePath);
+        assertEquals(original, readBack.toModelType());
+        assertEquals(5L, readBack.getSequence());
+    }
+
+    @Test
+    public void write_typicalEateryList_sameAsSerializableEateryList() throws Exception {
+        Path streamedPath = testFolder.resolve("streamed.json");
+        Path serializedPath = testFolder.resolve("serialized.json");
+        EateryList original = getTypicalOpenEateryList();
+
+        JsonEateryListStream.write(original, 0, streamedPath);
+        JsonUtil.saveJsonFile(new JsonSerializableEateryList(original), serializedPath);
+        assertEquals(JsonUtil.readJsonFile(serializedPath, JsonSerializableEateryList.class).get().toModelType(),
+                JsonEateryListStream.read(streamedPath).toModelType());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JsonEateryListStream.write(getTypicalOpenEateryList(), 0, filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(IOException.class, () -> JsonEateryListStream.read(filePath));
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        Files.write(filePath, "{\"version\":{\"major\":1},\"eateries\":[],\"todos\":null}"
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(new EateryList(), JsonEateryListStream.read(filePath).toModelType());
+    }
+}
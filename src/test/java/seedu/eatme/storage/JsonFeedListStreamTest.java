@@ -0,0 +1,95 @@
+package seedu.eatme.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.eatme.testutil.Assert.assertThrows;
+import static seedu.eatme.testutil.TypicalFeeds.getTypicalFeedList;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.eatme.commons.exceptions.IllegalValueException;
+import seedu.eatme.model.FeedList;
+import seedu.eatme.model.feed.Feed;
+import seedu.eatme.model.feed.FeedPost;
+import seedu.eatme.testutil.FeedBuilder;
+
+public class JsonFeedListStreamTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_typicalFeedList_readBackEqual() throws Exception {
+        Path filePath = testFolder.resolve("feedlist.json");
+        FeedList original = getTypicalFeedList();
+
+        JsonFeedListStream.write(original, filePath);
+        assertEquals(original, JsonFeedListStream.read(filePath));
+    }
+
+    @Test
+    public void write_cacheValidators_readBack() throws Exception {
+        Path filePath = testFolder.resolve("feedlist.json");
+        FeedList original = new FeedList();
+        Feed feed = new FeedBuilder().build();
+        original.addFeed(feed);
+        feed.setCacheValidators("\"abc\"", "Wed, 21 Oct 2015 07:28:00 GMT");
+
+        JsonFeedListStream.write(original, filePath);
+        Feed readBack = JsonFeedListStream.read(filePath).getFeedList().get(0);
+        assertEquals("\"abc\"", readBack.getEntityTag());
+        assertEquals("Wed, 21 Oct 2015 07:28:00 GMT", readBack.getLastModified());
+    }
+
+    @Test
+    public void write_archivedPosts_readBackWithLastSeenTimes() throws Exception {
+        Path filePath = testFolder.resolve("feedlist.json");
+        FeedList original = new FeedList();
+        Feed feed = new FeedBuilder().build();
+        original.addFeed(feed);
+        Instant now = Instant.now();
+        Map<FeedPost, Instant> lastSeenTimes = new LinkedHashMap<>();
+        lastSeenTimes.put(new FeedPost(feed.getName(), "Old", "https://sethlui.com/old"), now.minusSeconds(60));
+        lastSeenTimes.put(new FeedPost(feed.getName(), "New", "https://sethlui.com/new"), now);
+        feed.getPostArchive().restore(lastSeenTimes);
+
+        JsonFeedListStream.write(original, filePath);
+        Feed readBack = JsonFeedListStream.read(filePath).getFeedList().get(0);
+        assertEquals(lastSeenTimes, readBack.getPostArchive().getLastSeenTimes());
+    }
+
+    @Test
+    public void read_invalidLastSeen_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("feedlist.json");
+        String post = "{\"source\":\"Seth Lui\",\"title\":\"a\",\"address\":\"b\",\"lastSeen\":\"yesterday\"}";
+        String feed = "{\"name\":\"Seth Lui\",\"address\":\"https://sethlui.com/feed\",\"posts\":[" + post + "]}";
+        Files.write(filePath, ("{\"feeds\":[" + feed + "]}").getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalValueException.class, () -> JsonFeedListStream.read(filePath));
+    }
+
+    @Test
+    public void read_duplicateFeeds_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("feedlist.json");
+        String feed = "{\"name\":\"Seth Lui\",\"address\":\"https://sethlui.com/feed\",\"posts\":[]}";
+        Files.write(filePath, ("{\"feeds\":[" + feed + "," + feed + "]}").getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalValueException.class, () -> JsonFeedListStream.read(filePath));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("feedlist.json");
+        Files.write(filePath, "[]".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> JsonFeedListStream.read(filePath));
+    }
+}
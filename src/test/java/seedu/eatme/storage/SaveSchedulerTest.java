@@ -0,0 +1,150 @@
+package seedu.eatme.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.eatme.testutil.Assert.assertThrows;
+import static seedu.eatme.testutil.TypicalEateries.BURGERKING;
+import static seedu.eatme.testutil.TypicalEateries.PIZZAHUT;
+import static seedu.eatme.testutil.TypicalEateries.getTypicalOpenEateryList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.eatme.model.EateryList;
+import seedu.eatme.model.ReadOnlyEateryList;
+import seedu.eatme.testutil.EateryBuilder;
+
+public class SaveSchedulerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final SaveScheduler scheduler = new SaveScheduler();
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void schedule_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> scheduler.schedule(null, () -> { }));
+        assertThrows(NullPointerException.class, () -> scheduler.schedule("key", null));
+    }
+
+    @Test
+    public void schedule_burstWhileWriterBusy_onlyLatestWritten() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule("blocker", () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+        });
+        scheduler.schedule("a", () -> written.add("a1"));
+        scheduler.schedule("b", () -> written.add("b1"));
+        scheduler.schedule("a", () -> written.add("a2"));
+        scheduler.schedule("a", () -> written.add("a3"));
+        latch.countDown();
+
+        scheduler.flush();
+        assertEquals(List.of("a3", "b1"), written);
+    }
+
+    @Test
+    public void writeNow_delayedSavesWaiting_onlySameKeyReplaced() throws Exception {
+        Duration delay = Duration.ofHours(1);
+        scheduler.schedule("a", () -> written.add("a1"), delay);
+        scheduler.schedule("b", () -> written.add("b1"), delay);
+        scheduler.writeNow("a", () -> written.add("a2"));
+        assertEquals(List.of("a2"), written);
+
+        scheduler.flush("a");
+        assertEquals(List.of("a2"), written);
+        scheduler.flush();
+        assertEquals(List.of("a2", "b1"), written);
+    }
+
+    @Test
+    public void flush_saveFailed_failureReportedOnce() throws Exception {
+        scheduler.schedule("a", () -> {
+            throw new IOException("disk full");
+        });
+        assertThrows(IOException.class, "disk full", scheduler::flush);
+
+        scheduler.schedule("a", () -> written.add("a"));
+        scheduler.flush();
+        assertEquals(List.of("a"), written);
+    }
+
+    @Test
+    public void schedule_delayedBurst_onlyLatestWrittenAfterDelay() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        Duration delay = Duration.ofMillis(100);
+        scheduler.schedule("a", () -> written.add("a1"), delay);
+        scheduler.schedule("a", () -> written.add("a2"), delay);
+        scheduler.schedule("a", () -> {
+            written.add("a3");
+            latch.countDown();
+        }, delay);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        scheduler.flush();
+        assertEquals(List.of("a3"), written);
+    }
+
+    @Test
+    public void schedule_afterDelayedSave_broughtForward() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule("a", () -> written.add("a1"), Duration.ofHours(1));
+        scheduler.schedule("a", () -> {
+            written.add("a2");
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("a2"), written);
+    }
+
+    @Test
+    public void flush_delayedSave_writtenWithoutWaiting() throws Exception {
+        scheduler.schedule("a", () -> written.add("a1"), Duration.ofHours(1));
+        scheduler.flush();
+        assertEquals(List.of("a1"), written);
+    }
+
+    @Test
+    public void schedule_journalChangedAfterCompactionHandedOver_changesKept() throws Exception {
+        Path filePath = testFolder.resolve("eaterylist.json");
+        JournaledEateryListStorage storage = new JournaledEateryListStorage(filePath, 2);
+        EateryList eateryList = getTypicalOpenEateryList();
+        storage.saveEateryList(eateryList);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule("blocker", () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+        });
+        eateryList.addEatery(PIZZAHUT);
+        eateryList.addEatery(BURGERKING);
+        scheduler.schedule("eateries", storage.prepareSaveEateryList(eateryList));
+        // changed after the compaction snapshot was handed over, but before it is written
+        eateryList.addEatery(new EateryBuilder().withName("Subway").build());
+        latch.countDown();
+
+        scheduler.flush();
+        storage.awaitCompaction();
+        ReadOnlyEateryList read = new JournaledEateryListStorage(filePath).readEateryList().get();
+        assertEquals(eateryList.getEateryList(), read.getEateryList());
+        assertEquals(eateryList.getTodoList(), read.getTodoList());
+    }
+}
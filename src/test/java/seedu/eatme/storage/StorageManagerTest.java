@@ -1,10 +1,18 @@
 package seedu.eatme.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.eatme.testutil.TypicalEateries.MAC;
+import static seedu.eatme.testutil.TypicalEateries.PIZZAHUT;
 import static seedu.eatme.testutil.TypicalEateries.getTypicalOpenEateryList;
+import static seedu.eatme.testutil.TypicalFeeds.SETHLUI;
+import static seedu.eatme.testutil.TypicalFeeds.getTypicalFeedList;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +20,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.eatme.commons.core.GuiSettings;
 import seedu.eatme.model.EateryList;
+import seedu.eatme.model.FeedList;
 import seedu.eatme.model.ReadOnlyEateryList;
+import seedu.eatme.model.ReadOnlyFeedList;
 import seedu.eatme.model.UserPrefs;
 
 public class StorageManagerTest {
@@ -61,6 +71,101 @@ public class StorageManagerTest {
         assertEquals(original, new EateryList(retrieved));
     }
 
+    @Test
+    public void eateryListReadSave_savedInBackground() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new JournaledEateryListStorage(getTempFilePath("journaled")),
+                new JsonFeedListStorage(getTempFilePath("fl")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), Optional.of(new SaveScheduler()));
+        EateryList original = getTypicalOpenEateryList();
+        backgroundStorageManager.saveEateryList(original);
+        original.removeEatery(MAC);
+        backgroundStorageManager.saveEateryList(original);
+        original.addEatery(PIZZAHUT);
+        backgroundStorageManager.saveEateryList(original);
+
+        backgroundStorageManager.flush();
+        assertFalse(Files.exists(getTempFilePath("journaled" + JournaledEateryListStorage.JOURNAL_SUFFIX)));
+        ReadOnlyEateryList retrieved = backgroundStorageManager.readEateryList().get();
+        assertEquals(original, new EateryList(retrieved));
+    }
+
+    @Test
+    public void saveEateryList_journaled_changesAppendedUntilFlush() throws Exception {
+        JournaledEateryListStorage eateryListStorage = new JournaledEateryListStorage(getTempFilePath("journaled"));
+        StorageManager journaledStorageManager = new StorageManager(eateryListStorage,
+                new JsonFeedListStorage(getTempFilePath("fl")), new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        EateryList original = getTypicalOpenEateryList();
+        journaledStorageManager.saveEateryList(original);
+        String snapshot = Files.readString(eateryListStorage.getEateryListFilePath());
+
+        original.removeEatery(MAC);
+        journaledStorageManager.saveEateryList(original);
+        journaledStorageManager.saveFeedList(getTypicalFeedList());
+        original.addEatery(PIZZAHUT);
+        journaledStorageManager.saveEateryList(original);
+
+        assertEquals(snapshot, Files.readString(eateryListStorage.getEateryListFilePath()));
+        assertEquals(2, Files.readAllLines(eateryListStorage.getJournalFilePath()).size());
+
+        journaledStorageManager.flush();
+        assertFalse(Files.exists(eateryListStorage.getJournalFilePath()));
+        assertEquals(original, new EateryList(journaledStorageManager.readEateryList().get()));
+    }
+
+    @Test
+    public void feedListSaveLater_flushed_written() throws Exception {
+        FeedList original = getTypicalFeedList();
+        storageManager.saveFeedListLater(original);
+        original.removeFeed(SETHLUI);
+        storageManager.saveFeedListLater(original);
+        assertFalse(Files.exists(storageManager.getFeedListFilePath()));
+
+        storageManager.flush();
+        assertEquals(original, new FeedList(storageManager.readFeedList().get()));
+    }
+
+    @Test
+    public void saveFeedListLater_burstWithEateryListSaves_writtenOnce() throws Exception {
+        AtomicInteger feedListWrites = new AtomicInteger();
+        FeedListStorage countingFeedListStorage = new JsonFeedListStorage(getTempFilePath("fl")) {
+            @Override
+            public PendingSave prepareSaveFeedList(ReadOnlyFeedList feedList) {
+                PendingSave save = super.prepareSaveFeedList(feedList);
+                return () -> {
+                    feedListWrites.incrementAndGet();
+                    save.write();
+                };
+            }
+        };
+        StorageManager countingStorageManager = new StorageManager(
+                new JsonEateryListStorage(getTempFilePath("el")), countingFeedListStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        FeedList feedList = getTypicalFeedList();
+        EateryList eateryList = getTypicalOpenEateryList();
+        for (int i = 0; i < 10; i++) {
+            countingStorageManager.saveFeedListLater(feedList);
+            countingStorageManager.saveEateryList(eateryList);
+        }
+        assertEquals(0, feedListWrites.get());
+
+        countingStorageManager.flush();
+        assertEquals(1, feedListWrites.get());
+        assertEquals(feedList, new FeedList(countingStorageManager.readFeedList().get()));
+    }
+
+    @Test
+    public void saveFeedList_delayedSaveWaiting_delayedSaveReplaced() throws Exception {
+        FeedList original = getTypicalFeedList();
+        storageManager.saveFeedListLater(original);
+        original.removeFeed(SETHLUI);
+        storageManager.saveFeedList(original);
+        assertEquals(original, new FeedList(storageManager.readFeedList().get()));
+
+        storageManager.flush();
+        assertEquals(original, new FeedList(storageManager.readFeedList().get()));
+    }
+
     @Test
     public void getEateryListFilePath() {
         assertNotNull(storageManager.getEateryListFilePath());
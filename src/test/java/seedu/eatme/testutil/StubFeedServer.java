@@ -0,0 +1,266 @@
+package seedu.eatme.testutil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.eatme.model.feed.Feed;
+
+/**
+ * A local stand-in for the remote addresses of feeds, that serves any number of synthetic RSS feeds from an
+ * embedded {@code HttpServer}, so that fetching feeds can be tested and measured without reaching real sites.
+ *
+ * Every response is delayed by {@code latency}. A request fails with a server error with probability
+ * {@code failureRate}. A feed is unchanged since the last fetch with probability {@code notModifiedRate}, in which
+ * case a request that sends the current {@code ETag} of the feed is answered with 304; otherwise the feed gets a new
+ * post. A response that is not an error is padded to {@code hugeBodyBytes} with probability {@code hugeBodyRate},
+ * and stops for {@code bodyStall} after the first part of its body is sent.
+ * Randomness is seeded, so the same configuration behaves the same from run to run, apart from thread timing.
+ */
+public class StubFeedServer implements AutoCloseable {
+
+    public static final int DEFAULT_POSTS_PER_FEED = 10;
+
+    private static final int PADDING_CHUNK_BYTES = 8192;
+
+    private final int feedCount;
+    private int postsPerFeed = DEFAULT_POSTS_PER_FEED;
+    private Duration latency = Duration.ZERO;
+    private double failureRate;
+    private double notModifiedRate;
+    private double hugeBodyRate;
+    private int hugeBodyBytes;
+    private Duration bodyStall = Duration.ZERO;
+    private long seed;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private Random random;
+    private AtomicIntegerArray versions;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    /**
+     * Creates a server of {@code feedCount} feeds that answers at once and never fails. It must be started before
+     * it is used.
+     */
+    public StubFeedServer(int feedCount) {
+        this.feedCount = feedCount;
+    }
+
+    /**
+     * Sets the number of posts in each feed.
+     */
+    public StubFeedServer withPostsPerFeed(int postsPerFeed) {
+        this.postsPerFeed = postsPerFeed;
+        return this;
+    }
+
+    /**
+     * Sets how long each response is delayed.
+     */
+    public StubFeedServer withLatency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Sets the probability that a request fails with a server error.
+     */
+    public StubFeedServer withFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+        return this;
+    }
+
+    /**
+     * Sets the probability that a feed is unchanged since it was last fetched.
+     */
+    public StubFeedServer withNotModifiedRate(double notModifiedRate) {
+        this.notModifiedRate = notModifiedRate;
+        return this;
+    }
+
+    /**
+     * Sets the probability that a response is padded to {@code hugeBodyBytes}.
+     */
+    public StubFeedServer withHugeBodies(double hugeBodyRate, int hugeBodyBytes) {
+        this.hugeBodyRate = hugeBodyRate;
+        this.hugeBodyBytes = hugeBodyBytes;
+        return this;
+    }
+
+    /**
+     * Sets how long each response stops midway through its body, as a stand-in for a remote address that stalls.
+     */
+    public StubFeedServer withBodyStall(Duration bodyStall) {
+        this.bodyStall = bodyStall;
+        return this;
+    }
+
+    /**
+     * Sets the seed of the random choices of the server.
+     */
+    public StubFeedServer withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Starts serving the feeds on a free local port.
+     */
+    public StubFeedServer start() throws IOException {
+        random = new Random(seed);
+        versions = new AtomicIntegerArray(feedCount);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-feed-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/feeds/", this::handle);
+        server.start();
+        return this;
+    }
+
+    /**
+     * Returns the address of the feed with the given zero-based {@code index}.
+     */
+    public String getAddress(int index) {
+        return String.format("http://localhost:%d/feeds/%d", server.getAddress().getPort(), index);
+    }
+
+    /**
+     * Returns a new feed for each of the feeds served.
+     */
+    public List<Feed> getFeeds() {
+        List<Feed> feeds = new ArrayList<>(feedCount);
+        for (int i = 0; i < feedCount; i++) {
+            feeds.add(new Feed("Feed " + i, getAddress(i)));
+        }
+        return feeds;
+    }
+
+    /**
+     * Returns the number of requests received so far.
+     */
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requestCount.incrementAndGet();
+            sleep(latency);
+
+            int index = toFeedIndex(exchange.getRequestURI().getPath());
+            if (index < 0) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (random.nextDouble() < failureRate) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            String entityTag = toEntityTag(versions.get(index));
+            if (random.nextDouble() < notModifiedRate) {
+                if (entityTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    exchange.sendResponseHeaders(304, -1);
+                    return;
+                }
+            } else {
+                entityTag = toEntityTag(versions.incrementAndGet(index));
+            }
+
+            exchange.getResponseHeaders().add("Content-Type", "application/rss+xml; charset=UTF-8");
+            exchange.getResponseHeaders().add("ETag", entityTag);
+            boolean isHuge = random.nextDouble() < hugeBodyRate;
+            byte[] head = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<rss version=\"2.0\"><channel>"
+                    + "<title>Feed " + index + "</title><ttl>30</ttl><description>").getBytes(StandardCharsets.UTF_8);
+            byte[] items = ("</description>" + toItems(index, versions.get(index)) + "</channel></rss>\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, isHuge ? 0 : head.length + items.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(head);
+                if (!bodyStall.isZero()) {
+                    out.flush();
+                    sleep(bodyStall);
+                }
+                if (isHuge) {
+                    writePadding(out, hugeBodyBytes - head.length - items.length);
+                }
+                out.write(items);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns the items of the feed with the given {@code index} at the given {@code version}, newest first.
+     */
+    private String toItems(int index, int version) {
+        StringBuilder items = new StringBuilder();
+        for (int post = version + postsPerFeed - 1; post >= version; post--) {
+            items.append("<item><title>Post ").append(post).append(" of feed ").append(index).append("</title>")
+                    .append("<link>https://feeds.example/").append(index).append('/').append(post).append("</link>")
+                    .append("</item>");
+        }
+        return items.toString();
+    }
+
+    /**
+     * Writes {@code bytes} of whitespace into the description of a feed, before its items, as a stand-in for a feed
+     * that is too large to read.
+     */
+    private static void writePadding(OutputStream out, int bytes) throws IOException {
+        byte[] chunk = new byte[PADDING_CHUNK_BYTES];
+        Arrays.fill(chunk, (byte) ' ');
+        for (int left = bytes; left > 0; left -= chunk.length) {
+            out.write(chunk, 0, Math.min(left, chunk.length));
+        }
+    }
+
+    private int toFeedIndex(String path) {
+        try {
+            int index = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+            return index >= 0 && index < feedCount ? index : -1;
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+
+    private static String toEntityTag(int version) {
+        return "\"v" + version + "\"";
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}